@@ -0,0 +1,78 @@
+/*
+ * Copyright 2016-2017 Daniel Siviter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cito.broker.artemis;
+
+import java.nio.ByteBuffer;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import javax.jms.BytesMessage;
+import javax.jms.JMSException;
+
+import org.apache.activemq.artemis.api.core.client.ClientMessage;
+import org.apache.activemq.artemis.jms.client.ActiveMQBytesMessage;
+import org.apache.deltaspike.core.api.config.ConfigProperty;
+
+import cito.io.ByteBufferInputStream;
+import cito.stomp.jms.BodyTransfer;
+
+/**
+ * Transfers the body directly to/from the Artemis core message buffer avoiding the intermediate {@code byte[]}.
+ * Bodies above {@code cito.stomp.largeMessageThreshold} are streamed to the broker as a large message via
+ * {@code JMS_AMQ_InputStream}. Received large messages are not supported as their body is streamed separately.
+ * 
+ * @author Daniel Siviter
+ * @since v1.0 [19 Oct 2026]
+ */
+@ApplicationScoped
+public class ArtemisBodyTransfer implements BodyTransfer {
+	private static final String INPUT_STREAM = "JMS_AMQ_InputStream";
+
+	@Inject
+	@ConfigProperty(name = "cito.stomp.largeMessageThreshold", defaultValue = "0")
+	private int largeMessageThreshold;
+
+	@Override
+	public boolean supports(BytesMessage msg) {
+		return msg instanceof ActiveMQBytesMessage && !core(msg).isLargeMessage();
+	}
+
+	@Override
+	public void write(ByteBuffer src, BytesMessage msg) throws JMSException {
+		if (this.largeMessageThreshold > 0 && src.remaining() > this.largeMessageThreshold) {
+			msg.setObjectProperty(INPUT_STREAM, new ByteBufferInputStream(src));
+			return;
+		}
+		core(msg).getBodyBuffer().writeBytes(src);
+	}
+
+	@Override
+	public ByteBuffer read(BytesMessage msg) {
+		return core(msg).getReadOnlyBodyBuffer().toByteBuffer();
+	}
+
+
+	// --- Static Methods ---
+
+	/**
+	 * 
+	 * @param msg
+	 * @return
+	 */
+	private static ClientMessage core(BytesMessage msg) {
+		return ((ActiveMQBytesMessage) msg).getCoreMessage();
+	}
+}
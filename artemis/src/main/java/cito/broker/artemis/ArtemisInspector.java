@@ -16,125 +16,144 @@
  */
 package cito.broker.artemis;
 
+import static java.util.Collections.unmodifiableSet;
+import static java.util.stream.Collectors.toSet;
+import static org.apache.activemq.artemis.api.core.management.CoreNotificationType.BINDING_ADDED;
+import static org.apache.activemq.artemis.api.core.management.CoreNotificationType.BINDING_REMOVED;
+import static org.apache.activemq.artemis.api.core.management.CoreNotificationType.CONSUMER_CLOSED;
+import static org.apache.activemq.artemis.api.core.management.CoreNotificationType.CONSUMER_CREATED;
+import static org.apache.activemq.artemis.api.core.management.ManagementHelper.HDR_ADDRESS;
+import static org.apache.activemq.artemis.api.core.management.ManagementHelper.HDR_ROUTING_NAME;
 import static org.apache.activemq.artemis.api.core.management.ResourceNames.BROKER;
 import static org.apache.activemq.artemis.api.jms.management.JMSManagementHelper.putAttribute;
 import static org.apache.activemq.artemis.api.jms.management.JMSManagementHelper.putOperationInvocation;
 
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 
+import javax.annotation.Nonnull;
+import javax.annotation.PreDestroy;
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 import javax.jms.JMSContext;
 import javax.jms.JMSException;
+import javax.jms.JMSRuntimeException;
 import javax.jms.Message;
+import javax.jms.Queue;
 import javax.jms.TextMessage;
-import javax.jms.Topic;
 import javax.json.JsonArray;
 import javax.json.JsonObject;
 import javax.json.JsonString;
 
 import org.apache.activemq.artemis.api.core.JsonUtil;
 import org.apache.activemq.artemis.api.core.management.ResourceNames;
+import org.apache.activemq.artemis.api.jms.ActiveMQJMSClient;
 import org.apache.activemq.artemis.core.config.Configuration;
+import org.apache.deltaspike.core.api.config.ConfigProperty;
 
 import cito.broker.Inspector;
 import cito.jms.JmsContextHelper;
-import cito.jms.Requestor;
+import cito.jms.MultiplexRequestor;
 
 /**
+ * Inspects the broker using management requests. The connections, sessions and consumers are cached and only
+ * requested again after {@link EventProducer} passes on a notification that they have changed, so frequent reads do
+ * not load the broker. Queue addresses are cached and kept current from binding notifications.
+ * <p/>
+ * Connections and consumers are requested together as a snapshot, while sessions are requested per connection when
+ * first read. To keep a burst of notifications from causing a burst of requests, a snapshot is requested again at most
+ * every {@code cito.artemis.inspector.rebuildInterval} milliseconds, so reads may lag changes by up to that long.
+ * While a snapshot is being rebuilt, other readers are given the previous one rather than waiting.
+ * 
  * @author Daniel Siviter
  * @since v1.0 [28 Apr 2017]
  */
 @ApplicationScoped
 public class ArtemisInspector extends JmsContextHelper implements Inspector {
+	private static final Set<String> TOPOLOGY_CHANGES = new HashSet<>(Arrays.asList(
+			CONSUMER_CREATED.name(), CONSUMER_CLOSED.name(),
+			// only sent by later brokers
+			"CONNECTION_CREATED", "CONNECTION_DESTROYED", "SESSION_CREATED", "SESSION_CLOSED"));
 
 	@Inject
 	private Configuration artemisConfig;
+	@Inject
+	private ScheduledExecutorService scheduler;
+	@Inject
+	@ConfigProperty(name = "cito.artemis.inspector.rebuildInterval", defaultValue = "1000")
+	private long rebuildInterval;
+
+	private final AtomicLong version = new AtomicLong();
+	private final ConcurrentMap<String, String> addresses = new ConcurrentHashMap<>();
+	private final ConcurrentMap<String, Sessions> sessions = new ConcurrentHashMap<>();
+	private final ReentrantLock buildLock = new ReentrantLock();
+
+	private MultiplexRequestor requestor;
+	private JMSContext requestorCtx;
+	private volatile Queue managementQueue;
+	private volatile Topology topology;
 
 	/**
 	 * 
-	 * @return
+	 * @return an unmodifiable set of the connections.
 	 * @throws JMSException
 	 */
 	public Set<Connection> getConnections() throws JMSException {
-		return withRequestor(r -> {
-			final Message req = r.context().createMessage();
-			putAttribute(req, BROKER, "listConnectionsAsJSON");
-			final Message res = r.request(req, 1, TimeUnit.MINUTES);
-			final Set<Connection> results = new HashSet<>();
-			getResults(res).forEach(e -> {
-				final JsonObject obj = (JsonObject) e;
-				results.add(new Connection(
-						obj.getJsonNumber("creationTime").longValue(),
-						obj.getJsonNumber("sessionCount").intValue(),
-						obj.getString("implementation"),
-						obj.getString("connectionID"),
-						obj.getString("clientAddress")));
-			});
-			return results;
-		});
+		return topology().connections;
 	}
 
 	/**
 	 * 
-	 * @param connectionId
-	 * @return
+	 * @param connectionId the connection or {@code null} for all.
+	 * @return an unmodifiable set of the consumers.
 	 * @throws JMSException
 	 */
 	public Set<Consumer> getConsumers(String connectionId) throws JMSException {
-		return withRequestor(r -> {
-			final Message req = r.context().createMessage();
-			if (connectionId != null) {
-				putOperationInvocation(req, BROKER, "listConsumerAsJSON", connectionId);
-			} else {
-				putOperationInvocation(req, BROKER, "listAllConsumersAsJSON");
-			}
-			final Message res = r.request(req, 1, TimeUnit.MINUTES);
-			final Set<Consumer> results = new HashSet<>();
-			getResults(res).forEach(e -> {
-				final JsonObject obj = (JsonObject) e;
-				results.add(new Consumer(
-						obj.getString("filter"),
-						obj.getString("queueName"),
-						obj.getJsonNumber("creationTime").longValue(),
-						obj.getJsonNumber("deliveringCount").intValue(),
-						obj.getJsonNumber("consumerID").intValue(),
-						obj.getBoolean("browseOnly"),
-						obj.getString("connectionID"),
-						obj.getString("sessionID")));
-			});
-			return results;
-		});
+		final Set<Consumer> consumers = topology().consumers;
+		if (connectionId == null) {
+			return consumers;
+		}
+		return unmodifiableSet(consumers.stream().filter(c -> connectionId.equals(c.connectionID)).collect(toSet()));
 	}
 
 	/**
 	 * 
-	 * @param connectionId
-	 * @return
+	 * @param connectionId the connection or {@code null} for all.
+	 * @return an unmodifiable set of the sessions.
 	 * @throws JMSException
 	 */
 	public Set<Session> getSessions(String connectionId) throws JMSException {
-		return withRequestor(r -> {
-			final Message req = r.context().createMessage();
-			if (connectionId != null) {
-				putOperationInvocation(req, BROKER, "listSessionsAsJSON", connectionId);
+		final long version = this.version.get();
+		if (connectionId != null) {
+			final Set<Session> cached = cachedSessions(connectionId, version);
+			return cached != null ? cached : cacheSessions(connectionId, version, get(requestSessions(connectionId)));
+		}
+		final Set<Session> sessions = new HashSet<>();
+		final Map<String, CompletableFuture<Message>> requested = new HashMap<>();
+		for (Connection c : getConnections()) {
+			final Set<Session> cached = cachedSessions(c.connectionID, version);
+			if (cached != null) {
+				sessions.addAll(cached);
 			} else {
-				putOperationInvocation(req, BROKER, "listAllConsumersAsJSON");
+				requested.put(c.connectionID, requestSessions(c.connectionID));
 			}
-			final Message res = r.request(req, 1, TimeUnit.MINUTES);
-			final Set<Session> results = new HashSet<>();
-			getResults(res).forEach(e -> {
-				final JsonObject obj = (JsonObject) e;
-				results.add(new Session(
-						obj.getString("sessionID"),
-						obj.getJsonNumber("creationTime").longValue(),
-						obj.getJsonNumber("consumerCount").intValue(),
-						obj.getString("principal")));
-			});
-			return results;
-		});
+		}
+		for (Entry<String, CompletableFuture<Message>> e : requested.entrySet()) {
+			sessions.addAll(cacheSessions(e.getKey(), version, get(e.getValue())));
+		}
+		return unmodifiableSet(sessions);
 	}
 
 	/**
@@ -144,27 +163,222 @@ public class ArtemisInspector extends JmsContextHelper implements Inspector {
 	 * @throws JMSException
 	 */
 	public String getAddress(String queue) throws JMSException {
-		return withRequestor(r -> {
-			final Message req = r.context().createMessage();
-			putOperationInvocation(req, ResourceNames.QUEUE + queue, "listConsumerAsJSON");
-			final Message res = r.request(req, 1, TimeUnit.MINUTES);
-			return ((JsonString) getResults(res).get(0)).getString();
-		});
+		final String address = this.addresses.get(queue);
+		if (address != null) {
+			return address;
+		}
+		final Message res = get(request(req -> putOperationInvocation(req, ResourceNames.QUEUE + queue, "listConsumerAsJSON")));
+		final String requested = ((JsonString) getResults(res).get(0)).getString();
+		this.addresses.putIfAbsent(queue, requested);
+		return requested;
 	}
 
 	/**
+	 * Applies a management notification. Bindings are applied to the cached addresses directly. Connection, session
+	 * and consumer changes mark the topology as changed so it is rebuilt on the next read, as the notifications do not
+	 * carry enough to update it in place.
 	 * 
-	 * @param f
-	 * @return
+	 * @param type the notification type.
+	 * @param msg the notification.
 	 * @throws JMSException
 	 */
-	private <R> R withRequestor(RequestionFunction<R> f) throws JMSException {
+	void onNotification(@Nonnull String type, @Nonnull Message msg) throws JMSException {
+		if (BINDING_ADDED.name().equals(type)) {
+			final String queue = msg.getStringProperty(HDR_ROUTING_NAME.toString());
+			final String address = msg.getStringProperty(HDR_ADDRESS.toString());
+			if (queue != null && address != null) {
+				this.addresses.put(queue, address);
+			}
+		} else if (BINDING_REMOVED.name().equals(type)) {
+			final String queue = msg.getStringProperty(HDR_ROUTING_NAME.toString());
+			if (queue != null) {
+				this.addresses.remove(queue);
+			}
+		} else if (TOPOLOGY_CHANGES.contains(type)) {
+			this.version.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Discards everything cached, for example if notifications may have been missed.
+	 */
+	void invalidate() {
+		this.addresses.clear();
+		this.sessions.clear();
+		this.topology = null;
+		this.version.incrementAndGet();
+	}
+
+	/**
+	 * @return the topology, rebuilding it if it has changed and is due a rebuild. This is lock free unless a rebuild
+	 *         is needed, and only blocks if there is no topology yet.
+	 * @throws JMSException
+	 */
+	private Topology topology() throws JMSException {
+		final Topology topology = this.topology;
+		if (topology != null && topology.isCurrent(this.version.get(), rebuildNanos())) {
+			return topology;
+		}
+		if (topology == null) {
+			this.buildLock.lock();
+		} else if (!this.buildLock.tryLock()) {
+			return topology;  // being rebuilt, so use the previous one meanwhile
+		}
+		try {
+			return build();
+		} finally {
+			this.buildLock.unlock();
+		}
+	}
+
+	/**
+	 * Builds the topology from management requests, which are sent concurrently. Must only be called holding the build
+	 * lock.
+	 * 
+	 * @return the topology.
+	 * @throws JMSException
+	 */
+	private Topology build() throws JMSException {
+		final long version = this.version.get();
+		Topology topology = this.topology;
+		if (topology != null && topology.isCurrent(version, rebuildNanos())) {
+			return topology;  // built while waiting for the lock
+		}
+		final CompletableFuture<Message> consumersRes = request(
+				req -> putOperationInvocation(req, BROKER, "listAllConsumersAsJSON"));
+		final Set<Connection> connections = connections(get(request(
+				req -> putAttribute(req, BROKER, "listConnectionsAsJSON"))));
+		this.topology = topology = new Topology(version, connections, consumers(get(consumersRes)));
+		final Set<String> ids = connections.stream().map(c -> c.connectionID).collect(toSet());
+		this.sessions.keySet().retainAll(ids);
+		this.log.debug("Broker topology built. [connections={},consumers={}]",
+				connections.size(), topology.consumers.size());
+		return topology;
+	}
+
+	/**
+	 * 
+	 * @param connectionId
+	 * @param version the current version.
+	 * @return the cached sessions for the connection, or {@code null} if not cached or due a refresh.
+	 */
+	private Set<Session> cachedSessions(String connectionId, long version) {
+		final Sessions cached = this.sessions.get(connectionId);
+		return cached != null && cached.isCurrent(version, rebuildNanos()) ? cached.sessions : null;
+	}
+
+	/**
+	 * 
+	 * @param connectionId
+	 * @return the future reply.
+	 * @throws JMSException if the request could not be sent.
+	 */
+	private CompletableFuture<Message> requestSessions(String connectionId) throws JMSException {
+		return request(req -> putOperationInvocation(req, BROKER, "listSessionsAsJSON", connectionId));
+	}
+
+	/**
+	 * 
+	 * @param connectionId
+	 * @param version the version when requested.
+	 * @param res the reply.
+	 * @return the sessions.
+	 * @throws JMSException
+	 */
+	private Set<Session> cacheSessions(String connectionId, long version, Message res) throws JMSException {
+		final Sessions sessions = new Sessions(version, sessions(res));
+		this.sessions.put(connectionId, sessions);
+		return sessions.sessions;
+	}
+
+	/**
+	 * @return the minimum time between rebuilds in nanoseconds.
+	 */
+	private long rebuildNanos() {
+		return TimeUnit.MILLISECONDS.toNanos(this.rebuildInterval);
+	}
+
+	/**
+	 * Sends a management request. Requests from any number of threads share the same {@link MultiplexRequestor}.
+	 * 
+	 * @param f populates the request.
+	 * @return the future reply.
+	 * @throws JMSException if the request could not be sent.
+	 */
+	CompletableFuture<Message> request(RequestFunction f) throws JMSException {
+		final MultiplexRequestor requestor = requestor();
+		final Message req = requestor.createMessage();
+		f.apply(req);
+		return requestor.request(managementQueue(), req, 1, TimeUnit.MINUTES);
+	}
+
+	/**
+	 * 
+	 * @param future
+	 * @return the reply.
+	 * @throws JMSException if the request failed or timed out.
+	 */
+	static Message get(CompletableFuture<Message> future) throws JMSException {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw jmsException("Interrupted waiting for reply!", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof JMSException) {
+				throw (JMSException) e.getCause();
+			}
+			throw jmsException("Request failed!", e.getCause());
+		}
+	}
+
+	/**
+	 * 
+	 * @return the requestor for the current context, creating it if the context has changed.
+	 */
+	private synchronized MultiplexRequestor requestor() {
 		final JMSContext ctx = getContext();
-		final Topic topic = ctx.createTopic(this.artemisConfig.getManagementNotificationAddress().toString());
+		if (this.requestor == null || this.requestorCtx != ctx) {
+			closeRequestor();
+			this.requestor = new MultiplexRequestor(ctx, this.scheduler);
+			this.requestorCtx = ctx;
+		}
+		return this.requestor;
+	}
 
-		try (Requestor requestor = new Requestor(ctx, topic)) {
-			return f.apply(requestor);
+	/**
+	 * @return the management address as a {@link Queue}.
+	 */
+	private Queue managementQueue() {
+		Queue queue = this.managementQueue;
+		if (queue == null) {
+			this.managementQueue = queue = ActiveMQJMSClient.createQueue(
+					this.artemisConfig.getManagementAddress().toString());
 		}
+		return queue;
+	}
+
+	/**
+	 * 
+	 */
+	private synchronized void closeRequestor() {
+		if (this.requestor == null) {
+			return;
+		}
+		try {
+			this.requestor.close();
+		} catch (JMSRuntimeException e) {
+			this.log.warn("Unable to close requestor!", e);
+		}
+		this.requestor = null;
+		this.requestorCtx = null;
+	}
+
+	@Override
+	@PreDestroy
+	public void destroy() {
+		closeRequestor();
+		super.destroy();
 	}
 
 
@@ -183,6 +397,83 @@ public class ArtemisInspector extends JmsContextHelper implements Inspector {
 		return JsonUtil.readJsonArray(((TextMessage) message).getText());
 	}
 
+	/**
+	 * 
+	 * @param res
+	 * @return
+	 * @throws JMSException
+	 */
+	private static Set<Connection> connections(Message res) throws JMSException {
+		final Set<Connection> results = new HashSet<>();
+		getResults(res).forEach(e -> {
+			final JsonObject obj = (JsonObject) e;
+			results.add(new Connection(
+					obj.getJsonNumber("creationTime").longValue(),
+					obj.getJsonNumber("sessionCount").intValue(),
+					obj.getString("implementation"),
+					obj.getString("connectionID"),
+					obj.getString("clientAddress")));
+		});
+		return results;
+	}
+
+	/**
+	 * 
+	 * @param res
+	 * @return
+	 * @throws JMSException
+	 */
+	private static Set<Consumer> consumers(Message res) throws JMSException {
+		final Set<Consumer> results = new HashSet<>();
+		getResults(res).forEach(e -> {
+			final JsonObject obj = (JsonObject) e;
+			results.add(new Consumer(
+					obj.getString("filter"),
+					obj.getString("queueName"),
+					obj.getJsonNumber("creationTime").longValue(),
+					obj.getJsonNumber("deliveringCount").intValue(),
+					obj.getJsonNumber("consumerID").intValue(),
+					obj.getBoolean("browseOnly"),
+					obj.getString("connectionID"),
+					obj.getString("sessionID")));
+		});
+		return results;
+	}
+
+	/**
+	 * 
+	 * @param res
+	 * @return
+	 * @throws JMSException
+	 */
+	private static Set<Session> sessions(Message res) throws JMSException {
+		final Set<Session> results = new HashSet<>();
+		getResults(res).forEach(e -> {
+			final JsonObject obj = (JsonObject) e;
+			results.add(new Session(
+					obj.getString("sessionID"),
+					obj.getJsonNumber("creationTime").longValue(),
+					obj.getJsonNumber("consumerCount").intValue(),
+					obj.getString("principal")));
+		});
+		return results;
+	}
+
+	/**
+	 * 
+	 * @param reason
+	 * @param cause
+	 * @return
+	 */
+	private static JMSException jmsException(String reason, Throwable cause) {
+		final JMSException e = new JMSException(reason);
+		e.initCause(cause);
+		if (cause instanceof Exception) {
+			e.setLinkedException((Exception) cause);
+		}
+		return e;
+	}
+
 
 	// --- Inner Classes ---
 
@@ -190,11 +481,67 @@ public class ArtemisInspector extends JmsContextHelper implements Inspector {
 	 * 
 	 * @author Daniel Siviter
 	 * @since v1.0 [28 Apr 2017]
-	 * @param <R>
 	 */
 	@FunctionalInterface
-	private interface RequestionFunction<R> {
-		R apply(Requestor r) throws JMSException;
+	interface RequestFunction {
+		void apply(Message req) throws JMSException;
+	}
+
+	/**
+	 * Cached management state and the version it was requested at.
+	 * 
+	 * @author Daniel Siviter
+	 * @since v1.0 [19 Oct 2026]
+	 */
+	private abstract static class Snapshot {
+		private final long version;
+		private final long time = System.nanoTime();
+
+		Snapshot(long version) {
+			this.version = version;
+		}
+
+		/**
+		 * 
+		 * @param version the current version.
+		 * @param interval the minimum time between requests in nanoseconds.
+		 * @return {@code true} if nothing has changed, or it's too soon to request it again.
+		 */
+		boolean isCurrent(long version, long interval) {
+			return this.version == version || System.nanoTime() - this.time < interval;
+		}
+	}
+
+	/**
+	 * An immutable snapshot of the broker's connections and consumers.
+	 * 
+	 * @author Daniel Siviter
+	 * @since v1.0 [19 Oct 2026]
+	 */
+	private static class Topology extends Snapshot {
+		private final Set<Connection> connections;
+		private final Set<Consumer> consumers;
+
+		Topology(long version, Set<Connection> connections, Set<Consumer> consumers) {
+			super(version);
+			this.connections = unmodifiableSet(connections);
+			this.consumers = unmodifiableSet(consumers);
+		}
+	}
+
+	/**
+	 * An immutable snapshot of a connection's sessions.
+	 * 
+	 * @author Daniel Siviter
+	 * @since v1.0 [19 Oct 2026]
+	 */
+	private static class Sessions extends Snapshot {
+		private final Set<Session> sessions;
+
+		Sessions(long version, Set<Session> sessions) {
+			super(version);
+			this.sessions = unmodifiableSet(sessions);
+		}
 	}
 
 	/**
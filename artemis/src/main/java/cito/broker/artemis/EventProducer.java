@@ -66,6 +66,8 @@ import cito.server.Extension;
  * one setup for the embedded broker. However, if you're using a remote instance
  * be sure to check what is used on that and set
  * {@code artemis.notificationTopic} property.
+ * <p/>
+ * All notifications are also passed to {@link ArtemisInspector} to keep its cache current.
  * 
  * @author Daniel Siviter
  * @since v1.0 [2 Feb 2017]
@@ -81,6 +83,8 @@ public class EventProducer extends JmsContextHelper implements MessageListener {
 	private BeanManager manager;
 	@Inject
 	private Configuration artemisConfig;
+	@Inject
+	private ArtemisInspector inspector;
 
 	private JMSConsumer consumer;
 
@@ -98,6 +102,8 @@ public class EventProducer extends JmsContextHelper implements MessageListener {
 	@Override
 	public void connect() {
 		super.connect();
+		// anything cached may be stale after missing notifications while disconnected
+		this.inspector.invalidate();
 		final JMSContext ctx = getContext();
 		final Topic destination = ctx.createTopic(this.artemisConfig.getManagementNotificationAddress().toString());
 		this.consumer = ctx.createConsumer(destination);
@@ -107,8 +113,9 @@ public class EventProducer extends JmsContextHelper implements MessageListener {
 	@Override
 	public void onMessage(Message msg) {
 		try {
-			final NotificationType notifType = valueofNotificationType(
-					msg.getStringProperty(HDR_NOTIFICATION_TYPE.toString()));
+			final String notifTypeName = msg.getStringProperty(HDR_NOTIFICATION_TYPE.toString());
+			inspect(notifTypeName, msg);
+			final NotificationType notifType = valueofNotificationType(notifTypeName);
 			if (!ALL.contains(notifType)) {
 				return;
 			}
@@ -127,6 +134,20 @@ public class EventProducer extends JmsContextHelper implements MessageListener {
 		}
 	}
 
+	/**
+	 * Passes the notification to the inspector. Failures are logged here so they do not stop destination events.
+	 * 
+	 * @param type
+	 * @param msg
+	 */
+	private void inspect(String type, Message msg) {
+		try {
+			this.inspector.onNotification(type, msg);
+		} catch (JMSException | RuntimeException e) {
+			this.log.warn("Unable to inspect notification! [type={}]", type, e);
+		}
+	}
+
 	/**
 	 * @param evt
 	 */
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2016-2017 Daniel Siviter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cito.broker.artemis;
+
+import static org.apache.activemq.artemis.api.core.management.ManagementHelper.HDR_ADDRESS;
+import static org.apache.activemq.artemis.api.core.management.ManagementHelper.HDR_ROUTING_NAME;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.enterprise.inject.Instance;
+import javax.jms.Destination;
+import javax.jms.JMSConsumer;
+import javax.jms.JMSContext;
+import javax.jms.JMSException;
+import javax.jms.JMSProducer;
+import javax.jms.Message;
+import javax.jms.MessageListener;
+import javax.jms.Queue;
+import javax.jms.TemporaryQueue;
+
+import org.apache.activemq.artemis.api.core.SimpleString;
+import org.apache.activemq.artemis.api.core.management.CoreNotificationType;
+import org.apache.activemq.artemis.core.config.Configuration;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.slf4j.Logger;
+
+import cito.ReflectionUtil;
+
+/**
+ * Unit test for {@link ArtemisInspector}.
+ * 
+ * @author Daniel Siviter
+ * @since v1.0 [19 Oct 2026]
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ArtemisInspectorTest {
+	@Mock
+	private Logger log;
+	@Mock
+	private Message message;
+	@Mock
+	private Configuration artemisConfig;
+	@Mock
+	private ScheduledExecutorService scheduler;
+	@Mock
+	private Instance<JMSContext> ctxProvider;
+
+	@InjectMocks
+	private ArtemisInspector inspector;
+
+	// not @Mock as @InjectMocks would inject them into the fields of the same type
+	private JMSContext context;
+	private JMSProducer producer;
+	private TemporaryQueue replyQueue;
+	private ScheduledFuture<?> timer;
+
+	@Test
+	public void onNotification_binding() throws JMSException {
+		when(this.message.getStringProperty(HDR_ROUTING_NAME.toString())).thenReturn("queue");
+		when(this.message.getStringProperty(HDR_ADDRESS.toString())).thenReturn("address");
+
+		this.inspector.onNotification(CoreNotificationType.BINDING_ADDED.name(), this.message);
+		assertEquals("address", this.inspector.getAddress("queue"));
+
+		this.inspector.onNotification(CoreNotificationType.BINDING_REMOVED.name(), this.message);
+		assertTrue(addresses().isEmpty());
+
+		verify(this.message, times(2)).getStringProperty(HDR_ROUTING_NAME.toString());
+		verify(this.message).getStringProperty(HDR_ADDRESS.toString());
+	}
+
+	@Test
+	public void onNotification_topology() throws JMSException {
+		this.inspector.onNotification(CoreNotificationType.CONSUMER_CREATED.name(), this.message);
+		this.inspector.onNotification(CoreNotificationType.CONSUMER_CLOSED.name(), this.message);
+		this.inspector.onNotification("SESSION_CREATED", this.message);
+		this.inspector.onNotification(CoreNotificationType.SECURITY_AUTHENTICATION_VIOLATION.name(), this.message);
+
+		assertEquals(3, version());
+	}
+
+	@Test
+	public void invalidate() {
+		addresses().put("queue", "address");
+
+		this.inspector.invalidate();
+
+		assertTrue(addresses().isEmpty());
+		assertEquals(1, version());
+	}
+
+	@Test
+	public void request() throws JMSException {
+		final MessageListener listener = requestor();
+		final Message req = mock(Message.class);
+		when(this.context.createMessage()).thenReturn(req);
+
+		final CompletableFuture<Message> future = this.inspector.request(r -> r.setStringProperty("foo", "bar"));
+		final ArgumentCaptor<String> correlationId = ArgumentCaptor.forClass(String.class);
+		verify(req).setJMSCorrelationID(correlationId.capture());
+		final Message reply = mock(Message.class);
+		when(reply.getJMSCorrelationID()).thenReturn(correlationId.getValue());
+		listener.onMessage(reply);
+
+		assertSame(reply, ArtemisInspector.get(future));
+
+		final ArgumentCaptor<Destination> dest = ArgumentCaptor.forClass(Destination.class);
+		verify(this.producer).send(dest.capture(), eq(req));
+		assertEquals("activemq.management", ((Queue) dest.getValue()).getQueueName());
+		verify(req).setStringProperty("foo", "bar");
+		verify(req).setJMSReplyTo(this.replyQueue);
+		verify(this.scheduler).schedule(any(Runnable.class), eq(1L), eq(TimeUnit.MINUTES));
+		verify(this.timer).cancel(false);
+		verify(this.artemisConfig).getManagementAddress();
+		verify(this.log).info("Connecting to broker for sourcing destination events.");
+	}
+
+	@Test
+	public void request_timeout() throws JMSException {
+		requestor();
+		final Message req = mock(Message.class);
+		when(this.context.createMessage()).thenReturn(req);
+
+		final CompletableFuture<Message> future = this.inspector.request(r -> { });
+		final ArgumentCaptor<Runnable> timeout = ArgumentCaptor.forClass(Runnable.class);
+		verify(this.scheduler).schedule(timeout.capture(), eq(1L), eq(TimeUnit.MINUTES));
+		timeout.getValue().run();
+
+		try {
+			ArtemisInspector.get(future);
+			fail("JMSException expected!");
+		} catch (JMSException e) {
+			assertEquals("Request failed!", e.getMessage());
+			assertTrue(e.getCause() instanceof TimeoutException);
+		}
+
+		verify(this.producer).send(any(Queue.class), eq(req));
+		verify(this.timer).cancel(false);
+		verify(this.artemisConfig).getManagementAddress();
+		verify(this.log).info("Connecting to broker for sourcing destination events.");
+	}
+
+	@After
+	public void after() {
+		verifyNoMoreInteractions(this.log, this.message);
+	}
+
+	/**
+	 * Sets up the context the inspector's {@link cito.jms.MultiplexRequestor} is created from.
+	 * 
+	 * @return the listener for replies.
+	 */
+	private MessageListener requestor() {
+		this.context = mock(JMSContext.class);
+		this.producer = mock(JMSProducer.class);
+		this.replyQueue = mock(TemporaryQueue.class);
+		this.timer = mock(ScheduledFuture.class);
+		final JMSContext replyContext = mock(JMSContext.class);
+		final JMSConsumer consumer = mock(JMSConsumer.class);
+		when(this.ctxProvider.get()).thenReturn(this.context);
+		when(this.context.createProducer()).thenReturn(this.producer);
+		when(this.context.createContext(JMSContext.AUTO_ACKNOWLEDGE)).thenReturn(replyContext);
+		when(replyContext.createTemporaryQueue()).thenReturn(this.replyQueue);
+		when(replyContext.createConsumer(this.replyQueue)).thenReturn(consumer);
+		when(this.artemisConfig.getManagementAddress()).thenReturn(new SimpleString("activemq.management"));
+		doReturn(this.timer).when(this.scheduler).schedule(any(Runnable.class), eq(1L), eq(TimeUnit.MINUTES));
+
+		// the requestor is created lazily on the first request so capture the listener as it's set
+		final MessageListener[] listener = new MessageListener[1];
+		doAnswer(i -> listener[0] = i.getArgument(0)).when(consumer).setMessageListener(any());
+		return m -> listener[0].onMessage(m);
+	}
+
+	private Map<String, String> addresses() {
+		return ReflectionUtil.get(this.inspector, "addresses");
+	}
+
+	private long version() {
+		return ReflectionUtil.<AtomicLong>get(this.inspector, "version").get();
+	}
+}
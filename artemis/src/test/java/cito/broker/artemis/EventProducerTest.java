@@ -23,6 +23,7 @@ import static org.apache.deltaspike.core.util.metadata.AnnotationInstanceProvide
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -79,6 +80,8 @@ public class EventProducerTest {
 	@Mock
 	private EmbeddedJMS broker;
 	@Mock
+	private ArtemisInspector inspector;
+	@Mock
 	private Message message;
 
 	@InjectMocks
@@ -105,6 +108,7 @@ public class EventProducerTest {
 		command.run();
 
 		verify(this.jmsCtxProvider).get();
+		verify(this.inspector).invalidate();
 		verify(this.artemisConfig).getManagementNotificationAddress();
 		verify(this.log).info("Connecting to broker for sourcing destination events.");
 		verify(jmsCtx).createConsumer(any());
@@ -124,6 +128,11 @@ public class EventProducerTest {
 		this.eventProducer.onMessage(message);
 
 		verify(this.message, times(22)).getStringProperty(HDR_NOTIFICATION_TYPE.toString());
+		for (CoreNotificationType type : CoreNotificationType.values()) {
+			verify(this.inspector).onNotification(type.name(), this.message);
+		}
+		verify(this.inspector).onNotification(JMSNotificationType.CONNECTION_FACTORY_CREATED.name(), this.message);
+		verify(this.inspector).onNotification(JMSNotificationType.CONNECTION_FACTORY_DESTROYED.name(), this.message);
 	}
 
 	@Test
@@ -133,6 +142,7 @@ public class EventProducerTest {
 		this.eventProducer.onMessage(message);
 
 		verify(this.message).getStringProperty(HDR_NOTIFICATION_TYPE.toString());
+		verify(this.inspector).onNotification("FOO", this.message);
 		verify(this.log).error(eq("Unable to process notification!"), any(Exception.class));
 	}
 
@@ -141,6 +151,16 @@ public class EventProducerTest {
 		onMessage(OnAdded.class, JMSNotificationType.TOPIC_CREATED, Type.ADDED);
 	}
 
+	@Test
+	public void onMessage_inspectorFailure() throws JMSException {
+		final JMSException expected = new JMSException("Bang!");
+		doThrow(expected).when(this.inspector).onNotification(JMSNotificationType.TOPIC_CREATED.name(), this.message);
+
+		onMessage(OnAdded.class, JMSNotificationType.TOPIC_CREATED, Type.ADDED);
+
+		verify(this.log).warn("Unable to inspect notification! [type={}]", JMSNotificationType.TOPIC_CREATED.name(), expected);
+	}
+
 	@Test
 	public void message_onRemoved() throws JMSException {
 		onMessage(OnRemoved.class, JMSNotificationType.TOPIC_DESTROYED, Type.REMOVED);
@@ -160,6 +180,7 @@ public class EventProducerTest {
 
 		verify(this.message).getStringProperty(MESSAGE.toString());
 		verify(this.message).getStringProperty(HDR_NOTIFICATION_TYPE.toString());
+		verify(this.inspector).onNotification(notificationType.name(), this.message);
 		verify(this.log).info(eq("Destination changed. [type={},destination={}]"), eq(type), anyString());
 		verify(this.beanManager).getExtension(Extension.class);
 		verify(extension).getDestinationObservers(cls);
@@ -183,6 +204,7 @@ public class EventProducerTest {
 
 		verify(this.message).getStringProperty(MESSAGE.toString());
 		verify(this.message).getStringProperty(HDR_NOTIFICATION_TYPE.toString());
+		verify(this.inspector).onNotification(JMSNotificationType.TOPIC_CREATED.name(), this.message);
 		verify(this.log).info(eq("Destination changed. [type={},destination={}]"), eq(Type.ADDED), anyString());
 		verify(this.beanManager).getExtension(Extension.class);
 		verify(extension).getDestinationObservers(OnAdded.class);
@@ -214,6 +236,7 @@ public class EventProducerTest {
 				this.beanManager,
 				this.artemisConfig,
 				this.broker,
+				this.inspector,
 				this.message);
 	}
 }
@@ -126,14 +126,8 @@ public class BodyProducerExtension implements Extension {
 
 		@Override
 		public T create(Bean<T> bean, CreationalContext<T> creationalContext) {
-			final Frame frame = getContextualReference(this.beanManager, Message.class, false).frame();
-			final Serialiser serialiser = getContextualReference(this.beanManager, Serialiser.class, false);
-			final T body;
-			try (InputStream is = new ByteBufferInputStream(frame.getBody())) {
-				body = serialiser.readFrom(this.ip.getType(), frame.contentType(), is);
-			} catch (IOException e) {
-				throw new IllegalStateException("Unable to serialise!", e);
-			}
+			final Message msg = getContextualReference(this.beanManager, Message.class, false);
+			final T body = msg.body(this.ip.getType(), t -> read(msg.frame(), t));
 
 			for (Annotation ann : this.ip.getAnnotated().getAnnotations()) {
 				if ("javax.validation.Valid".equals(ann.getClass().getName())) {
@@ -144,6 +138,22 @@ public class BodyProducerExtension implements Extension {
 			return body;
 		}
 
+		/**
+		 * 
+		 * @param frame
+		 * @param type
+		 * @return
+		 */
+		private T read(Frame frame, Type type) {
+			final Serialiser serialiser = getContextualReference(this.beanManager, Serialiser.class, false);
+			// duplicate so the frame body is left untouched for any other type
+			try (InputStream is = new ByteBufferInputStream(frame.getBody().duplicate())) {
+				return serialiser.readFrom(type, frame.contentType(), is);
+			} catch (IOException e) {
+				throw new IllegalStateException("Unable to serialise!", e);
+			}
+		}
+
 		@Override
 		public void destroy(Bean<T> bean, T instance, CreationalContext<T> creationalContext) {
 			// body is a bean so no need to destroy 
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2016-2017 Daniel Siviter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cito;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import javax.annotation.Nonnull;
+
+/**
+ * A thread safe, size bounded cache. Reads are lock free. When full, an entry is evicted using the clock algorithm, an
+ * approximation of least recently used: entries are visited in insertion order and any read since the last visit is
+ * given a second chance. The entry just added is never evicted. Only the thread evicting takes a lock.
+ * <p/>
+ * Values are created outside of the lock, so two threads missing on the same key may both create a value but only the
+ * first is kept.
+ * 
+ * @author Daniel Siviter
+ * @since v1.0 [19 Oct 2026]
+ * @param <K> the key type.
+ * @param <V> the value type.
+ */
+public class BoundedCache<K, V> {
+	private final ConcurrentMap<K, Entry<V>> map = new ConcurrentHashMap<>();
+	private final Queue<K> clock = new ConcurrentLinkedQueue<>();
+	private final Object evictLock = new Object();
+	private final int maxSize;
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+
+	/**
+	 * 
+	 * @param maxSize
+	 */
+	public BoundedCache(int maxSize) {
+		if (maxSize <= 0) {
+			throw new IllegalArgumentException("Size must be greater than zero!");
+		}
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * 
+	 * @param key
+	 * @param fn creates the value if it is not present.
+	 * @return the cached or newly created value.
+	 */
+	public V get(@Nonnull K key, @Nonnull Function<? super K, ? extends V> fn) {
+		final Entry<V> entry = this.map.get(key);
+		if (entry != null) {
+			this.hits.increment();
+			return entry.get();
+		}
+		this.misses.increment();
+		final Entry<V> created = new Entry<>(fn.apply(key));
+		final Entry<V> existing = this.map.putIfAbsent(key, created);
+		if (existing != null) {
+			return existing.get();
+		}
+		this.clock.add(key);
+		if (this.map.size() > this.maxSize) {
+			evict(key);
+		}
+		return created.value;
+	}
+
+	/**
+	 * Evicts entries until within bounds.
+	 * 
+	 * @param added the key just added, which is not evicted.
+	 */
+	private void evict(K added) {
+		synchronized (this.evictLock) {
+			while (this.map.size() > this.maxSize) {
+				final K key = this.clock.poll();
+				if (key == null) {
+					return;
+				}
+				final Entry<V> entry = this.map.get(key);
+				if (entry == null) {
+					continue;  // removed by clear()
+				}
+				if (key.equals(added) || entry.referenced) {
+					entry.referenced = false;
+					this.clock.add(key);
+				} else if (this.map.remove(key, entry)) {
+					this.evictions.increment();
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return the number of entries.
+	 */
+	public int size() {
+		return this.map.size();
+	}
+
+	/**
+	 * Removes all entries.
+	 */
+	public void clear() {
+		synchronized (this.evictLock) {
+			this.map.clear();
+			this.clock.clear();
+		}
+	}
+
+	/**
+	 * @return the number of times a value was found.
+	 */
+	public long hitCount() {
+		return this.hits.sum();
+	}
+
+	/**
+	 * @return the number of times a value had to be created.
+	 */
+	public long missCount() {
+		return this.misses.sum();
+	}
+
+	/**
+	 * @return the number of entries removed to stay within bounds.
+	 */
+	public long evictionCount() {
+		return this.evictions.sum();
+	}
+
+
+	// --- Inner Classes ---
+
+	/**
+	 * A value and whether it has been read since the clock last passed it.
+	 * 
+	 * @author Daniel Siviter
+	 * @since v1.0 [19 Oct 2026]
+	 * @param <V>
+	 */
+	private static class Entry<V> {
+		private final V value;
+		private volatile boolean referenced;
+
+		Entry(V value) {
+			this.value = value;
+		}
+
+		/**
+		 * @return the value, marking it as referenced.
+		 */
+		V get() {
+			if (!this.referenced) {  // avoid the write if already set
+				this.referenced = true;
+			}
+			return this.value;
+		}
+	}
+}
@@ -41,9 +41,12 @@ import javax.ws.rs.core.MediaType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import cito.stomp.Compression;
 import cito.stomp.Connection;
+import cito.stomp.Delta;
 import cito.stomp.Frame;
 import cito.stomp.HeartBeatMonitor;
+import cito.stomp.Header.Custom;
 import cito.stomp.ws.FrameDecoder;
 import cito.stomp.ws.FrameEncoder;
 
@@ -62,6 +65,7 @@ public class Client implements Connection {
 	private final static Logger LOG = LoggerFactory.getLogger(Client.class);
 
 	private final Map<Integer, CompletableFuture<Frame>> receipts = new ConcurrentHashMap<>();
+	private final Map<String, byte[]> deltas = new ConcurrentHashMap<>();
 
 	private final AtomicInteger receiptId = new AtomicInteger();
 	private final ScheduledExecutorService scheduler;
@@ -96,7 +100,8 @@ public class Client implements Connection {
 		}
 		this.session = ContainerProvider.getWebSocketContainer().connectToServer(this, this.uri);
 		this.state = State.CONNECTING;
-		final Frame connectFrame = Frame.connect(this.uri.getHost(), "1.2").heartbeat(5_000, 5_000).build();
+		final Frame connectFrame = Frame.connect(this.uri.getHost(), "1.2").heartbeat(5_000, 5_000)
+				.header(Custom.ACCEPT_ENCODING, Compression.DEFLATE).build();
 		sendToClient(connectFrame);
 		this.connectFuture = new CompletableFuture<>();
 		final Frame connectedFrame = this.connectFuture.get(timeout, unit);
@@ -148,9 +153,13 @@ public class Client implements Connection {
 			this.state = State.CONNECTED;
 			this.connectFuture.complete(frame);
 			break;
-		case MESSAGE:
-			System.out.println("MESSAGE recieved!");
+		case MESSAGE: {
+			final Frame message = delta(Compression.inflated(frame));
+			if (message != null) {
+				onMessageFrame(message);
+			}
 			break;
+		}
 		case RECEIPT:
 			this.receipts.get(frame.receiptId()).complete(frame);
 			break;
@@ -167,6 +176,63 @@ public class Client implements Connection {
 		}
 	}
 
+	/**
+	 * Called for each {@code MESSAGE} received. Any compression and delta encoding has already been reversed.
+	 * 
+	 * @param frame
+	 */
+	protected void onMessageFrame(Frame frame) {
+		System.out.println("MESSAGE recieved!");
+	}
+
+	/**
+	 * Applies delta encoding, if used by the subscription, so the frame has the full body. If a patch cannot be
+	 * applied, as a previous message was missed, a snapshot is requested and the frame is dropped.
+	 * 
+	 * @param frame
+	 * @return the frame with the full body and without delta headers, or {@code null} if it must be dropped.
+	 * @see Delta
+	 */
+	Frame delta(Frame frame) {
+		final String subscription = frame.subscription();
+		if (Delta.isPatch(frame)) {
+			final byte[] previous = this.deltas.remove(subscription);
+			if (previous == null || !Delta.isBase(frame, previous)) {
+				LOG.warn("Patch does not match previous message, resyncing! [subscription={}]", subscription);
+				resync(frame);
+				return null;
+			}
+			final byte[] body;
+			try {
+				body = Delta.apply(previous, frame.getBody());
+			} catch (IllegalArgumentException e) {
+				LOG.warn("Unable to apply patch, resyncing! [subscription={}]", subscription, e);
+				resync(frame);
+				return null;
+			}
+			this.deltas.put(subscription, body);
+			return Delta.patched(frame, body);
+		}
+		if (Delta.isDelta(frame) && frame.getBody() != null) {
+			this.deltas.put(subscription, Delta.bytes(frame.getBody()));
+			return Delta.plain(frame);
+		}
+		return frame;
+	}
+
+	/**
+	 * Requests a snapshot for the subscription of the frame.
+	 * 
+	 * @param frame
+	 */
+	private void resync(Frame frame) {
+		try {
+			sendToClient(Delta.resync(frame.subscription(), frame.destination()).build());
+		} catch (IOException e) {
+			LOG.error("Unable to request resync! [subscription={}]", frame.subscription(), e);
+		}
+	}
+
 	/**
 	 * 
 	 * @param destination
@@ -276,6 +342,7 @@ public class Client implements Connection {
 		if (this.session != null)
 			this.session.close(reason);
 		this.session = null;
+		this.deltas.clear();
 		this.state = State.DISCONNECTED;
 	}
 
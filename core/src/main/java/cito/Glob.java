@@ -15,8 +15,9 @@
  */
 package cito;
 
-import java.util.Map;
-import java.util.WeakHashMap;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
 
 /**
  * Licensed to the Apache Software Foundation (ASF) under one
@@ -36,6 +37,7 @@ import java.util.WeakHashMap;
  * limitations under the License.
  */
 
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
@@ -44,14 +46,28 @@ import javax.annotation.Nonnull;
 /**
  * A class for POSIX GLOB pattern with brace expansions.
  * 
- * Altered to be useful with message destinations rather than pure File paths.
+ * Altered to be useful with message destinations rather than pure File paths. Rather than translating to a regular
+ * expression the pattern is compiled to a sequence of tokens which is matched directly, so no {@link Matcher} is
+ * required per match. Brace groups (e.g. {@code {param}}) capture a single segment of {@code [A-Za-z0-9\-_]*}.
  */
 public class Glob {
 	private static final char BACKSLASH = '\\';
-	private static final Map<String, Glob> GLOBS = new WeakHashMap<>();
+	private static final BoundedCache<String, Glob> GLOBS = new BoundedCache<>(1_024);
+	private static final BitSet CAPTURE_CHARS = new BitSet(128);
 
-	private Pattern compiled;
+	static {
+		CAPTURE_CHARS.set('A', 'Z' + 1);
+		CAPTURE_CHARS.set('a', 'z' + 1);
+		CAPTURE_CHARS.set('0', '9' + 1);
+		CAPTURE_CHARS.set('-');
+		CAPTURE_CHARS.set('_');
+	}
+
+	private String glob;
+	private Token[] tokens;
+	private String[] groups;
 	private boolean hasWildcard;
+	private volatile Pattern compiled;
 
 	/**
 	 * Construct the glob pattern object with a glob pattern string
@@ -63,9 +79,13 @@ public class Glob {
 	}
 
 	/**
-	 * @return the compiled pattern
+	 * @return the equivalent regular expression pattern.
 	 */
 	public Pattern compiled() {
+		Pattern compiled = this.compiled;
+		if (compiled == null) {
+			this.compiled = compiled = Pattern.compile(toRegex(this.glob));
+		}
 		return compiled;
 	}
 
@@ -79,7 +99,26 @@ public class Glob {
 		if (s == null) {
 			return false;
 		}
-		return compiled.matcher(s).matches();
+		return match(0, s, 0, null);
+	}
+
+	/**
+	 * Match input against the compiled glob pattern capturing the brace groups.
+	 * 
+	 * @param s input chars
+	 * @return the start and end index of each group, or {@code null} if it doesn't match.
+	 * @see #groups()
+	 */
+	int[] capture(@Nonnull CharSequence s) {
+		final int[] captures = new int[this.groups.length * 2];
+		return match(0, s, 0, captures) ? captures : null;
+	}
+
+	/**
+	 * @return the names of the brace groups in order.
+	 */
+	String[] groups() {
+		return this.groups;
 	}
 
 	/**
@@ -88,11 +127,213 @@ public class Glob {
 	 * @param glob  the glob pattern string
 	 */
 	public void set(@Nonnull String glob) {
+		final List<Token> tokens = new ArrayList<>();
+		final List<String> groups = new ArrayList<>();
+		final StringBuilder literal = new StringBuilder();
+		final int len = glob.length();
+		boolean hasWildcard = false;
+
+		for (int i = 0; i < len; i++) {
+			final char c = glob.charAt(i);
+
+			switch (c) {
+			case BACKSLASH:
+				if (++i >= len) {
+					throw new PatternSyntaxException("Missing escaped character", glob, i);
+				}
+				literal.append(glob.charAt(i));
+				continue;
+			case '*':
+			case '?':
+				flush(literal, tokens);
+				tokens.add(c == '*' ? Token.ANY : Token.ONE);
+				hasWildcard = true;
+				continue;
+			case '{': { // start of a group
+				final int end = glob.indexOf('}', i);
+				final int comma = glob.indexOf(',', i);
+				if (comma >= 0 && (end < 0 || comma < end)) {
+					throw new PatternSyntaxException("Invalid comma", glob, comma);
+				}
+				if (end < 0) {
+					throw new PatternSyntaxException("Unclosed group", glob, len);
+				}
+				flush(literal, tokens);
+				tokens.add(new Token(Token.CAPTURE, null, null, groups.size()));
+				groups.add(glob.substring(i + 1, end));
+				hasWildcard = true;
+				i = end;
+				continue;
+			}
+			case '[': {
+				flush(literal, tokens);
+				i = set(glob, i, tokens);
+				hasWildcard = true;
+				continue;
+			}
+			default:
+				literal.append(c);
+			}
+		}
+		flush(literal, tokens);
+
+		this.glob = glob;
+		this.tokens = tokens.toArray(new Token[tokens.size()]);
+		this.groups = groups.toArray(new String[groups.size()]);
+		this.hasWildcard = hasWildcard;
+		this.compiled = null;
+	}
+
+	/**
+	 * @return true if this is a wildcard pattern (with special chars)
+	 */
+	public boolean hasWildcard() {
+		return hasWildcard;
+	}
+
+	/**
+	 * 
+	 * @param ti the token index.
+	 * @param s the input.
+	 * @param si the input index.
+	 * @param captures the group indexes, may be {@code null}.
+	 * @return {@code true} if the remaining input matches the remaining tokens.
+	 */
+	private boolean match(int ti, CharSequence s, int si, int[] captures) {
+		final int len = s.length();
+		for (; ti < this.tokens.length; ti++) {
+			final Token t = this.tokens[ti];
+			switch (t.type) {
+			case Token.LITERAL:
+				if (!regionMatches(s, si, t.literal)) {
+					return false;
+				}
+				si += t.literal.length();
+				break;
+			case Token.SINGLE:
+				if (si >= len || (t.set != null && !t.matches(s.charAt(si)))) {
+					return false;
+				}
+				si++;
+				break;
+			case Token.WILDCARD:
+				if (ti == this.tokens.length - 1) {
+					return true;
+				}
+				for (int end = len; end >= si; end--) { // greedy
+					if (match(ti + 1, s, end, captures)) {
+						return true;
+					}
+				}
+				return false;
+			case Token.CAPTURE: {
+				int end = si;
+				while (end < len && CAPTURE_CHARS.get(s.charAt(end))) {
+					end++;
+				}
+				for (; end >= si; end--) { // greedy
+					if (match(ti + 1, s, end, captures)) {
+						if (captures != null) {
+							captures[t.group * 2] = si;
+							captures[t.group * 2 + 1] = end;
+						}
+						return true;
+					}
+				}
+				return false;
+			}
+			default:
+				throw new IllegalStateException("Unknown token! [" + t.type + "]");
+			}
+		}
+		return si == len;
+	}
+
+
+	// --- Static Methods ---
+
+	/**
+	 * 
+	 * @param literal
+	 * @param tokens
+	 */
+	private static void flush(StringBuilder literal, List<Token> tokens) {
+		if (literal.length() > 0) {
+			tokens.add(new Token(Token.LITERAL, literal.toString(), null, -1));
+			literal.setLength(0);
+		}
+	}
+
+	/**
+	 * Parses a character class, e.g. {@code [a-z]} or {@code [!abc]}.
+	 * 
+	 * @param glob
+	 * @param i the index of the opening bracket.
+	 * @param tokens
+	 * @return the index of the closing bracket.
+	 */
+	private static int set(String glob, int i, List<Token> tokens) {
+		final int len = glob.length();
+		final BitSet set = new BitSet();
+		final int start = i;
+		boolean negate = false;
+		if (++i < len && (glob.charAt(i) == '!' || glob.charAt(i) == '^')) {
+			negate = true;
+			i++;
+		}
+		for (boolean first = true; i < len; i++, first = false) {
+			char c = glob.charAt(i);
+			if (c == ']' && !first) {
+				tokens.add(new Token(Token.SINGLE, null, set, negate ? 1 : 0));
+				return i;
+			}
+			if (c == '[') {
+				throw new PatternSyntaxException("Unclosed character class", glob, i);
+			}
+			if (c == BACKSLASH && ++i < len) {
+				c = glob.charAt(i);
+			}
+			if (i + 2 < len && glob.charAt(i + 1) == '-' && glob.charAt(i + 2) != ']') {
+				set.set(c, glob.charAt(i + 2) + 1);
+				i += 2;
+			} else {
+				set.set(c);
+			}
+		}
+		throw new PatternSyntaxException("Unclosed character class", glob, start);
+	}
+
+	/**
+	 * 
+	 * @param s
+	 * @param offset
+	 * @param literal
+	 * @return
+	 */
+	private static boolean regionMatches(CharSequence s, int offset, String literal) {
+		final int len = literal.length();
+		if (offset + len > s.length()) {
+			return false;
+		}
+		for (int i = 0; i < len; i++) {
+			if (s.charAt(offset + i) != literal.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Translates the glob into a regular expression.
+	 * 
+	 * @param glob  the glob pattern string
+	 * @return
+	 */
+	private static String toRegex(String glob) {
 		StringBuilder regex = new StringBuilder();
 		int setOpen = 0;
 		int curlyOpen = 0;
 		int len = glob.length();
-		hasWildcard = false;
 
 		for (int i = 0; i < len; i++) {
 			char c = glob.charAt(i);
@@ -115,16 +356,13 @@ public class Glob {
 				break;
 			case '*':
 				regex.append('.');
-				hasWildcard = true;
 				break;
 			case '?':
 				regex.append('.');
-				hasWildcard = true;
 				continue;
 			case '{': // start of a group
 				regex.append("(?<"); // non-capturing
 				curlyOpen++;
-				hasWildcard = true;
 				continue;
 			case ',':
 				if (curlyOpen > 0) {
@@ -145,7 +383,6 @@ public class Glob {
 					throw new PatternSyntaxException("Unclosed character class", glob, i);
 				}
 				setOpen++;
-				hasWildcard = true;
 				break;
 			case '^': // ^ inside [...] can be unescaped
 				if (setOpen == 0) {
@@ -172,19 +409,9 @@ public class Glob {
 		if (curlyOpen > 0) {
 			throw new PatternSyntaxException("Unclosed group", glob, len);
 		}
-		this.compiled = Pattern.compile(regex.toString());
+		return regex.toString();
 	}
 
-	/**
-	 * @return true if this is a wildcard pattern (with special chars)
-	 */
-	public boolean hasWildcard() {
-		return hasWildcard;
-	}
-
-
-	// --- Static Methods ---
-
 	/**
 	 * Compile glob pattern string
 	 * 
@@ -206,12 +433,50 @@ public class Glob {
 	}
 
 	/**
-	 * Returns a {@link Glob} from a weak cache of known instances.
+	 * Returns a {@link Glob} from a bounded cache of known instances.
 	 * 
 	 * @param pattern
 	 * @return
 	 */
 	public static Glob from(String pattern) {
-		return GLOBS.computeIfAbsent(pattern, k -> new Glob(pattern));
+		return GLOBS.get(pattern, Glob::new);
+	}
+
+	/**
+	 * @return the cache used by {@link #from(String)}, e.g. for monitoring.
+	 */
+	public static BoundedCache<String, Glob> cache() {
+		return GLOBS;
+	}
+
+
+	// --- Inner Classes ---
+
+	/**
+	 * 
+	 * @author Daniel Siviter
+	 * @since v1.0 [19 Oct 2026]
+	 */
+	private static class Token {
+		static final int LITERAL = 0, SINGLE = 1, WILDCARD = 2, CAPTURE = 3;
+		static final Token ANY = new Token(WILDCARD, null, null, -1);
+		static final Token ONE = new Token(SINGLE, null, null, 0);
+
+		final int type;
+		final String literal;
+		final BitSet set;
+		/** the group index for {@link #CAPTURE} or 1 if negated for {@link #SINGLE}. */
+		final int group;
+
+		Token(int type, String literal, BitSet set, int group) {
+			this.type = type;
+			this.literal = literal;
+			this.set = set;
+			this.group = group;
+		}
+
+		boolean matches(char c) {
+			return this.set.get(c) != (this.group == 1);
+		}
 	}
-}
\ No newline at end of file
+}
@@ -15,9 +15,6 @@
  */
 package cito;
 
-import java.util.Map;
-import java.util.WeakHashMap;
-
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.context.Dependent;
 import javax.enterprise.inject.Produces;
@@ -27,6 +24,7 @@ import cito.PathParser.Result;
 import cito.annotation.PathParam;
 import cito.event.DestinationChanged;
 import cito.event.Message;
+import cito.scope.DispatchContext;
 
 /**
  * 
@@ -35,8 +33,7 @@ import cito.event.Message;
  */
 @ApplicationScoped
 public class PathParamProducer {
-	private static final Map<String, PathParser> PARSERS = new WeakHashMap<>();
-	private static final ThreadLocal<PathParser> HOLDER = new ThreadLocal<>();
+	private static final BoundedCache<String, PathParser> PARSERS = new BoundedCache<>(1_024);
 
 	/**
 	 * 
@@ -53,12 +50,12 @@ public class PathParamProducer {
 	 * @return
 	 */
 	public static QuietClosable set(PathParser parser) {
-		final PathParser old = pathParser();
-		if (old != null) {
+		final DispatchContext ctx = DispatchContext.current();
+		if (ctx.pathParser() != null) {
 			throw new IllegalStateException("Already set!");
 		}
-		HOLDER.set(parser);
-		return () -> HOLDER.remove();
+		ctx.pathParser(parser);
+		return () -> ctx.pathParser(null);
 	}
 
 	/**
@@ -67,7 +64,7 @@ public class PathParamProducer {
 	 */
 	@Produces @Dependent
 	public static PathParser pathParser() {
-		return HOLDER.get();
+		return DispatchContext.current().pathParser();
 	}
 
 	/**
@@ -76,7 +73,14 @@ public class PathParamProducer {
 	 * @return
 	 */
 	public static PathParser pathParser(String path) {
-		return PARSERS.computeIfAbsent(path, k -> PathParser.create(path));
+		return PARSERS.get(path, PathParser::create);
+	}
+
+	/**
+	 * @return the cache used by {@link #pathParser(String)}, e.g. for monitoring.
+	 */
+	public static BoundedCache<String, PathParser> cache() {
+		return PARSERS;
 	}
 
 	/**
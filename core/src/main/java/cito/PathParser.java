@@ -18,7 +18,6 @@ package cito;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Objects;
-import java.util.regex.Matcher;
 
 import javax.annotation.Nonnull;
 
@@ -51,8 +50,7 @@ public class PathParser {
 	 * @return the parse result.
 	 */
 	public Result parse(CharSequence path) {
-		final Matcher matcher = this.glob.compiled().matcher(path);
-		return new Result(matcher);
+		return new Result(this.glob, path);
 	}
 
 	@Override
@@ -106,14 +104,19 @@ public class PathParser {
 	 * @since v1.0 [17 Jan 2017]
 	 */
 	public static class Result {
-		private final Matcher matcher;
+		private final Glob glob;
+		private final CharSequence path;
+		private final int[] captures;
 
 		/**
 		 * 
-		 * @param matcher
+		 * @param glob
+		 * @param path
 		 */
-		public Result(Matcher matcher) {
-			this.matcher = requireNonNull(matcher);
+		Result(Glob glob, CharSequence path) {
+			this.glob = glob;
+			this.path = path;
+			this.captures = path != null ? glob.capture(path) : null;
 		}
 
 		/**
@@ -121,16 +124,27 @@ public class PathParser {
 		 * @return
 		 */
 		public boolean isSuccess() {
-			return matcher.matches();
+			return this.captures != null;
 		}
 
 		/**
 		 * 
 		 * @param name
 		 * @return
+		 * @throws IllegalStateException if the path did not match.
+		 * @throws IllegalArgumentException if there is no parameter with the name.
 		 */
 		public String get(String name) {
-			return this.matcher.group(name);
+			if (this.captures == null) {
+				throw new IllegalStateException("No match found");
+			}
+			final String[] groups = this.glob.groups();
+			for (int i = 0; i < groups.length; i++) {
+				if (groups[i].equals(name)) {
+					return this.path.subSequence(this.captures[i * 2], this.captures[i * 2 + 1]).toString();
+				}
+			}
+			throw new IllegalArgumentException("No group with name <" + name + ">");
 		}
 	}
 }
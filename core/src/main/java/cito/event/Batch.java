@@ -0,0 +1,49 @@
+/*
+ * Copyright 2016-2017 Daniel Siviter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cito.event;
+
+import static java.util.Collections.unmodifiableList;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+
+import cito.stomp.Frame;
+
+/**
+ * A batch of frames from the server to send to the broker together.
+ * 
+ * @author Daniel Siviter
+ * @since v1.0 [19 Oct 2026]
+ */
+@Immutable
+public class Batch {
+	private final List<Frame> frames;
+
+	public Batch(@Nonnull Collection<Frame> frames) {
+		this.frames = unmodifiableList(new ArrayList<>(frames));
+	}
+
+	/**
+	 * @return the frames in the order they will be sent.
+	 */
+	public List<Frame> frames() {
+		return frames;
+	}
+}
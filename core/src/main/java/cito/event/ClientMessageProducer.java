@@ -20,6 +20,7 @@ import javax.enterprise.context.Dependent;
 import javax.enterprise.inject.Produces;
 
 import cito.QuietClosable;
+import cito.scope.DispatchContext;
 
 /**
  * Holds and produces only the message sent from the client.
@@ -29,11 +30,9 @@ import cito.QuietClosable;
  */
 @ApplicationScoped
 public class ClientMessageProducer {
-	private static final ThreadLocal<Message> HOLDER = new ThreadLocal<>();
-
 	@Produces @Dependent
 	public static Message get() {
-		return HOLDER.get();
+		return DispatchContext.current().message();
 	}
 
 	/**
@@ -41,16 +40,8 @@ public class ClientMessageProducer {
 	 * @param e
 	 */
 	public static QuietClosable set(Message e) {
-		final Message old = get();
-		if (old != null) {
-			throw new IllegalStateException("Already set!");
-		}
-		HOLDER.set(e);
-		return new QuietClosable() {
-			@Override
-			public void close() {
-				HOLDER.remove();
-			}
-		};
+		final DispatchContext ctx = DispatchContext.current();
+		ctx.message(e);
+		return () -> ctx.message(null);
 	}
 }
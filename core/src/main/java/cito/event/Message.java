@@ -15,19 +15,29 @@
  */
 package cito.event;
 
-import javax.annotation.concurrent.Immutable;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
 
 import cito.stomp.Frame;
 
 /**
+ * The session and frame are fixed, but deserialised bodies are memoised on first use, see
+ * {@link #body(Type, Function)}.
  * 
  * @author Daniel Siviter
  * @since v1.0 [19 Jul 2016]
  */
-@Immutable
+@ThreadSafe
 public class Message {
 	private final String sessionId;
 	private final Frame frame;
+	private volatile Map<Type, Optional<?>> bodies;
 
 	public Message(Frame frame) {
 		this(null, frame);
@@ -53,5 +63,37 @@ public class Message {
 		return frame;
 	}
 
+	/**
+	 * Deserialises the body of the frame once per type so observers of the same message share the result.
+	 * <p/>
+	 * <strong>Note:</strong> every observer receives the same instance, so any change one makes to it is visible to
+	 * the others. Treat it as read only. The reader is called without holding a lock, so it may call back into this
+	 * method, and if two threads race both may read but only the first result is kept.
+	 * 
+	 * @param type the target type.
+	 * @param reader performs the deserialisation if not already done for the type.
+	 * @return the body, which may be {@code null}.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T body(@Nonnull Type type, @Nonnull Function<Type, T> reader) {
+		Map<Type, Optional<?>> bodies = this.bodies;
+		if (bodies == null) {
+			synchronized (this) {
+				bodies = this.bodies;
+				if (bodies == null) {
+					this.bodies = bodies = new ConcurrentHashMap<>(4);
+				}
+			}
+		}
+		Optional<?> body = bodies.get(type);
+		if (body == null) {
+			body = Optional.ofNullable(reader.apply(type));
+			final Optional<?> existing = bodies.putIfAbsent(type, body);
+			if (existing != null) {
+				body = existing;
+			}
+		}
+		return (T) body.orElse(null);
+	}
 
 }
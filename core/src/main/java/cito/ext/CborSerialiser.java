@@ -0,0 +1,942 @@
+/*
+ * Copyright 2016-2017 Daniel Siviter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cito.ext;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import javax.ws.rs.core.MediaType;
+
+import org.apache.deltaspike.core.api.config.ConfigProperty;
+
+/**
+ * {@link BodyWriter} and {@link BodyReader} for the compact binary {@code application/cbor} type (RFC 7049). Values are
+ * streamed straight to and from the target types without building an intermediate tree.
+ * <p/>
+ * Beans are mapped to CBOR maps keyed by property name, using public fields and getter/setter pairs in lexicographical
+ * order with {@code null} values omitted, similar to the Json-B defaults. Other JDK types, such as {@code UUID} or
+ * {@code LocalDate}, are written as text and read using a {@code parse}, {@code valueOf} or {@code fromString} factory
+ * or a {@code String} constructor.
+ * <p/>
+ * As payloads are untrusted, byte and text strings are limited to {@code cito.cbor.maxLength} bytes and are read in
+ * chunks so memory is only committed as data arrives, and nesting is limited to {@code cito.cbor.maxDepth} levels.
+ * 
+ * @author Daniel Siviter
+ * @since v1.0 [19 Oct 2026]
+ */
+@ApplicationScoped
+public class CborSerialiser implements BodyWriter<Object>, BodyReader<Object> {
+	public static final String APPLICATION_CBOR = "application/cbor";
+	public static final MediaType APPLICATION_CBOR_TYPE = new MediaType("application", "cbor");
+
+	private static final int UNSIGNED = 0;
+	private static final int NEGATIVE = 1;
+	private static final int BYTES = 2;
+	private static final int TEXT = 3;
+	private static final int ARRAY = 4;
+	private static final int MAP = 5;
+	private static final int TAG = 6;
+	private static final int SIMPLE = 7;
+
+	private static final int FALSE = 0xF4;
+	private static final int TRUE = 0xF5;
+	private static final int NULL = 0xF6;
+	private static final int UNDEFINED = 0xF7;
+	private static final int FLOAT32 = 0xFA;
+	private static final int FLOAT64 = 0xFB;
+	private static final int BREAK = 0xFF;
+	private static final int INDEFINITE = 31;
+	private static final int CHUNK_SIZE = 8 * 1_024;
+
+	private final Map<Class<?>, Binding> bindings = new ConcurrentHashMap<>();
+	private final Map<Class<?>, Method> factories = new ConcurrentHashMap<>();
+
+	@Inject
+	@ConfigProperty(name = "cito.cbor.maxLength", defaultValue = "16777216")
+	private int maxLength = 16 * 1_024 * 1_024;
+	@Inject
+	@ConfigProperty(name = "cito.cbor.maxDepth", defaultValue = "64")
+	private int maxDepth = 64;
+
+	@Override
+	public boolean isReadable(Type type, MediaType mediaType) {
+		return mediaType.isCompatible(APPLICATION_CBOR_TYPE);
+	}
+
+	@Override
+	public Object readFrom(Type type, MediaType mediaType, InputStream is) throws IOException {
+		return new Decoder(is).read(type);
+	}
+
+	@Override
+	public boolean isWriteable(Type type, MediaType mediaType) {
+		return mediaType.isCompatible(APPLICATION_CBOR_TYPE);
+	}
+
+	@Override
+	public void writeTo(Object t, Type type, MediaType mediaType, OutputStream os) throws IOException {
+		final Encoder encoder = new Encoder(os);
+		encoder.write(t);
+		encoder.flush();
+	}
+
+	/**
+	 * 
+	 * @param cls
+	 * @return
+	 */
+	private Binding binding(Class<?> cls) {
+		return this.bindings.computeIfAbsent(cls, Binding::new);
+	}
+
+	/**
+	 * 
+	 * @param cls
+	 * @param value
+	 * @return
+	 * @throws IOException
+	 */
+	private Object fromText(Class<?> cls, String value) throws IOException {
+		if (cls == String.class || cls == Object.class || cls == CharSequence.class) {
+			return value;
+		}
+		if (cls == char.class || cls == Character.class) {
+			if (value.length() != 1) {
+				throw new IOException("Unable to convert to character! [" + value + "]");
+			}
+			return value.charAt(0);
+		}
+		if (cls.isEnum()) {
+			for (Object constant : cls.getEnumConstants()) {
+				if (((Enum<?>) constant).name().equals(value)) {
+					return constant;
+				}
+			}
+			throw new IOException("Unknown constant! [type=" + cls.getName() + ",value=" + value + "]");
+		}
+		final Class<?> boxed = box(cls);
+		final Method factory = this.factories.computeIfAbsent(boxed, CborSerialiser::factory);
+		try {
+			if (factory != null) {
+				return factory.invoke(null, value);
+			}
+			return boxed.getConstructor(String.class).newInstance(value);
+		} catch (NoSuchMethodException | InstantiationException | IllegalAccessException e) {
+			throw new IOException("Unable to convert from text! [type=" + cls.getName() + "]", e);
+		} catch (InvocationTargetException e) {
+			throw new IOException("Unable to convert from text! [type=" + cls.getName() + "]", e.getCause());
+		}
+	}
+
+
+	// --- Static Methods ---
+
+	/**
+	 * 
+	 * @param cls
+	 * @return a static factory taking a single {@code String} or {@code CharSequence}, or {@code null} if none.
+	 */
+	private static Method factory(Class<?> cls) {
+		for (String name : new String[] { "valueOf", "parse", "fromString" }) {
+			for (Class<?> param : new Class<?>[] { String.class, CharSequence.class }) {
+				try {
+					final Method method = cls.getMethod(name, param);
+					if (Modifier.isStatic(method.getModifiers()) && cls.isAssignableFrom(method.getReturnType())) {
+						return method;
+					}
+				} catch (NoSuchMethodException e) {
+					// try next
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * 
+	 * @param cls
+	 * @return {@code true} if the type is written as text rather than as a bean.
+	 */
+	private static boolean isText(Class<?> cls) {
+		final String name = cls.getName();
+		return name.startsWith("java.") || name.startsWith("javax.");
+	}
+
+	/**
+	 * 
+	 * @param type
+	 * @return
+	 */
+	private static Class<?> raw(Type type) {
+		if (type instanceof Class) {
+			return (Class<?>) type;
+		} else if (type instanceof ParameterizedType) {
+			return raw(((ParameterizedType) type).getRawType());
+		} else if (type instanceof GenericArrayType) {
+			return Array.newInstance(raw(((GenericArrayType) type).getGenericComponentType()), 0).getClass();
+		} else if (type instanceof WildcardType) {
+			return raw(((WildcardType) type).getUpperBounds()[0]);
+		}
+		return Object.class;
+	}
+
+	/**
+	 * 
+	 * @param type
+	 * @param index
+	 * @return the type argument or {@link Object} if not parameterised.
+	 */
+	private static Type typeArgument(Type type, int index) {
+		if (type instanceof ParameterizedType) {
+			final Type[] args = ((ParameterizedType) type).getActualTypeArguments();
+			return index < args.length ? args[index] : Object.class;
+		}
+		return Object.class;
+	}
+
+	/**
+	 * 
+	 * @param cls
+	 * @return
+	 */
+	private static Class<?> box(Class<?> cls) {
+		if (!cls.isPrimitive()) {
+			return cls;
+		} else if (cls == int.class) {
+			return Integer.class;
+		} else if (cls == long.class) {
+			return Long.class;
+		} else if (cls == double.class) {
+			return Double.class;
+		} else if (cls == float.class) {
+			return Float.class;
+		} else if (cls == short.class) {
+			return Short.class;
+		} else if (cls == byte.class) {
+			return Byte.class;
+		} else if (cls == boolean.class) {
+			return Boolean.class;
+		} else if (cls == char.class) {
+			return Character.class;
+		}
+		return cls;
+	}
+
+	/**
+	 * 
+	 * @param value
+	 * @param cls
+	 * @return
+	 * @throws IOException
+	 */
+	private static Object integer(long value, Class<?> cls) throws IOException {
+		if (cls == Object.class || cls == Number.class) {
+			return value == (int) value ? Integer.valueOf((int) value) : Long.valueOf(value);
+		} else if (cls == int.class || cls == Integer.class) {
+			return (int) value;
+		} else if (cls == long.class || cls == Long.class) {
+			return value;
+		} else if (cls == short.class || cls == Short.class) {
+			return (short) value;
+		} else if (cls == byte.class || cls == Byte.class) {
+			return (byte) value;
+		} else if (cls == double.class || cls == Double.class) {
+			return (double) value;
+		} else if (cls == float.class || cls == Float.class) {
+			return (float) value;
+		} else if (cls == BigInteger.class) {
+			return BigInteger.valueOf(value);
+		} else if (cls == BigDecimal.class) {
+			return BigDecimal.valueOf(value);
+		} else if (cls == String.class) {
+			return Long.toString(value);
+		}
+		throw new IOException("Unable to convert integer! [type=" + cls.getName() + "]");
+	}
+
+	/**
+	 * 
+	 * @param value
+	 * @param cls
+	 * @return
+	 * @throws IOException
+	 */
+	private static Object floating(double value, Class<?> cls) throws IOException {
+		if (cls == Object.class || cls == Number.class || cls == double.class || cls == Double.class) {
+			return value;
+		} else if (cls == float.class || cls == Float.class) {
+			return (float) value;
+		} else if (cls == BigDecimal.class) {
+			return BigDecimal.valueOf(value);
+		} else if (cls == String.class) {
+			return Double.toString(value);
+		}
+		throw new IOException("Unable to convert floating point! [type=" + cls.getName() + "]");
+	}
+
+	/**
+	 * 
+	 * @param half
+	 * @return the IEEE 754 half precision value.
+	 */
+	private static float half(int half) {
+		final int exp = (half >> 10) & 0x1F;
+		final int mant = half & 0x3FF;
+		final float value;
+		if (exp == 0) {
+			value = Math.scalb((float) mant, -24);
+		} else if (exp != 31) {
+			value = Math.scalb((float) (mant + 1024), exp - 25);
+		} else {
+			value = mant == 0 ? Float.POSITIVE_INFINITY : Float.NaN;
+		}
+		return (half & 0x8000) != 0 ? -value : value;
+	}
+
+	/**
+	 * 
+	 * @param cls
+	 * @return a new collection for the type.
+	 * @throws IOException
+	 */
+	@SuppressWarnings("unchecked")
+	private static Collection<Object> collection(Class<?> cls) throws IOException {
+		if (cls == Object.class || cls.isInterface() || Modifier.isAbstract(cls.getModifiers())) {
+			if (cls.isAssignableFrom(ArrayList.class)) {
+				return new ArrayList<>();
+			} else if (cls.isAssignableFrom(TreeSet.class) && SortedSet.class.isAssignableFrom(cls)) {
+				return new TreeSet<>();
+			} else if (cls.isAssignableFrom(LinkedHashSet.class)) {
+				return new LinkedHashSet<>();
+			} else if (cls.isAssignableFrom(ArrayDeque.class)) {
+				return new ArrayDeque<>();
+			}
+			throw new IOException("Unsupported collection! [type=" + cls.getName() + "]");
+		}
+		return (Collection<Object>) newInstance(cls);
+	}
+
+	/**
+	 * 
+	 * @param cls
+	 * @return a new map for the type.
+	 * @throws IOException
+	 */
+	@SuppressWarnings("unchecked")
+	private static Map<Object, Object> map(Class<?> cls) throws IOException {
+		if (cls == Object.class || cls == Map.class) {
+			return new LinkedHashMap<>();
+		} else if (cls == SortedMap.class || cls.isAssignableFrom(TreeMap.class)) {
+			return new TreeMap<>();
+		}
+		return (Map<Object, Object>) newInstance(cls);
+	}
+
+	/**
+	 * 
+	 * @param cls
+	 * @return
+	 * @throws IOException
+	 */
+	private static Object newInstance(Class<?> cls) throws IOException {
+		try {
+			final Constructor<?> ctor = cls.getDeclaredConstructor();
+			ctor.setAccessible(true);
+			return ctor.newInstance();
+		} catch (NoSuchMethodException | InstantiationException | IllegalAccessException e) {
+			throw new IOException("Unable to create! [type=" + cls.getName() + "]", e);
+		} catch (InvocationTargetException e) {
+			throw new IOException("Unable to create! [type=" + cls.getName() + "]", e.getCause());
+		}
+	}
+
+
+	// --- Inner Classes ---
+
+	/**
+	 * Writes CBOR data items to a stream via a small buffer.
+	 * 
+	 * @author Daniel Siviter
+	 * @since v1.0 [19 Oct 2026]
+	 */
+	private class Encoder {
+		private final OutputStream os;
+		private final byte[] buf = new byte[4 * 1_024];
+		private int pos;
+
+		Encoder(OutputStream os) {
+			this.os = os;
+		}
+
+		void write(Object value) throws IOException {
+			if (value == null) {
+				put(NULL);
+			} else if (value instanceof String) {
+				text((String) value);
+			} else if (value instanceof Boolean) {
+				put((Boolean) value ? TRUE : FALSE);
+			} else if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+				integer(((Number) value).longValue());
+			} else if (value instanceof Double) {
+				put(FLOAT64);
+				putLong(Double.doubleToLongBits((Double) value));
+			} else if (value instanceof Float) {
+				put(FLOAT32);
+				putInt(Float.floatToIntBits((Float) value));
+			} else if (value instanceof Enum) {
+				text(((Enum<?>) value).name());
+			} else if (value instanceof byte[]) {
+				final byte[] bytes = (byte[]) value;
+				head(BYTES, bytes.length);
+				put(bytes, 0, bytes.length);
+			} else if (value instanceof Collection) {
+				final Collection<?> collection = (Collection<?>) value;
+				head(ARRAY, collection.size());
+				for (Object e : collection) {
+					write(e);
+				}
+			} else if (value.getClass().isArray()) {
+				final int length = Array.getLength(value);
+				head(ARRAY, length);
+				for (int i = 0; i < length; i++) {
+					write(Array.get(value, i));
+				}
+			} else if (value instanceof Map) {
+				final Map<?, ?> map = (Map<?, ?>) value;
+				head(MAP, map.size());
+				for (Map.Entry<?, ?> e : map.entrySet()) {
+					write(e.getKey() instanceof Enum ? e.getKey() : String.valueOf(e.getKey()));
+					write(e.getValue());
+				}
+			} else if (value instanceof Optional) {
+				write(((Optional<?>) value).orElse(null));
+			} else if (isText(value.getClass())) {
+				text(value.toString());
+			} else {
+				bean(value);
+			}
+		}
+
+		private void bean(Object value) throws IOException {
+			final Binding binding = binding(value.getClass());
+			final Object[] values = new Object[binding.readable.length];
+			int count = 0;
+			for (int i = 0; i < values.length; i++) {
+				if ((values[i] = binding.readable[i].get(value)) != null) {
+					count++;
+				}
+			}
+			head(MAP, count);
+			for (int i = 0; i < values.length; i++) {
+				if (values[i] != null) {
+					final byte[] key = binding.readable[i].key;
+					put(key, 0, key.length);
+					write(values[i]);
+				}
+			}
+		}
+
+		private void text(String value) throws IOException {
+			final byte[] bytes = value.getBytes(UTF_8);
+			head(TEXT, bytes.length);
+			put(bytes, 0, bytes.length);
+		}
+
+		private void integer(long value) throws IOException {
+			if (value >= 0) {
+				head(UNSIGNED, value);
+			} else {
+				head(NEGATIVE, -1 - value);
+			}
+		}
+
+		private void head(int major, long arg) throws IOException {
+			final int type = major << 5;
+			if (arg < 24) {
+				put(type | (int) arg);
+			} else if (arg <= 0xFFL) {
+				put(type | 24);
+				put((int) arg);
+			} else if (arg <= 0xFFFFL) {
+				put(type | 25);
+				put((int) (arg >> 8));
+				put((int) arg);
+			} else if (arg <= 0xFFFFFFFFL) {
+				put(type | 26);
+				putInt((int) arg);
+			} else {
+				put(type | 27);
+				putLong(arg);
+			}
+		}
+
+		private void putInt(int v) throws IOException {
+			put(v >>> 24);
+			put(v >>> 16);
+			put(v >>> 8);
+			put(v);
+		}
+
+		private void putLong(long v) throws IOException {
+			putInt((int) (v >>> 32));
+			putInt((int) v);
+		}
+
+		private void put(int b) throws IOException {
+			if (this.pos == this.buf.length) {
+				flush();
+			}
+			this.buf[this.pos++] = (byte) b;
+		}
+
+		private void put(byte[] b, int off, int len) throws IOException {
+			if (len > this.buf.length - this.pos) {
+				flush();
+				if (len > this.buf.length) {
+					this.os.write(b, off, len);
+					return;
+				}
+			}
+			System.arraycopy(b, off, this.buf, this.pos, len);
+			this.pos += len;
+		}
+
+		void flush() throws IOException {
+			if (this.pos > 0) {
+				this.os.write(this.buf, 0, this.pos);
+				this.pos = 0;
+			}
+		}
+	}
+
+	/**
+	 * Reads CBOR data items directly into the target type.
+	 * 
+	 * @author Daniel Siviter
+	 * @since v1.0 [19 Oct 2026]
+	 */
+	private class Decoder {
+		private final DataInputStream in;
+		private int depth;
+
+		Decoder(InputStream is) {
+			this.in = new DataInputStream(is);
+		}
+
+		Object read(Type type) throws IOException {
+			return read(this.in.readUnsignedByte(), type);
+		}
+
+		private Object read(int initial, Type type) throws IOException {
+			enter();
+			try {
+				return item(initial, type);
+			} finally {
+				this.depth--;
+			}
+		}
+
+		private Object item(int initial, Type type) throws IOException {
+			final int major = initial >>> 5;
+			final int info = initial & 0x1F;
+			final Class<?> cls = raw(type);
+			switch (major) {
+			case UNSIGNED:
+				return integer(argument(info), cls);
+			case NEGATIVE:
+				return integer(-1 - argument(info), cls);
+			case BYTES:
+				final byte[] bytes = bytes(BYTES, info);
+				if (cls == byte[].class || cls == Object.class) {
+					return bytes;
+				}
+				throw new IOException("Unable to convert byte string! [type=" + cls.getName() + "]");
+			case TEXT:
+				return fromText(cls, new String(bytes(TEXT, info), UTF_8));
+			case ARRAY:
+				return array(info, type, cls);
+			case MAP:
+				return map(info, type, cls);
+			case TAG: // tags are not interpreted
+				argument(info);
+				return read(type);
+			case SIMPLE:
+				return simple(initial, cls);
+			default:
+				throw new IllegalStateException("Unknown major type!");
+			}
+		}
+
+		private Object simple(int initial, Class<?> cls) throws IOException {
+			switch (initial) {
+			case FALSE:
+			case TRUE:
+				if (cls == boolean.class || cls == Boolean.class || cls == Object.class) {
+					return initial == TRUE;
+				}
+				throw new IOException("Unable to convert boolean! [type=" + cls.getName() + "]");
+			case NULL:
+			case UNDEFINED:
+				return null;
+			case 0xF9:
+				return floating(half(this.in.readUnsignedShort()), cls);
+			case FLOAT32:
+				return floating(this.in.readFloat(), cls);
+			case FLOAT64:
+				return floating(this.in.readDouble(), cls);
+			default:
+				throw new IOException("Unsupported simple value! [" + Integer.toHexString(initial) + "]");
+			}
+		}
+
+		private Object array(int info, Type type, Class<?> cls) throws IOException {
+			final Type elementType;
+			if (type instanceof GenericArrayType) {
+				elementType = ((GenericArrayType) type).getGenericComponentType();
+			} else if (cls.isArray()) {
+				elementType = cls.getComponentType();
+			} else {
+				elementType = typeArgument(type, 0);
+			}
+			final Collection<Object> collection = collection(cls.isArray() ? List.class : cls);
+			final long length = argument(info);
+			for (long i = 0; length < 0 || i < length; i++) {
+				final int initial = this.in.readUnsignedByte();
+				if (length < 0 && initial == BREAK) {
+					break;
+				}
+				collection.add(read(initial, elementType));
+			}
+			if (!cls.isArray()) {
+				return collection;
+			}
+			final Object array = Array.newInstance(cls.getComponentType(), collection.size());
+			int i = 0;
+			for (Object e : collection) {
+				Array.set(array, i++, e);
+			}
+			return array;
+		}
+
+		private Object map(int info, Type type, Class<?> cls) throws IOException {
+			final long length = argument(info);
+			if (cls == Object.class || Map.class.isAssignableFrom(cls)) {
+				final Map<Object, Object> map = CborSerialiser.map(cls);
+				final Type keyType = typeArgument(type, 0);
+				final Type valueType = typeArgument(type, 1);
+				for (long i = 0; length < 0 || i < length; i++) {
+					final int initial = this.in.readUnsignedByte();
+					if (length < 0 && initial == BREAK) {
+						break;
+					}
+					map.put(read(initial, keyType), read(valueType));
+				}
+				return map;
+			}
+			if (isText(cls)) {
+				throw new IOException("Unable to convert map! [type=" + cls.getName() + "]");
+			}
+			final Binding binding = binding(cls);
+			final Object bean = newInstance(cls);
+			for (long i = 0; length < 0 || i < length; i++) {
+				final int initial = this.in.readUnsignedByte();
+				if (length < 0 && initial == BREAK) {
+					break;
+				}
+				final Property property = binding.writable.get((String) read(initial, String.class));
+				if (property == null) {
+					skip(this.in.readUnsignedByte());
+					continue;
+				}
+				final Object value = read(property.type);
+				if (value != null || !raw(property.type).isPrimitive()) {
+					property.set(bean, value);
+				}
+			}
+			return bean;
+		}
+
+		/**
+		 * Skips over a data item without interpreting it.
+		 */
+		private void skip(int initial) throws IOException {
+			enter();
+			try {
+				skipItem(initial);
+			} finally {
+				this.depth--;
+			}
+		}
+
+		private void skipItem(int initial) throws IOException {
+			final int major = initial >>> 5;
+			final int info = initial & 0x1F;
+			switch (major) {
+			case BYTES:
+			case TEXT:
+				bytes(major, info);
+				break;
+			case ARRAY:
+			case MAP:
+				final long length = argument(info);
+				final int items = major == MAP ? 2 : 1;
+				for (long i = 0; length < 0 || i < length; i++) {
+					final int next = this.in.readUnsignedByte();
+					if (length < 0 && next == BREAK) {
+						break;
+					}
+					skip(next);
+					if (items == 2) {
+						skip(this.in.readUnsignedByte());
+					}
+				}
+				break;
+			case TAG:
+				argument(info);
+				skip(this.in.readUnsignedByte());
+				break;
+			default: // integers and simple values only have an argument
+				argument(info);
+				break;
+			}
+		}
+
+		/**
+		 * @return the argument or {@code -1} if indefinite.
+		 */
+		private long argument(int info) throws IOException {
+			if (info < 24) {
+				return info;
+			}
+			switch (info) {
+			case 24:
+				return this.in.readUnsignedByte();
+			case 25:
+				return this.in.readUnsignedShort();
+			case 26:
+				return this.in.readInt() & 0xFFFFFFFFL;
+			case 27:
+				final long arg = this.in.readLong();
+				if (arg < 0) {
+					throw new IOException("Value too large!");
+				}
+				return arg;
+			case INDEFINITE:
+				return -1;
+			default:
+				throw new IOException("Invalid additional information! [" + info + "]");
+			}
+		}
+
+		/**
+		 * @throws IOException if nested deeper than permitted.
+		 */
+		private void enter() throws IOException {
+			if (++this.depth > CborSerialiser.this.maxDepth) {
+				throw new IOException("Nesting too deep! [max=" + CborSerialiser.this.maxDepth + "]");
+			}
+		}
+
+		private byte[] bytes(int major, int info) throws IOException {
+			final long length = argument(info);
+			if (length >= 0 && length <= CHUNK_SIZE) {
+				checkLength(length);
+				final byte[] bytes = new byte[(int) length];
+				this.in.readFully(bytes);
+				return bytes;
+			}
+			final ByteArrayOutputStream out = new ByteArrayOutputStream(CHUNK_SIZE);
+			if (length >= 0) {
+				checkLength(length);
+				copy(length, out);
+				return out.toByteArray();
+			}
+			// indefinite length; concatenate the definite length chunks
+			int initial;
+			while ((initial = this.in.readUnsignedByte()) != BREAK) {
+				if (initial >>> 5 != major || (initial & 0x1F) == INDEFINITE) {
+					throw new IOException("Invalid chunk!");
+				}
+				final long chunkLength = argument(initial & 0x1F);
+				checkLength(out.size() + chunkLength);
+				copy(chunkLength, out);
+			}
+			return out.toByteArray();
+		}
+
+		/**
+		 * Copies in bounded chunks, so a declared length is only allocated once the data has actually arrived.
+		 */
+		private void copy(long length, ByteArrayOutputStream out) throws IOException {
+			final byte[] chunk = new byte[(int) Math.min(length, CHUNK_SIZE)];
+			for (long remaining = length; remaining > 0; ) {
+				final int len = (int) Math.min(remaining, chunk.length);
+				this.in.readFully(chunk, 0, len);
+				out.write(chunk, 0, len);
+				remaining -= len;
+			}
+		}
+
+		/**
+		 * @throws IOException if the string is longer than permitted.
+		 */
+		private void checkLength(long length) throws IOException {
+			if (length > CborSerialiser.this.maxLength) {
+				throw new IOException("String too large! [length=" + length + ",max=" + CborSerialiser.this.maxLength + "]");
+			}
+		}
+	}
+
+	/**
+	 * The properties of a bean type.
+	 * 
+	 * @author Daniel Siviter
+	 * @since v1.0 [19 Oct 2026]
+	 */
+	private static class Binding {
+		private final Property[] readable;
+		private final Map<String, Property> writable = new ConcurrentHashMap<>();
+
+		Binding(Class<?> cls) {
+			final Map<String, Property> properties = new TreeMap<>();
+			for (Field field : cls.getFields()) {
+				final int mod = field.getModifiers();
+				if (!Modifier.isStatic(mod) && !Modifier.isTransient(mod)) {
+					properties.put(field.getName(), new Property(field.getName(), field.getGenericType(),
+							field, Modifier.isFinal(mod) ? null : field));
+				}
+			}
+			try {
+				for (PropertyDescriptor pd : Introspector.getBeanInfo(cls, Object.class).getPropertyDescriptors()) {
+					final Method getter = pd.getReadMethod();
+					final Method setter = pd.getWriteMethod();
+					if (getter == null && setter == null) {
+						continue;
+					}
+					final Type type = getter != null ? getter.getGenericReturnType() : setter.getGenericParameterTypes()[0];
+					properties.put(pd.getName(), new Property(pd.getName(), type, getter, setter));
+				}
+			} catch (IntrospectionException e) {
+				throw new IllegalArgumentException("Unable to introspect! [" + cls.getName() + "]", e);
+			}
+			final List<Property> readable = new ArrayList<>();
+			for (Property p : properties.values()) {
+				if (p.getter != null) {
+					readable.add(p);
+				}
+				if (p.setter != null) {
+					this.writable.put(p.name, p);
+				}
+			}
+			this.readable = readable.toArray(new Property[readable.size()]);
+		}
+	}
+
+	/**
+	 * A bean property backed by a field or accessor methods.
+	 * 
+	 * @author Daniel Siviter
+	 * @since v1.0 [19 Oct 2026]
+	 */
+	private static class Property {
+		private final String name;
+		private final Type type;
+		private final Object getter;
+		private final Object setter;
+		/** the encoded map key */
+		private final byte[] key;
+
+		Property(String name, Type type, Object getter, Object setter) {
+			this.name = name;
+			this.type = type;
+			this.getter = getter;
+			this.setter = setter;
+			final byte[] utf8 = name.getBytes(UTF_8);
+			final ByteArrayOutputStream out = new ByteArrayOutputStream(utf8.length + 3);
+			if (utf8.length < 24) {
+				out.write((TEXT << 5) | utf8.length);
+			} else if (utf8.length <= 0xFF) {
+				out.write((TEXT << 5) | 24);
+				out.write(utf8.length);
+			} else {
+				out.write((TEXT << 5) | 25);
+				out.write(utf8.length >> 8);
+				out.write(utf8.length);
+			}
+			out.write(utf8, 0, utf8.length);
+			this.key = out.toByteArray();
+		}
+
+		Object get(Object bean) throws IOException {
+			try {
+				return this.getter instanceof Method ? ((Method) this.getter).invoke(bean) : ((Field) this.getter).get(bean);
+			} catch (IllegalAccessException e) {
+				throw new IOException("Unable to get property! [" + this.name + "]", e);
+			} catch (InvocationTargetException e) {
+				throw new IOException("Unable to get property! [" + this.name + "]", e.getCause());
+			}
+		}
+
+		void set(Object bean, Object value) throws IOException {
+			try {
+				if (this.setter instanceof Method) {
+					((Method) this.setter).invoke(bean, value);
+				} else {
+					((Field) this.setter).set(bean, value);
+				}
+			} catch (IllegalAccessException | IllegalArgumentException e) {
+				throw new IOException("Unable to set property! [" + this.name + "]", e);
+			} catch (InvocationTargetException e) {
+				throw new IOException("Unable to set property! [" + this.name + "]", e.getCause());
+			}
+		}
+	}
+}
@@ -20,9 +20,13 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.reflect.Type;
+import java.util.concurrent.TimeUnit;
 
+import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
 import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.Initialized;
+import javax.enterprise.event.Observes;
 import javax.enterprise.inject.Instance;
 import javax.enterprise.inject.Produces;
 import javax.inject.Inject;
@@ -30,6 +34,7 @@ import javax.json.bind.Jsonb;
 import javax.json.bind.JsonbBuilder;
 import javax.ws.rs.core.MediaType;
 
+import org.apache.deltaspike.core.api.config.ConfigProperty;
 import org.slf4j.Logger;
 
 import cito.ext.BodyReader;
@@ -37,6 +42,10 @@ import cito.ext.BodyWriter;
 
 /**
  * {@link BodyWriter} and {@link BodyReader} for {@code application/json} type using Json-B.
+ * <p/>
+ * The {@link Jsonb} instance is resolved once when created. As Json-B implementations build the binding model for a
+ * type the first time it is seen, types listed in {@code cito.json.warmUp} (comma separated class names) are
+ * bound on application start-up so the first message of each type doesn't pay that cost.
  *  
  * @author Daniel Siviter
  * @since v1.0 [1 May 2017]
@@ -47,8 +56,58 @@ public class JsonBSerialiser implements BodyWriter<Object>, BodyReader<Object> {
 	private Logger log;
 	@Inject
 	private Instance<Jsonb> jsonb;
+	@Inject
+	@ConfigProperty(name = "cito.json.warmUp", defaultValue = "")
+	private String warmUp;
+
+	private Jsonb instance;
+	private boolean created;
+
+	@PostConstruct
+	public void init() {
+		if (this.jsonb.isUnsatisfied()) {
+			this.instance = JsonbBuilder.create();
+			this.created = true;
+		} else {
+			this.instance = this.jsonb.get();
+		}
+	}
+
+	/**
+	 * Binds the configured types on start-up.
+	 * 
+	 * @param init
+	 */
+	public void startup(@Observes @Initialized(ApplicationScoped.class) Object init) {
+		if (this.warmUp == null || this.warmUp.trim().isEmpty()) {
+			return;
+		}
+		final long start = System.nanoTime();
+		int count = 0;
+		for (String name : this.warmUp.split(",")) {
+			if (!(name = name.trim()).isEmpty() && warmUp(name)) {
+				count++;
+			}
+		}
+		this.log.info("Json-B warm up complete. [types={},time={}ms]",
+				count, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+	}
 
-	private volatile Jsonb instance;
+	/**
+	 * 
+	 * @param name
+	 * @return {@code true} if the type was bound.
+	 */
+	private boolean warmUp(String name) {
+		try {
+			final Class<?> type = Class.forName(name, true, Thread.currentThread().getContextClassLoader());
+			this.instance.toJson(this.instance.fromJson("{}", type), type);
+			return true;
+		} catch (ClassNotFoundException | RuntimeException e) {
+			this.log.warn("Unable to warm up type! [{}]", name, e);
+			return false;
+		}
+	}
 
 	@Override
 	public boolean isReadable(Type type, MediaType mediaType) {
@@ -57,7 +116,7 @@ public class JsonBSerialiser implements BodyWriter<Object>, BodyReader<Object> {
 
 	@Override
 	public Object readFrom(Type type, MediaType mediaType, InputStream is) throws IOException {
-		return getJsonb().fromJson(is, type);
+		return this.instance.fromJson(is, type);
 	}
 
 	@Override
@@ -67,26 +126,12 @@ public class JsonBSerialiser implements BodyWriter<Object>, BodyReader<Object> {
 
 	@Override
 	public void writeTo(Object t, Type type, MediaType mediaType, OutputStream os) throws IOException {
-		getJsonb().toJson(t, type, os);
-	}
-
-	/**
-	 * 
-	 * @return
-	 */
-	private Jsonb getJsonb() {
-		if (this.jsonb.isUnsatisfied()) {
-			if (this.instance == null) {
-				this.instance = JsonbBuilder.create();
-			}
-			return this.instance;
-		}
-		return this.jsonb.get();
+		this.instance.toJson(t, type, os);
 	}
 
 	@PreDestroy
 	public void destroy() {
-		if (this.instance != null) {
+		if (this.created) {
 			try {
 				this.instance.close();
 			} catch (Exception e) {
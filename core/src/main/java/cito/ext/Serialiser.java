@@ -15,18 +15,30 @@
  */
 package cito.ext;
 
+import static java.util.Collections.unmodifiableList;
+
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 
+import javax.annotation.Priority;
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.inject.Instance;
 import javax.inject.Inject;
 import javax.ws.rs.core.MediaType;
 
+import cito.BoundedCache;
+
 /**
- * Performs [de]serialisation of beans.
+ * Performs [de]serialisation of beans. The {@link BodyReader} or {@link BodyWriter} chosen for a type and media type is
+ * cached, so the bean set is assumed fixed for the lifetime of the application. Where more than one is compatible the
+ * one with the lowest {@link Priority#value()} is used, those without a {@link Priority} default to {@code 5000}.
  * 
  * @author Daniel Siviter
  * @since v1.0 [24 Aug 2016]
@@ -35,11 +47,19 @@ import javax.ws.rs.core.MediaType;
  */
 @ApplicationScoped
 public class Serialiser {
+	private static final int MAX_CACHED = 256;
+
+	private final BoundedCache<Key, Optional<BodyReader<?>>> readerCache = new BoundedCache<>(MAX_CACHED);
+	private final BoundedCache<Key, Optional<BodyWriter<?>>> writerCache = new BoundedCache<>(MAX_CACHED);
+
 	@Inject
 	private Instance<BodyReader<?>> readers;
 	@Inject
 	private Instance<BodyWriter<?>> writers;
 
+	private volatile List<BodyReader<?>> sortedReaders;
+	private volatile List<BodyWriter<?>> sortedWriters;
+
 	/**
 	 * 
 	 * @param type
@@ -50,12 +70,12 @@ public class Serialiser {
 	 */
 	@SuppressWarnings("unchecked")
 	public <T> T readFrom(Type type, MediaType mediaType, InputStream is) throws IOException {
-		for (BodyReader<?> reader : this.readers) {
-			if (reader.isReadable(type, mediaType)) {
-				return (T) reader.readFrom(type, mediaType, is);
-			}
+		final Optional<BodyReader<?>> reader = this.readerCache.get(new Key(type, mediaType),
+				k -> readers().stream().filter(r -> r.isReadable(type, mediaType)).findFirst());
+		if (!reader.isPresent()) {
+			throw new IOException("Unable to read! [type=" + type + ",mediaType=" + mediaType + "]");
 		}
-		throw new IOException("Unable to read! [type=" + type + ",mediaType=" + mediaType + "]");
+		return (T) reader.get().readFrom(type, mediaType, is);
 	}
 
 	/**
@@ -68,12 +88,104 @@ public class Serialiser {
 	 */
 	@SuppressWarnings({ "unchecked", "rawtypes" })
 	public <T> void writeTo(T t, Type type, MediaType mediaType, OutputStream os) throws IOException {
-		for (BodyWriter<?> writer : this.writers) {
-			if (writer.isWriteable(type, mediaType)) {
-				((BodyWriter) writer).writeTo(t, type, mediaType, os);
-				return;
+		final Optional<BodyWriter<?>> writer = this.writerCache.get(new Key(type, mediaType),
+				k -> writers().stream().filter(w -> w.isWriteable(type, mediaType)).findFirst());
+		if (!writer.isPresent()) {
+			throw new IOException("Unable to write! [type=" + type + ",mediaType=" + mediaType + "]");
+		}
+		((BodyWriter) writer.get()).writeTo(t, type, mediaType, os);
+	}
+
+	/**
+	 * @return the readers in priority order.
+	 */
+	private List<BodyReader<?>> readers() {
+		List<BodyReader<?>> readers = this.sortedReaders;
+		if (readers == null) {
+			this.sortedReaders = readers = sort(this.readers);
+		}
+		return readers;
+	}
+
+	/**
+	 * @return the writers in priority order.
+	 */
+	private List<BodyWriter<?>> writers() {
+		List<BodyWriter<?>> writers = this.sortedWriters;
+		if (writers == null) {
+			this.sortedWriters = writers = sort(this.writers);
+		}
+		return writers;
+	}
+
+
+	// --- Static Methods ---
+
+	/**
+	 * 
+	 * @param instances
+	 * @return
+	 */
+	private static <T> List<T> sort(Iterable<T> instances) {
+		final List<T> sorted = new ArrayList<>();
+		for (T t : instances) {
+			sorted.add(t);
+		}
+		sorted.sort(Comparator.comparingInt(Serialiser::getPriority)); // stable, so otherwise in discovery order
+		return unmodifiableList(sorted);
+	}
+
+	/**
+	 * Returns the {@link Priority#value()} if available or 5000 if not. The class hierarchy is searched as the
+	 * instance may be a proxy.
+	 * 
+	 * @param obj
+	 * @return
+	 */
+	private static int getPriority(Object obj) {
+		for (Class<?> cls = obj.getClass(); cls != null; cls = cls.getSuperclass()) {
+			final Priority priority = cls.getAnnotation(Priority.class);
+			if (priority != null) {
+				return priority.value();
+			}
+		}
+		return 5000;
+	}
+
+
+	// --- Inner Classes ---
+
+	/**
+	 * 
+	 * @author Daniel Siviter
+	 * @since v1.0 [19 Oct 2026]
+	 */
+	private static class Key {
+		private final Type type;
+		private final MediaType mediaType;
+		private final int hashCode;
+
+		Key(Type type, MediaType mediaType) {
+			this.type = type;
+			this.mediaType = mediaType;
+			this.hashCode = Objects.hash(type, mediaType);
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof Key)) {
+				return false;
 			}
+			final Key other = (Key) obj;
+			return Objects.equals(this.type, other.type) && Objects.equals(this.mediaType, other.mediaType);
 		}
-		throw new IOException("Unable to write! [type=" + type + ",mediaType=" + mediaType + "]");
 	}
 }
@@ -34,6 +34,37 @@ public class ByteBufferInputStream extends InputStream {
 
 	@Override
 	public int read() throws IOException {
-		return this.buf.hasRemaining() ? this.buf.get() : -1;
+		return this.buf.hasRemaining() ? this.buf.get() & 0xFF : -1;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		if (off < 0 || len < 0 || len > b.length - off) {
+			throw new IndexOutOfBoundsException();
+		}
+		if (len == 0) {
+			return 0;
+		}
+		if (!this.buf.hasRemaining()) {
+			return -1;
+		}
+		final int read = Math.min(len, this.buf.remaining());
+		this.buf.get(b, off, read);
+		return read;
+	}
+
+	@Override
+	public long skip(long n) throws IOException {
+		if (n <= 0) {
+			return 0;
+		}
+		final int skip = (int) Math.min(n, this.buf.remaining());
+		this.buf.position(this.buf.position() + skip);
+		return skip;
+	}
+
+	@Override
+	public int available() throws IOException {
+		return this.buf.remaining();
 	}
 }
\ No newline at end of file
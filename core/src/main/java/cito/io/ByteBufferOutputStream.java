@@ -0,0 +1,101 @@
+/*
+ * Copyright 2016-2017 Daniel Siviter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cito.io;
+
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+import javax.annotation.Nonnull;
+
+/**
+ * A growable {@link ByteBuffer} backed {@link OutputStream}. Unlike {@link java.io.ByteArrayOutputStream} the written
+ * bytes can be used via {@link #toByteBuffer()} without copying.
+ * <p/>
+ * {@link #close()} has no effect so the stream can be passed to code that closes it.
+ * 
+ * @author Daniel Siviter
+ * @since v1.0 [19 Oct 2026]
+ */
+public class ByteBufferOutputStream extends OutputStream {
+	private ByteBuffer buf;
+
+	/**
+	 * 
+	 * @param capacity the initial capacity.
+	 */
+	public ByteBufferOutputStream(int capacity) {
+		this.buf = ByteBuffer.allocate(capacity);
+	}
+
+	/**
+	 * 
+	 * @param remaining
+	 */
+	private void ensure(int remaining) {
+		if (this.buf.remaining() < remaining) {
+			final int capacity = Math.max(this.buf.capacity() * 2, this.buf.position() + remaining);
+			this.buf.flip();
+			this.buf = ByteBuffer.allocate(capacity).put(this.buf);
+		}
+	}
+
+	@Override
+	public void write(int b) {
+		ensure(1);
+		this.buf.put((byte) b);
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) {
+		if (off < 0 || len < 0 || len > b.length - off) {
+			throw new IndexOutOfBoundsException();
+		}
+		ensure(len);
+		this.buf.put(b, off, len);
+	}
+
+	/**
+	 * Writes the remaining bytes of the buffer.
+	 * 
+	 * @param src
+	 */
+	public void write(@Nonnull ByteBuffer src) {
+		ensure(src.remaining());
+		this.buf.put(src);
+	}
+
+	/**
+	 * @return the number of bytes written.
+	 */
+	public int size() {
+		return this.buf.position();
+	}
+
+	/**
+	 * @return a view of the bytes written so far, positioned at zero. This shares content with the stream so is only
+	 *         valid until the next write.
+	 */
+	public ByteBuffer toByteBuffer() {
+		final ByteBuffer view = this.buf.duplicate();
+		view.flip();
+		return view;
+	}
+
+	@Override
+	public void close() {
+		// nothing to do
+	}
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2016-2017 Daniel Siviter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cito.jms;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nonnull;
+import javax.jms.Destination;
+import javax.jms.JMSConsumer;
+import javax.jms.JMSContext;
+import javax.jms.JMSException;
+import javax.jms.JMSProducer;
+import javax.jms.JMSRuntimeException;
+import javax.jms.Message;
+import javax.jms.TemporaryQueue;
+
+/**
+ * An alternative to {@link Requestor} that multiplexes any number of concurrent requests over a single temporary reply
+ * queue. Each request is given a unique {@code JMSCorrelationID} which the reply is matched on, so many requests can
+ * be in flight at once without a consumer or temporary destination each.
+ * <p/>
+ * Replies are received asynchronously on a context created from, and sharing the connection of, the given context. As
+ * a {@link JMSContext} is not thread safe the given context is only used while holding the lock of this instance.
+ * 
+ * @author Daniel Siviter
+ * @since v1.0 [19 Oct 2026]
+ * @see Requestor
+ */
+public class MultiplexRequestor implements AutoCloseable {
+	private final ConcurrentMap<String, CompletableFuture<Message>> pending = new ConcurrentHashMap<>();
+	private final String prefix = UUID.randomUUID().toString().concat("-");
+	private final AtomicLong counter = new AtomicLong();
+	private final JMSContext context;
+	private final JMSContext replyContext;
+	private final JMSProducer producer;
+	private final TemporaryQueue replyQueue;
+	private final JMSConsumer consumer;
+	private final ScheduledExecutorService scheduler;
+
+	/**
+	 * 
+	 * @param context the context to send requests with.
+	 * @param scheduler used to time out requests.
+	 * @throws JMSRuntimeException if the JMS provider fails to create the reply queue or consumer.
+	 */
+	public MultiplexRequestor(@Nonnull JMSContext context, @Nonnull ScheduledExecutorService scheduler) {
+		this.context = requireNonNull(context);
+		this.scheduler = requireNonNull(scheduler);
+		this.producer = context.createProducer();
+		this.replyContext = context.createContext(JMSContext.AUTO_ACKNOWLEDGE);
+		this.replyQueue = this.replyContext.createTemporaryQueue();
+		this.consumer = this.replyContext.createConsumer(this.replyQueue);
+		this.consumer.setMessageListener(this::onReply);
+	}
+
+	/**
+	 * @return a new message to use as a request.
+	 */
+	public synchronized Message createMessage() {
+		return this.context.createMessage();
+	}
+
+	/**
+	 * Sends a request. If no reply is received in time the future completes exceptionally with a
+	 * {@link TimeoutException} and any later reply is discarded.
+	 * 
+	 * @param dest the destination to send the request to.
+	 * @param message the request.
+	 * @param timeout
+	 * @param unit
+	 * @return a future completed with the first reply.
+	 * @throws JMSException if the request could not be sent.
+	 * @throws JMSRuntimeException if the request could not be sent.
+	 */
+	public CompletableFuture<Message> request(
+			@Nonnull Destination dest,
+			@Nonnull Message message,
+			long timeout,
+			@Nonnull TimeUnit unit)
+					throws JMSException
+	{
+		final String correlationId = this.prefix.concat(Long.toString(this.counter.getAndIncrement()));
+		final CompletableFuture<Message> future = new CompletableFuture<>();
+		this.pending.put(correlationId, future);
+
+		final ScheduledFuture<?> timer = this.scheduler.schedule(() -> {
+			if (this.pending.remove(correlationId, future)) {
+				future.completeExceptionally(new TimeoutException("No reply! [correlationId=" + correlationId + "]"));
+			}
+		}, timeout, unit);
+		future.whenComplete((r, e) -> timer.cancel(false));
+
+		try {
+			message.setJMSCorrelationID(correlationId);
+			message.setJMSReplyTo(this.replyQueue);
+			synchronized (this) {
+				this.producer.send(dest, message);
+			}
+		} catch (JMSException | RuntimeException e) {
+			this.pending.remove(correlationId);
+			timer.cancel(false);
+			throw e;
+		}
+		return future;
+	}
+
+	/**
+	 * @return the number of requests awaiting a reply.
+	 */
+	public int pendingCount() {
+		return this.pending.size();
+	}
+
+	/**
+	 * 
+	 * @param reply
+	 */
+	private void onReply(Message reply) {
+		final String correlationId;
+		try {
+			correlationId = reply.getJMSCorrelationID();
+		} catch (JMSException e) {
+			return; // cannot be matched to a request
+		}
+		final CompletableFuture<Message> future = correlationId != null ? this.pending.remove(correlationId) : null;
+		if (future != null) {
+			future.complete(reply);
+		}
+	}
+
+	/**
+	 * Closes the {@code MultiplexRequestor}. Any requests awaiting a reply are completed exceptionally.
+	 */
+	@Override
+	public void close() {
+		try {
+			this.consumer.close();
+			this.replyQueue.delete();
+			this.replyContext.close();
+		} catch (JMSException e) {
+			throw new JMSRuntimeException(e.getMessage(), e.getErrorCode(), e);
+		} finally {
+			this.pending.forEach((k, f) -> f.completeExceptionally(new IllegalStateException("Requestor closed!")));
+			this.pending.clear();
+		}
+	}
+}
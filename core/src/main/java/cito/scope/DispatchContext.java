@@ -0,0 +1,114 @@
+/*
+ * Copyright 2016-2017 Daniel Siviter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cito.scope;
+
+import javax.annotation.Nonnull;
+import javax.websocket.Session;
+
+import cito.PathParser;
+import cito.QuietClosable;
+import cito.event.Message;
+
+/**
+ * The state of the dispatch in progress on the current thread; the WebSocket {@link Session}, the client
+ * {@link Message} and the {@link PathParser} of the observer being notified. A single instance is created per thread
+ * and reused so a dispatch only assigns fields rather than setting and removing a {@link ThreadLocal} for each.
+ * 
+ * @author Daniel Siviter
+ * @since v1.0 [19 Oct 2026]
+ */
+public final class DispatchContext implements QuietClosable {
+	private static final ThreadLocal<DispatchContext> CURRENT = ThreadLocal.withInitial(DispatchContext::new);
+
+	private Session session;
+	private Message message;
+	private PathParser pathParser;
+
+	private DispatchContext() { }
+
+	/**
+	 * Activates the context for the session. Closing the returned {@link QuietClosable} clears everything held.
+	 * 
+	 * @param session
+	 * @return
+	 * @throws IllegalStateException if a session is already active.
+	 */
+	public QuietClosable activate(@Nonnull Session session) {
+		if (this.session != null) {
+			throw new IllegalStateException("Session already set! [expected=" + this.session.getId() + ",current=" + session.getId() + "]");
+		}
+		this.session = session;
+		return this;
+	}
+
+	/**
+	 * @return the current session or {@code null} if not active.
+	 */
+	public Session session() {
+		return this.session;
+	}
+
+	/**
+	 * 
+	 * @param message the message or {@code null} to clear.
+	 * @throws IllegalStateException if a message is already set.
+	 */
+	public void message(Message message) {
+		if (message != null && this.message != null) {
+			throw new IllegalStateException("Already set!");
+		}
+		this.message = message;
+	}
+
+	/**
+	 * @return the client message or {@code null} if not set.
+	 */
+	public Message message() {
+		return this.message;
+	}
+
+	/**
+	 * 
+	 * @param pathParser the parser or {@code null} to clear.
+	 */
+	public void pathParser(PathParser pathParser) {
+		this.pathParser = pathParser;
+	}
+
+	/**
+	 * @return the path parser or {@code null} if not set.
+	 */
+	public PathParser pathParser() {
+		return this.pathParser;
+	}
+
+	@Override
+	public void close() {
+		this.session = null;
+		this.message = null;
+		this.pathParser = null;
+	}
+
+
+	// --- Static Methods ---
+
+	/**
+	 * @return the context for the current thread.
+	 */
+	public static DispatchContext current() {
+		return CURRENT.get();
+	}
+}
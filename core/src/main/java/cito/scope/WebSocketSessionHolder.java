@@ -33,8 +33,6 @@ import cito.annotation.WebSocketScope;
  */
 @ApplicationScoped
 public class WebSocketSessionHolder {
-	private final ThreadLocal<Session> session = new ThreadLocal<>();
-
 	@Inject
 	private Logger log;
 
@@ -44,11 +42,7 @@ public class WebSocketSessionHolder {
 	 */
 	public QuietClosable set(Session session) {
 		this.log.debug("Setting session. [sessionId={}]", session.getId());
-		if (this.session.get() != null) {
-			throw new IllegalStateException("Session already set! [expected=" + this.session.get().getId() + ",current=" + session.getId() + "]");
-		}
-		this.session.set(session);
-		return () -> this.session.remove();
+		return DispatchContext.current().activate(session);
 	}
 
 	/**
@@ -57,6 +51,6 @@ public class WebSocketSessionHolder {
 	 */
 	@Produces @WebSocketScope
 	public Session get() {
-		return this.session.get();
+		return DispatchContext.current().session();
 	}
 }
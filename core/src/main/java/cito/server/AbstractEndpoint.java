@@ -17,31 +17,44 @@ package cito.server;
 
 import static cito.server.Extension.webSocketContext;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+
 import javax.enterprise.event.Event;
 import javax.enterprise.inject.spi.BeanManager;
 import javax.inject.Inject;
 import javax.websocket.CloseReason;
+import javax.websocket.Decoder;
 import javax.websocket.Endpoint;
 import javax.websocket.EndpointConfig;
+import javax.websocket.MessageHandler;
 import javax.websocket.OnClose;
 import javax.websocket.OnError;
 import javax.websocket.OnMessage;
 import javax.websocket.OnOpen;
 import javax.websocket.Session;
 
+import org.apache.deltaspike.core.api.config.ConfigProperty;
 import org.slf4j.Logger;
 
 import cito.QuietClosable;
-import cito.annotation.FromClient;
 import cito.annotation.Qualifiers;
-import cito.event.ClientMessageProducer;
 import cito.event.Message;
+import cito.scope.DispatchContext;
 import cito.scope.WebSocketContext;
 import cito.server.ws.WebSocketConfigurator;
+import cito.stomp.Encoding;
 import cito.stomp.Frame;
 import cito.stomp.jms.Relay;
+import cito.stomp.ws.FrameAssembler;
 
 /**
+ * The annotated {@link #message(Session, Frame)} should only be bound to text messages, i.e. with
+ * {@link cito.stomp.ws.FrameDecoder.Text}, as a binary handler is added to each session: if
+ * {@code cito.stomp.largeMessageThreshold} is set binary messages are assembled from partial messages by a
+ * {@link FrameAssembler}, otherwise they are decoded whole.
  * 
  * @author Daniel Siviter
  * @since v1.0 [15 Jul 2016]
@@ -55,12 +68,15 @@ public abstract class AbstractEndpoint extends Endpoint {
 	private SessionRegistry registry;
 	@Inject
 	private Relay relay;
-	@Inject @FromClient
-	private Event<Message> messageEvent;
+	@Inject
+	private EventDispatcher dispatcher;
 	@Inject
 	private Event<Session> sessionEvent;
 	@Inject
 	private Event<Throwable> errorEvent;
+	@Inject
+	@ConfigProperty(name = "cito.stomp.largeMessageThreshold", defaultValue = "0")
+	private int largeMessageThreshold;
 
 	@OnOpen
 	@Override
@@ -72,6 +88,15 @@ public abstract class AbstractEndpoint extends Endpoint {
 				session.getUserPrincipal());
 		final SecurityContext securityCtx = WebSocketConfigurator.removeSecurityContext(config.getUserProperties(), httpSessionId);
 		SecurityContextProducer.set(session, securityCtx);
+		if (hasBinaryDecoder(config)) {  // a second binary handler is not permitted
+			if (this.largeMessageThreshold > 0) {
+				this.log.warn("Binary decoder configured, large messages will not be assembled! [id={}]", session.getId());
+			}
+		} else if (this.largeMessageThreshold > 0) {
+			session.addMessageHandler(ByteBuffer.class, new FrameAssembler(f -> message(session, f), this.largeMessageThreshold));
+		} else {
+			session.addMessageHandler(ByteBuffer.class, (MessageHandler.Whole<ByteBuffer>) b -> message(session, decode(b)));
+		}
 		try (QuietClosable c = webSocketContext(this.beanManager).activate(session)) {
 			this.registry.register(session);
 			this.sessionEvent.select(Qualifiers.onOpen()).fire(session);
@@ -89,11 +114,42 @@ public abstract class AbstractEndpoint extends Endpoint {
 		this.log.debug("Received message from client. [id={},principle={},command={}]", sessionId, session.getUserPrincipal(), frame.getCommand());
 		try (QuietClosable c = webSocketContext(this.beanManager).activate(session)) {
 			final Message event = new Message(sessionId, frame);
-			try (QuietClosable closable = ClientMessageProducer.set(event)) {
-				this.relay.fromClient(event); // due to no @Observe @Priority we need to ensure the relay gets this first
-				this.messageEvent.fire(event);
+			DispatchContext.current().message(event); // cleared with the scope
+			this.relay.fromClient(event); // due to no @Observe @Priority we need to ensure the relay gets this first
+			this.dispatcher.dispatch(session, event);
+		}
+	}
+
+	/**
+	 * 
+	 * @param buf
+	 * @return the frame.
+	 * @throws UncheckedIOException if the frame is invalid.
+	 */
+	private static Frame decode(ByteBuffer buf) {
+		try {
+			return Encoding.from(buf);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * 
+	 * @param config
+	 * @return {@code true} if a decoder means {@link #message(Session, Frame)} will also receive binary messages.
+	 */
+	private static boolean hasBinaryDecoder(EndpointConfig config) {
+		final List<Class<? extends Decoder>> decoders = config.getDecoders();
+		if (decoders == null) {
+			return false;
+		}
+		for (Class<? extends Decoder> decoder : decoders) {
+			if (Decoder.Binary.class.isAssignableFrom(decoder) || Decoder.BinaryStream.class.isAssignableFrom(decoder)) {
+				return true;
 			}
 		}
+		return false;
 	}
 
 	@OnError
@@ -111,10 +167,12 @@ public abstract class AbstractEndpoint extends Endpoint {
 	public void onClose(Session session, CloseReason reason) {
 		this.log.info("WebSocket connection closed. [id={},principle={},code={},reason={}]", session.getId(), session.getUserPrincipal(), reason.getCloseCode(), reason.getReasonPhrase());
 		final WebSocketContext ctx = webSocketContext(this.beanManager);
-		try (QuietClosable c = ctx.activate(session)) {
-			this.registry.unregister(session);
-			this.sessionEvent.select(Qualifiers.onClose()).fire(session);
-		}
-		ctx.dispose(session);
+		this.dispatcher.close(session, () -> {
+			try (QuietClosable c = ctx.activate(session)) {
+				this.registry.unregister(session);
+				this.sessionEvent.select(Qualifiers.onClose()).fire(session);
+			}
+			ctx.dispose(session);
+		});
 	}
 }
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2016-2017 Daniel Siviter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cito.server;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+import javax.enterprise.inject.spi.ObserverMethod;
+
+import cito.BoundedCache;
+import cito.Glob;
+import cito.PathParser;
+import cito.ReflectionUtil;
+import cito.event.Message;
+
+/**
+ * An index of observer methods by their destination pattern, e.g. {@code @OnSend("/topic/{param}")}. Literal
+ * destinations are held in a map and patterns are held in a trie keyed by their literal prefix, so only candidates
+ * that could possibly match are tested. Resolved destinations are held in a {@link BoundedCache}.
+ * 
+ * @author Daniel Siviter
+ * @since v1.0 [19 Oct 2026]
+ */
+public class DispatchIndex {
+	static final DispatchIndex EMPTY = new DispatchIndex();
+	private static final int MAX_CACHED = 1_024;
+
+	private final Map<String, List<Target>> literals = new HashMap<>();
+	private final Node root = new Node();
+	private final BoundedCache<String, List<Target>> cache = new BoundedCache<>(MAX_CACHED);
+
+	private DispatchIndex() { }
+
+	/**
+	 * 
+	 * @param annotation the qualifier holding the destination pattern as its {@code value}.
+	 * @param observers
+	 */
+	public <A extends Annotation> DispatchIndex(@Nonnull Class<A> annotation, @Nonnull Collection<ObserverMethod<Message>> observers) {
+		int order = 0;
+		for (ObserverMethod<Message> om : observers) {
+			for (Annotation a : om.getObservedQualifiers()) {
+				if (!annotation.isInstance(a)) {
+					continue;
+				}
+				final String pattern = ReflectionUtil.invoke(a, "value");
+				final Target target = new Target(order++, om, pattern);
+				final int wildcard = wildcard(pattern);
+				if (wildcard < 0) {
+					this.literals.computeIfAbsent(pattern, k -> new ArrayList<>(1)).add(target);
+				} else {
+					this.root.put(pattern, 0, wildcard, target);
+				}
+			}
+		}
+	}
+
+	/**
+	 * 
+	 * @param destination
+	 * @return the targets whose pattern matches the destination in the order they were registered.
+	 */
+	public List<Target> resolve(String destination) {
+		if (destination == null) {
+			return emptyList();
+		}
+		return this.cache.get(destination, this::match);
+	}
+
+	/**
+	 * 
+	 * @param destination
+	 * @return
+	 */
+	private List<Target> match(String destination) {
+		final List<Target> targets = new ArrayList<>(this.literals.getOrDefault(destination, emptyList()));
+		Node node = this.root;
+		for (int i = 0; node != null; i++) {
+			for (Target t : node.targets) {
+				if (t.glob.matches(destination)) {
+					targets.add(t);
+				}
+			}
+			node = i < destination.length() ? node.children.get(destination.charAt(i)) : null;
+		}
+		if (targets.isEmpty()) {
+			return emptyList();
+		}
+		targets.sort((a, b) -> Integer.compare(a.order, b.order));
+		return unmodifiableList(targets);
+	}
+
+
+	// --- Static Methods ---
+
+	/**
+	 * 
+	 * @param pattern
+	 * @return the index of the first glob special character or {@code -1} if it's a literal.
+	 */
+	private static int wildcard(String pattern) {
+		for (int i = 0; i < pattern.length(); i++) {
+			switch (pattern.charAt(i)) {
+			case '*':
+			case '?':
+			case '[':
+			case '{':
+			case '\\':
+				return i;
+			default:
+				break;
+			}
+		}
+		return -1;
+	}
+
+
+	// --- Inner Classes ---
+
+	/**
+	 * An observer method and the pattern it was resolved for.
+	 * 
+	 * @author Daniel Siviter
+	 * @since v1.0 [19 Oct 2026]
+	 */
+	public static class Target {
+		private final int order;
+		private final ObserverMethod<Message> observerMethod;
+		private final Glob glob;
+		private final PathParser pathParser;
+
+		private Target(int order, ObserverMethod<Message> observerMethod, String pattern) {
+			this.order = order;
+			this.observerMethod = observerMethod;
+			this.glob = new Glob(pattern);
+			this.pathParser = PathParser.create(pattern);
+		}
+
+		/**
+		 * @return the observer method.
+		 */
+		public ObserverMethod<Message> observerMethod() {
+			return this.observerMethod;
+		}
+
+		/**
+		 * @return the parser for the pattern the observer was registered with.
+		 */
+		public PathParser pathParser() {
+			return this.pathParser;
+		}
+	}
+
+	/**
+	 * 
+	 * @author Daniel Siviter
+	 * @since v1.0 [19 Oct 2026]
+	 */
+	private static class Node {
+		private final Map<Character, Node> children = new HashMap<>();
+		private final List<Target> targets = new ArrayList<>(1);
+
+		/**
+		 * 
+		 * @param pattern
+		 * @param i
+		 * @param prefixEnd
+		 * @param target
+		 */
+		void put(String pattern, int i, int prefixEnd, Target target) {
+			if (i == prefixEnd) {
+				this.targets.add(target);
+				return;
+			}
+			this.children.computeIfAbsent(pattern.charAt(i), k -> new Node()).put(pattern, i + 1, prefixEnd, target);
+		}
+	}
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright 2016-2017 Daniel Siviter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cito.server;
+
+import static cito.annotation.Qualifiers.onError;
+import static cito.server.Extension.webSocketContext;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.annotation.Nonnull;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Event;
+import javax.enterprise.inject.spi.BeanManager;
+import javax.inject.Inject;
+import javax.websocket.Session;
+
+import org.apache.deltaspike.core.api.config.ConfigProperty;
+import org.slf4j.Logger;
+
+import cito.QuietClosable;
+import cito.annotation.FromClient;
+import cito.event.Message;
+import cito.scope.DispatchContext;
+
+/**
+ * Delivers client {@link Message} events to application observers. By default this is done on the calling thread,
+ * however if {@code cito.event.async} is enabled events are handed to a bounded pool of workers. Events for a
+ * session are always delivered in the order received and the {@link Message} and
+ * {@link cito.annotation.WebSocketScope} are established on the worker thread before the observers are notified. As
+ * the container no longer sees observer failures these are fired as an {@link cito.annotation.OnError} event instead.
+ * 
+ * @author Daniel Siviter
+ * @since v1.0 [19 Oct 2026]
+ */
+@ApplicationScoped
+public class EventDispatcher {
+	private static final int MAX_BATCH = 64;
+
+	private final Map<String, Serial> serials = new ConcurrentHashMap<>();
+
+	@Inject
+	private Logger log;
+	@Inject
+	private BeanManager beanManager;
+	@Inject @FromClient
+	private Event<Message> messageEvent;
+	@Inject
+	private Event<Throwable> errorEvent;
+	@Inject
+	@ConfigProperty(name = "cito.event.async", defaultValue = "false")
+	private boolean async;
+	@Inject
+	@ConfigProperty(name = "cito.event.threads", defaultValue = "0")
+	private int threads;
+	@Inject
+	@ConfigProperty(name = "cito.event.queueSize", defaultValue = "1024")
+	private int queueSize;
+
+	private ExecutorService executor;
+	private Semaphore permits;
+
+	@PostConstruct
+	public void init() {
+		if (this.async) {
+			final int threads = this.threads > 0 ? this.threads : Runtime.getRuntime().availableProcessors();
+			this.log.info("Asynchronous event dispatch enabled. [threads={},queueSize={}]", threads, this.queueSize);
+			this.executor = Executors.newFixedThreadPool(threads);
+			this.permits = new Semaphore(this.queueSize);
+		}
+	}
+
+	/**
+	 * @return {@code true} if observers are notified on a worker thread.
+	 */
+	public boolean isAsync() {
+		return this.async;
+	}
+
+	/**
+	 * Fires the message to the observers. When synchronous the caller is expected to have the scope and
+	 * {@link DispatchContext} already established.
+	 * 
+	 * @param session
+	 * @param msg
+	 */
+	public void dispatch(@Nonnull Session session, @Nonnull Message msg) {
+		if (!this.async) {
+			this.messageEvent.fire(msg);
+			return;
+		}
+		serial(session.getId()).execute(() -> {
+			try (QuietClosable c = webSocketContext(this.beanManager).activate(session)) {
+				DispatchContext.current().message(msg);
+				try {
+					this.messageEvent.fire(msg);
+				} catch (RuntimeException e) {
+					this.log.warn("Unable to dispatch event! [sessionId={}]", session.getId(), e);
+					this.errorEvent.select(onError()).fire(e);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Runs the task once all pending events for the session have been delivered. No further events should be
+	 * dispatched for the session after this.
+	 * 
+	 * @param session
+	 * @param task
+	 */
+	public void close(@Nonnull Session session, @Nonnull Runnable task) {
+		if (!this.async) {
+			task.run();
+			return;
+		}
+		final String sessionId = session.getId();
+		serial(sessionId).execute(() -> {
+			try {
+				task.run();
+			} finally {
+				this.serials.remove(sessionId);
+			}
+		});
+	}
+
+	/**
+	 * 
+	 * @param sessionId
+	 * @return
+	 */
+	private Serial serial(String sessionId) {
+		return this.serials.computeIfAbsent(sessionId, k -> new Serial());
+	}
+
+	@PreDestroy
+	public void destroy() {
+		if (this.executor == null) {
+			return;
+		}
+		this.executor.shutdown();
+		try {
+			if (!this.executor.awaitTermination(1, TimeUnit.MINUTES)) {
+				this.log.warn("Shutdown did not complete in time!");
+				this.executor.shutdownNow();
+			}
+		} catch (InterruptedException e) {
+			this.log.warn("Shutdown interrupted!", e);
+			this.executor.shutdownNow();
+			Thread.currentThread().interrupt();
+		}
+	}
+
+
+	// --- Inner Classes ---
+
+	/**
+	 * Runs the tasks of a single session one at a time on the shared executor. Submission blocks once
+	 * {@code cito.event.queueSize} tasks are pending across all sessions.
+	 * 
+	 * @author Daniel Siviter
+	 * @since v1.0 [19 Oct 2026]
+	 */
+	private class Serial implements Runnable {
+		private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+		private final AtomicBoolean scheduled = new AtomicBoolean();
+
+		void execute(Runnable task) {
+			permits.acquireUninterruptibly();
+			this.tasks.add(task);
+			schedule();
+		}
+
+		private void schedule() {
+			if (!this.tasks.isEmpty() && this.scheduled.compareAndSet(false, true)) {
+				executor.execute(this);
+			}
+		}
+
+		@Override
+		public void run() {
+			try {
+				Runnable task;
+				// limit the batch so a busy session cannot starve the others
+				for (int i = 0; i < MAX_BATCH && (task = this.tasks.poll()) != null; i++) {
+					try {
+						task.run();
+					} catch (RuntimeException e) {
+						log.warn("Unable to dispatch event!", e);
+					} finally {
+						permits.release();
+					}
+				}
+			} finally {
+				this.scheduled.set(false);
+				schedule();
+			}
+		}
+	}
+}
@@ -15,29 +15,21 @@
  */
 package cito.server;
 
-import static cito.Util.getAnnotations;
-
-import java.lang.annotation.Annotation;
 import java.util.Map;
-import java.util.Set;
 import java.util.WeakHashMap;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.event.Observes;
 import javax.enterprise.inject.spi.BeanManager;
-import javax.enterprise.inject.spi.ObserverMethod;
 import javax.inject.Inject;
 
-import cito.Glob;
-import cito.PathParamProducer;
-import cito.QuietClosable;
-import cito.ReflectionUtil;
 import cito.annotation.OnConnected;
 import cito.annotation.OnDisconnect;
 import cito.annotation.OnSend;
 import cito.annotation.OnSubscribe;
 import cito.annotation.OnUnsubscribe;
 import cito.event.Message;
+import cito.scope.DispatchContext;
 
 /**
  * Fires off events related to destinations.
@@ -68,20 +60,20 @@ public class EventProducer {
 		}
 		case SEND: {
 			final String destination = msg.frame().destination();
-			notify(OnSend.class, extension.getMessageObservers(OnSend.class), destination, msg);
+			notify(extension.getDispatchIndex(OnSend.class), destination, msg);
 			break;
 		}
 		case SUBSCRIBE: {
 			final String id = msg.frame().subscription();
 			final String destination = msg.frame().destination();
 			idDestinationMap.put(id, destination);
-			notify(OnSubscribe.class, extension.getMessageObservers(OnSubscribe.class), destination, msg);
+			notify(extension.getDispatchIndex(OnSubscribe.class), destination, msg);
 			break;
 		}
 		case UNSUBSCRIBE: {
 			final String id = msg.frame().subscription();
 			final String destination = this.idDestinationMap.remove(id);
-			notify(OnUnsubscribe.class, extension.getMessageObservers(OnUnsubscribe.class), destination, msg);
+			notify(extension.getDispatchIndex(OnUnsubscribe.class), destination, msg);
 			break;
 		}
 		case DISCONNECT: {
@@ -98,21 +90,18 @@ public class EventProducer {
 
 	/**
 	 * 
-	 * @param annotation
-	 * @param observerMethods
+	 * @param index
 	 * @param destination
 	 * @param evt
 	 */
-	private static <A extends Annotation> void notify(Class<A> annotation, Set<ObserverMethod<Message>> observerMethods, String destination, Message evt) {
-		for (ObserverMethod<Message> om : observerMethods) {
-			for (A a : getAnnotations(annotation, om.getObservedQualifiers())) {
-				final String value = ReflectionUtil.invoke(a, "value");
-				if (!Glob.from(value).matches(destination)) {
-					continue;
-				}
-				try (QuietClosable closable = PathParamProducer.set(value)) {
-					om.notify(evt);
-				}
+	private static void notify(DispatchIndex index, String destination, Message evt) {
+		final DispatchContext ctx = DispatchContext.current();
+		for (DispatchIndex.Target t : index.resolve(destination)) {
+			ctx.pathParser(t.pathParser());
+			try {
+				t.observerMethod().notify(evt);
+			} finally {
+				ctx.pathParser(null);
 			}
 		}
 	}
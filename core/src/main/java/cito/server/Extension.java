@@ -54,6 +54,7 @@ import cito.scope.WebSocketSessionHolder;
 public class Extension implements javax.enterprise.inject.spi.Extension {
 	private final Map<Class<? extends Annotation>, Set<ObserverMethod<Message>>> messageObservers = new ConcurrentHashMap<>();
 	private final Map<Class<? extends Annotation>, Set<ObserverMethod<DestinationChanged>>> destinationObservers = new ConcurrentHashMap<>();
+	private final Map<Class<? extends Annotation>, DispatchIndex> dispatchIndexes = new ConcurrentHashMap<>();
 
 	private WebSocketContext webSocketContext;
 
@@ -108,6 +109,16 @@ public class Extension implements javax.enterprise.inject.spi.Extension {
 		return observers == null ? Collections.emptySet() : observers;
 	}
 
+	/**
+	 * 
+	 * @param qualifier one of {@link OnSend}, {@link OnSubscribe} or {@link OnUnsubscribe}.
+	 * @return the index of observers by destination.
+	 */
+	public DispatchIndex getDispatchIndex(Class<? extends Annotation> qualifier) {
+		final DispatchIndex index = this.dispatchIndexes.get(qualifier);
+		return index == null ? DispatchIndex.EMPTY : index;
+	}
+
 	/**
 	 * 
 	 * @param cls
@@ -174,6 +185,17 @@ public class Extension implements javax.enterprise.inject.spi.Extension {
 		this.webSocketContext.init(sessionHolder);
 	}
 
+	/**
+	 * Builds the destination indexes once all observers are known.
+	 * 
+	 * @param adv
+	 */
+	public void buildDispatchIndexes(@Observes AfterDeploymentValidation adv) {
+		this.dispatchIndexes.put(OnSend.class, new DispatchIndex(OnSend.class, getMessageObservers(OnSend.class)));
+		this.dispatchIndexes.put(OnSubscribe.class, new DispatchIndex(OnSubscribe.class, getMessageObservers(OnSubscribe.class)));
+		this.dispatchIndexes.put(OnUnsubscribe.class, new DispatchIndex(OnUnsubscribe.class, getMessageObservers(OnUnsubscribe.class)));
+	}
+
 	/**
 	 * 
 	 * @return
@@ -16,24 +16,37 @@
 package cito.server;
 
 import static cito.annotation.Qualifiers.fromServer;
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Objects.requireNonNull;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.security.Principal;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
 import javax.enterprise.context.Dependent;
 import javax.enterprise.event.Event;
 import javax.inject.Inject;
+import javax.websocket.Session;
 import javax.ws.rs.core.MediaType;
 
 import org.slf4j.Logger;
 
+import cito.event.Batch;
 import cito.event.Message;
 import cito.ext.Serialiser;
+import cito.io.ByteBufferOutputStream;
 import cito.stomp.Frame;
 import cito.stomp.Header;
 
@@ -45,12 +58,17 @@ import cito.stomp.Header;
  * 	&#064;Inject
  * 	private MessagingSupport support;
  * </pre>
+ * Payloads are serialised into a fresh buffer which becomes the frame body as is, avoiding the copy
+ * {@link java.io.ByteArrayOutputStream#toByteArray()} would make. Buffers are not pooled as {@code @FromServer}
+ * observers may retain the frame.
  * 
  * @author Daniel Siviter
  * @since v1.0 [27 Jul 2016]
  */
 @Dependent
 public class MessagingSupport {
+	private static final int INITIAL_CAPACITY = 256;
+
 	@Inject
 	private Logger log;
 	@Inject
@@ -59,6 +77,8 @@ public class MessagingSupport {
 	private SessionRegistry registry;
 	@Inject
 	private Serialiser serialiser;
+	@Inject
+	private Event<Batch> batchEvent;
 
 	/**
 	 * Broadcast to all users and all sessions subscribed to the {@code destination}.
@@ -106,13 +126,48 @@ public class MessagingSupport {
 		}
 		this.log.debug("Broadcasting... [destination={}]", destination);
 		try {
-			final Frame frame = Frame.send(destination, type, toByteBuffer(payload, type)).headers(headers).build();
+			final Frame frame = Frame.send(destination, type, write(payload, type)).headers(headers).build();
 			this.msgEvent.select(fromServer()).fire(new Message(frame));
 		} catch (IOException e) {
 			this.log.warn("Unable to broadcast message! [destination=" + destination + "]", e);
 		}
 	}
 
+	/**
+	 * Publish to all users and all sessions subscribed to each destination.
+	 * 
+	 * @param publications
+	 * @return a future completed once all have been sent.
+	 * @see #publish(Stream)
+	 */
+	public CompletableFuture<Void> publish(@Nonnull Collection<Publication> publications) {
+		return publish(publications.stream());
+	}
+
+	/**
+	 * Publish to all users and all sessions subscribed to each destination. The payloads are serialised on the calling
+	 * thread then sent to the broker in a single transaction, so either all or none are sent. Serialisation deliberately
+	 * stays off the application scheduler as that also drives heart beats, which a large batch could otherwise starve.
+	 * Callers wanting concurrency should partition the publications across their own bounded executor.
+	 * 
+	 * @param publications
+	 * @return a future completed once all have been sent.
+	 */
+	public CompletableFuture<Void> publish(@Nonnull Stream<Publication> publications) {
+		final CompletableFuture<Void> future = new CompletableFuture<>();
+		try {
+			final List<Frame> frames = publications.map(this::toFrame).collect(Collectors.toList());
+			this.log.debug("Publishing... [size={}]", frames.size());
+			if (!frames.isEmpty()) {
+				this.batchEvent.select(fromServer()).fire(new Batch(frames));
+			}
+			future.complete(null);
+		} catch (RuntimeException e) {
+			future.completeExceptionally(e);
+		}
+		return future;
+	}
+
 	/**
 	 * Broadcast to all sessions for the user defined by the {@link Principal}.
 	 * 
@@ -155,7 +210,8 @@ public class MessagingSupport {
 	}
 
 	/**
-	 * Broadcast to all sessions for the user defined by the {@link Principal}.
+	 * Broadcast to all sessions for the user defined by the {@link Principal}. The payload is serialised once and each
+	 * session's frame gets its own view of the body, so consuming one does not affect the others.
 	 * 
 	 * @param principal
 	 * @param destination the broadcast destination.
@@ -170,7 +226,28 @@ public class MessagingSupport {
 			@Nonnull Object payload,
 			Map<Header, String> headers)
 	{
-		this.registry.getSessions(principal).forEach(s -> sendTo(s.getId(), destination, payload, type, headers));
+		final Set<Session> sessions = this.registry.getSessions(principal);
+		if (sessions.isEmpty()) {
+			return;
+		}
+		if (type == null) {
+			type = MediaType.APPLICATION_JSON_TYPE;
+		}
+		this.log.debug("Broadcasting to sessions... [sessions={},destination={}]", sessions.size(), destination);
+		try {
+			final ByteBuffer body = write(payload, type);
+			final Frame.Builder builder = Frame.send(destination, type, body).headers(headers);
+			final Event<Message> event = this.msgEvent.select(fromServer());
+			for (Session session : sessions) {
+				final Frame.Builder frame = Frame.builder(builder).session(session.getId());
+				if (body != null) {
+					frame.remove(Header.Standard.CONTENT_LENGTH).body(null, body.duplicate());
+				}
+				event.fire(new Message(frame.build()));
+			}
+		} catch (IOException e) {
+			this.log.warn("Unable to broadcast message! [principal=" + principal.getName() + ",destination=" + destination + "]", e);
+		}
 	}
 
 	/**
@@ -234,27 +311,99 @@ public class MessagingSupport {
 		}
 		this.log.debug("Sending... [sessionId={},destination={}]", sessionId, destination);
 		try {
-			final Frame frame = Frame.send(destination, type, toByteBuffer(payload, type)).session(sessionId).headers(headers).build();
+			final Frame frame = Frame.send(destination, type, write(payload, type)).session(sessionId).headers(headers).build();
 			this.msgEvent.select(fromServer()).fire(new Message(frame));
 		} catch (IOException e) {
 			this.log.warn("Unable to send message! [sessionId=" + sessionId + ",destination=" + destination + "]", e);
 		}
 	}
 
+	/**
+	 * 
+	 * @param publication
+	 * @return the {@code SEND} frame.
+	 * @throws UncheckedIOException if the payload could not be serialised.
+	 */
+	private Frame toFrame(Publication publication) {
+		final MediaType type = publication.type() != null ? publication.type() : MediaType.APPLICATION_JSON_TYPE;
+		try {
+			final ByteBuffer body = write(publication.payload(), type);
+			return Frame.send(publication.destination(), type, body).headers(publication.headers()).build();
+		} catch (IOException e) {
+			throw new UncheckedIOException("Unable to serialise payload! [destination=" + publication.destination() + "]", e);
+		}
+	}
+
 	/**
 	 * 
 	 * @param obj
 	 * @param type
-	 * @return the object as a {@link ByteBuffer} or {@code null} if {@code obj} was {@code null}.
+	 * @return the object as a {@link ByteBuffer} owned by the caller, or {@code null} if {@code obj} was
+	 *         {@code null}.
 	 * @throws IOException
 	 */
-	private ByteBuffer toByteBuffer(Object obj, MediaType type) throws IOException {
+	private ByteBuffer write(Object obj, MediaType type) throws IOException {
 		if (obj == null) {
 			return null;
 		}
-		try (ByteArrayOutputStream os = new ByteArrayOutputStream()) {
-			this.serialiser.writeTo(obj, obj.getClass(), type, os);
-			return ByteBuffer.wrap(os.toByteArray());
+		final ByteBufferOutputStream os = new ByteBufferOutputStream(INITIAL_CAPACITY);
+		this.serialiser.writeTo(obj, obj.getClass(), type, os);
+		return os.toByteBuffer();
+	}
+
+
+	// --- Inner Classes ---
+
+	/**
+	 * A payload to publish to a destination.
+	 * 
+	 * @author Daniel Siviter
+	 * @since v1.0 [19 Oct 2026]
+	 */
+	@Immutable
+	public static class Publication {
+		private final String destination;
+		private final Object payload;
+		private final MediaType type;
+		private final Map<Header, String> headers;
+
+		/**
+		 * 
+		 * @param destination the publish destination.
+		 * @param payload the send payload.
+		 */
+		public Publication(@Nonnull String destination, @Nonnull Object payload) {
+			this(destination, payload, null, Collections.<Header, String>emptyMap());
+		}
+
+		/**
+		 * 
+		 * @param destination the publish destination.
+		 * @param payload the send payload.
+		 * @param type if {@code null} defaults to {@code application/json}.
+		 * @param headers
+		 */
+		public Publication(@Nonnull String destination, @Nonnull Object payload, MediaType type, Map<Header, String> headers) {
+			this.destination = requireNonNull(destination);
+			this.payload = requireNonNull(payload);
+			this.type = type;
+			this.headers = headers != null ? unmodifiableMap(new HashMap<>(headers)) : Collections.<Header, String>emptyMap();
+		}
+
+		public String destination() {
+			return destination;
+		}
+
+		public Object payload() {
+			return payload;
+		}
+
+		public MediaType type() {
+			return type;
+		}
+
+		public Map<Header, String> headers() {
+			return headers;
 		}
 	}
 }
@@ -16,27 +16,44 @@
 package cito.server;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.security.Principal;
+import java.util.AbstractSet;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.event.Observes;
 import javax.inject.Inject;
+import javax.websocket.CloseReason;
+import javax.websocket.CloseReason.CloseCodes;
 import javax.websocket.EncodeException;
 import javax.websocket.Session;
 
+import org.apache.deltaspike.core.api.config.ConfigProperty;
 import org.slf4j.Logger;
 
 import cito.annotation.FromBroker;
 import cito.event.Message;
 import cito.stomp.Frame;
+import cito.stomp.ws.PartialWriter;
 
 /**
+ * Registry of the open WebSocket sessions, indexed by ID and {@link Principal}.
+ * <p/>
+ * The sessions of a principal are held in a copy-on-write array as most principals only have a few sessions. Once
+ * there are more than {@link #MAX_ARRAY_SIZE}, as is the case for anonymous sessions, a concurrent set is used
+ * instead so registering doesn't copy an ever larger array. Either way the {@link Set} returned from
+ * {@link #getSessions(Principal)} is safe to iterate while sessions are being registered and unregistered.
+ * <p/>
+ * All writes to a session go through here and are serialised by a per-session lock, which a {@link PartialWriter}
+ * holds until the last partial message is sent, as a WebSocket does not permit other messages mid-stream.
  * 
  * @author Daniel Siviter
  * @since v1.0 [15 Jul 2016]
@@ -44,12 +61,17 @@ import cito.stomp.Frame;
 @ApplicationScoped
 public class SessionRegistry {
 	static final Principal NULL_PRINCIPLE = new NullPrinciple();
+	static final int MAX_ARRAY_SIZE = 16;
 
 	@Inject
 	private Logger log;
+	@Inject
+	@ConfigProperty(name = "cito.stomp.chunkSize", defaultValue = "16384")
+	private int chunkSize;
 
 	private final ConcurrentMap<String, Session> sessionMap = new ConcurrentHashMap<>();
-	private final ConcurrentMap<Principal, Set<Session>> principalSessionMap = new ConcurrentHashMap<>();
+	private final ConcurrentMap<Principal, Sessions> principalSessionMap = new ConcurrentHashMap<>();
+	private final ConcurrentMap<String, ReentrantLock> writeLocks = new ConcurrentHashMap<>();
 
 	/**
 	 * 
@@ -59,10 +81,11 @@ public class SessionRegistry {
 		final Session oldSession = this.sessionMap.put(session.getId(), session);
 		if (oldSession != null)
 			throw new IllegalArgumentException("Session already registered! [" + session.getId() + "]");
+		this.writeLocks.put(session.getId(), new ReentrantLock());
 		Principal principal = session.getUserPrincipal();
 		if (principal == null)
 			principal = NULL_PRINCIPLE;
-		this.principalSessionMap.compute(principal, (k, v) -> { v = v != null ? v : new HashSet<>(); v.add(session); return v; });
+		this.principalSessionMap.compute(principal, (k, v) -> v != null ? v.with(session) : new ArraySessions(session));
 	}
 
 	/**
@@ -74,10 +97,11 @@ public class SessionRegistry {
 		final Session oldSession = this.sessionMap.remove(sessionId);
 		if (oldSession == null)
 			throw new IllegalArgumentException("Session not registered! [" + sessionId + "]");
+		this.writeLocks.remove(sessionId);
 		Principal principal = session.getUserPrincipal();
 		if (principal == null)
 			principal = NULL_PRINCIPLE;
-		this.principalSessionMap.computeIfPresent(principal, (k, v) -> { v.remove(session); return v.isEmpty() ? null : v; });
+		this.principalSessionMap.computeIfPresent(principal, (k, v) -> v.without(session));
 	}
 
 	/**
@@ -92,11 +116,12 @@ public class SessionRegistry {
 	/**
 	 * 
 	 * @param principal
-	 * @return
+	 * @return an unmodifiable set of the sessions that is safe to iterate while sessions are changing. It may not
+	 *         reflect sessions registered or unregistered after it was returned.
 	 */
 	public Set<Session> getSessions(Principal principal) {
-		final Set<Session> sessions = this.principalSessionMap.get(principal);
-		return sessions != null ? Collections.unmodifiableSet(sessions) : Collections.emptySet();
+		final Sessions sessions = this.principalSessionMap.get(principal);
+		return sessions != null ? sessions.view() : Collections.emptySet();
 	}
 
 	/**
@@ -111,16 +136,228 @@ public class SessionRegistry {
 
 		final Session session = getSession(sessionId).orElseThrow(
 				() -> new IllegalStateException("Session does not exist! [" + sessionId + "]"));
+		final ReentrantLock lock = writeLock(sessionId);
+		lock.lock();
 		try {
 			session.getBasicRemote().sendObject(frame);
 		} catch (IOException | EncodeException e) {
 			this.log.warn("Unable to send message! [sessionid={},command={}]", sessionId, frame.getCommand(), e);
+		} finally {
+			lock.unlock();
 		}
 	}
 
 
+	/**
+	 * Sends an already encoded frame to the client.
+	 * 
+	 * @param sessionId
+	 * @param buf the encoded frame.
+	 * @throws IOException
+	 */
+	public void sendToClient(String sessionId, ByteBuffer buf) throws IOException {
+		if (this.chunkSize > 0 && buf.remaining() > this.chunkSize) {
+			try (PartialWriter writer = writer(sessionId)) {
+				try {
+					writer.write(buf);
+				} catch (IOException | RuntimeException e) {
+					writer.abort();
+					throw e;
+				}
+			}
+			return;
+		}
+		final Session session = session(sessionId);
+		final ReentrantLock lock = writeLock(sessionId);
+		lock.lock();
+		try {
+			session.getBasicRemote().sendBinary(buf);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Creates a writer which sends the encoded frame to the client in chunks. The frame is completed when the writer is
+	 * closed. No other message is sent to the session until then. If the writer is aborted the session is closed, as
+	 * the client cannot otherwise tell that the frame is incomplete.
+	 * 
+	 * @param sessionId
+	 * @return
+	 */
+	public PartialWriter writer(String sessionId) {
+		final Session session = session(sessionId);
+		final ReentrantLock lock = writeLock(sessionId);
+		lock.lock();
+		try {
+			return new PartialWriter(session.getBasicRemote(), this.chunkSize, lock::unlock, () -> abort(session));
+		} catch (RuntimeException e) {
+			lock.unlock();
+			throw e;
+		}
+	}
+
+	/**
+	 * Closes the session after a partially sent frame was abandoned.
+	 * 
+	 * @param session
+	 */
+	private void abort(Session session) {
+		this.log.warn("Frame abandoned, closing session! [sessionId={}]", session.getId());
+		try {
+			session.close(new CloseReason(CloseCodes.UNEXPECTED_CONDITION, "Frame abandoned!"));
+		} catch (IOException e) {
+			this.log.warn("Unable to close session! [sessionId={}]", session.getId(), e);
+		}
+	}
+
+	/**
+	 * 
+	 * @param sessionId
+	 * @return the lock serialising writes to the session.
+	 */
+	ReentrantLock writeLock(String sessionId) {
+		return this.writeLocks.computeIfAbsent(sessionId, k -> new ReentrantLock());
+	}
+
+	/**
+	 * 
+	 * @param sessionId
+	 * @return
+	 * @throws IllegalStateException if the session does not exist.
+	 */
+	private Session session(String sessionId) {
+		return getSession(sessionId).orElseThrow(
+				() -> new IllegalStateException("Session does not exist! [" + sessionId + "]"));
+	}
+
+
 	// --- Inner Classes ---
 
+	/**
+	 * The sessions of a principal. Only modified within the principal map's {@code compute} functions.
+	 * 
+	 * @author Daniel Siviter
+	 * @since v1.0 [19 Oct 2026]
+	 */
+	private interface Sessions {
+		/**
+		 * @return the instance holding the sessions.
+		 */
+		Sessions with(Session session);
+
+		/**
+		 * @return the instance holding the sessions or {@code null} if empty.
+		 */
+		Sessions without(Session session);
+
+		/**
+		 * @return a read-only view.
+		 */
+		Set<Session> view();
+	}
+
+	/**
+	 * An immutable array of sessions replaced on each change.
+	 * 
+	 * @author Daniel Siviter
+	 * @since v1.0 [19 Oct 2026]
+	 */
+	private static class ArraySessions extends AbstractSet<Session> implements Sessions {
+		private final Session[] sessions;
+
+		ArraySessions(Session... sessions) {
+			this.sessions = sessions;
+		}
+
+		@Override
+		public Sessions with(Session session) {
+			if (contains(session)) {
+				return this;
+			}
+			if (this.sessions.length >= MAX_ARRAY_SIZE) {
+				final ConcurrentSessions concurrent = new ConcurrentSessions(this);
+				return concurrent.with(session);
+			}
+			final Session[] sessions = Arrays.copyOf(this.sessions, this.sessions.length + 1);
+			sessions[this.sessions.length] = session;
+			return new ArraySessions(sessions);
+		}
+
+		@Override
+		public Sessions without(Session session) {
+			for (int i = 0; i < this.sessions.length; i++) {
+				if (this.sessions[i].equals(session)) {
+					if (this.sessions.length == 1) {
+						return null;
+					}
+					final Session[] sessions = new Session[this.sessions.length - 1];
+					System.arraycopy(this.sessions, 0, sessions, 0, i);
+					System.arraycopy(this.sessions, i + 1, sessions, i, sessions.length - i);
+					return new ArraySessions(sessions);
+				}
+			}
+			return this;
+		}
+
+		@Override
+		public Set<Session> view() {
+			return this;
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			for (Session session : this.sessions) {
+				if (session.equals(o)) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		@Override
+		public Iterator<Session> iterator() {
+			return Arrays.asList(this.sessions).iterator();
+		}
+
+		@Override
+		public int size() {
+			return this.sessions.length;
+		}
+	}
+
+	/**
+	 * A concurrent set of sessions for principals with many sessions.
+	 * 
+	 * @author Daniel Siviter
+	 * @since v1.0 [19 Oct 2026]
+	 */
+	private static class ConcurrentSessions implements Sessions {
+		private final Set<Session> sessions = ConcurrentHashMap.newKeySet();
+		private final Set<Session> view = Collections.unmodifiableSet(this.sessions);
+
+		ConcurrentSessions(Set<Session> sessions) {
+			this.sessions.addAll(sessions);
+		}
+
+		@Override
+		public Sessions with(Session session) {
+			this.sessions.add(session);
+			return this;
+		}
+
+		@Override
+		public Sessions without(Session session) {
+			this.sessions.remove(session);
+			return this.sessions.isEmpty() ? null : this;
+		}
+
+		@Override
+		public Set<Session> view() {
+			return this.view;
+		}
+	}
+
 	/**
 	 * 
 	 * @author Daniel Siviter
@@ -346,11 +346,31 @@ public class Builder {
 		private final int id;
 		private final List<FrameMatcher> frameMatchers;
 		private final List<SecurityMatcher> securityMatchers;
+		/** the commands this is restricted to, or {@code null} if any. */
+		final Set<Command> commands;
+		/** {@code true} if matching only depends on the command and destination so can be memoised. */
+		final boolean indexable;
 
 		public Limitation(List<FrameMatcher> frameMatchers, List<SecurityMatcher> securityMatchers) {
 			this.id = ID.incrementAndGet();
 			this.frameMatchers = unmodifiableList(new ArrayList<>(requireNonEmpty(frameMatchers)));
 			this.securityMatchers = unmodifiableList(new ArrayList<>(requireNonEmpty(securityMatchers)));
+
+			Set<Command> commands = null;
+			boolean indexable = true;
+			for (FrameMatcher matcher : this.frameMatchers) {
+				if (matcher instanceof CommandMatcher) {
+					if (commands == null) {
+						commands = EnumSet.copyOf(((CommandMatcher) matcher).commands);
+					} else {
+						commands.retainAll(((CommandMatcher) matcher).commands);
+					}
+				} else if (!(matcher instanceof DestinationMatcher) && !(matcher instanceof DestinationsMatcher)) {
+					indexable = false;
+				}
+			}
+			this.commands = commands;
+			this.indexable = indexable;
 		}
 
 		public int getId() {
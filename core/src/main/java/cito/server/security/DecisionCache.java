@@ -0,0 +1,154 @@
+/*
+ * Copyright 2016-2017 Daniel Siviter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cito.server.security;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.Nonnull;
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+import javax.inject.Provider;
+import javax.websocket.Session;
+
+import org.slf4j.Logger;
+
+import cito.BoundedCache;
+import cito.annotation.WebSocketScope;
+import cito.server.SecurityContext;
+import cito.server.SecurityContextProducer;
+import cito.stomp.Command;
+import cito.stomp.Frame;
+
+/**
+ * Caches the {@link SecurityRegistry#isPermitted(Frame, SecurityContext)} decision for a WebSocket session by command
+ * and destination. The cache is discarded whenever a {@link Builder.Limitation} is registered or the session's
+ * {@link SecurityContext} changes. Commands with limitations that depend on more than the destination are never
+ * cached.
+ * 
+ * @author Daniel Siviter
+ * @since v1.0 [19 Oct 2026]
+ */
+@WebSocketScope
+public class DecisionCache {
+	private static final int MAX_ENTRIES = 256;
+	private static final Object NULL_DESTINATION = new Object();
+
+	private final LongAdder lookups = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	@Inject
+	private Logger log;
+	@Inject
+	private SecurityRegistry registry;
+	@Inject
+	private Provider<Session> session;
+
+	private volatile Decisions decisions;
+
+	/**
+	 * 
+	 * @param frame
+	 * @param ctx
+	 * @return
+	 */
+	public boolean isPermitted(@Nonnull Frame frame, SecurityContext ctx) {
+		final Command command = frame.getCommand();
+		if (command == null || !this.registry.isCacheable(command)) {
+			return this.registry.isPermitted(frame, ctx);
+		}
+		final Decisions decisions = decisions();
+		final String destination = frame.destination();
+		final Object key = destination == null ? NULL_DESTINATION : destination;
+		final BoundedCache<Object, Boolean> cache = decisions.get(command);
+		this.lookups.increment();
+		return cache.get(key, k -> {
+			this.misses.increment();
+			return this.registry.isPermitted(frame, ctx);
+		});
+	}
+
+	/**
+	 * @return the decisions valid for the current registry version and security context.
+	 */
+	private Decisions decisions() {
+		final int version = this.registry.version();
+		final Object securityCtx = SecurityContextProducer.securityCtx(this.session.get());
+		Decisions decisions = this.decisions;
+		if (decisions == null || decisions.version != version || decisions.securityCtx != securityCtx) {
+			this.decisions = decisions = new Decisions(version, securityCtx);
+		}
+		return decisions;
+	}
+
+	/**
+	 * @return the number of decisions served from the cache.
+	 */
+	public long hitCount() {
+		return this.lookups.sum() - this.misses.sum();
+	}
+
+	/**
+	 * @return the number of decisions that had to be evaluated by the {@link SecurityRegistry}.
+	 */
+	public long missCount() {
+		return this.misses.sum();
+	}
+
+	/**
+	 * @return the ratio of hits to lookups, or {@code 0} if there has been none.
+	 */
+	public double hitRate() {
+		final long hits = hitCount();
+		final long total = hits + missCount();
+		return total == 0 ? 0 : (double) hits / total;
+	}
+
+	@PreDestroy
+	public void destroy() {
+		this.log.debug("Authorisation decision cache. [hits={},misses={},hitRate={}]", hitCount(), missCount(), hitRate());
+	}
+
+
+	// --- Inner Classes ---
+
+	/**
+	 * The decisions for a specific registry version and security context. A cache is only created for a command once
+	 * it is first evaluated as most sessions only ever use a few.
+	 * 
+	 * @author Daniel Siviter
+	 * @since v1.0 [19 Oct 2026]
+	 */
+	private static class Decisions {
+		private final ConcurrentMap<Command, BoundedCache<Object, Boolean>> caches = new ConcurrentHashMap<>();
+		private final int version;
+		private final Object securityCtx;
+
+		Decisions(int version, Object securityCtx) {
+			this.version = version;
+			this.securityCtx = securityCtx;
+		}
+
+		BoundedCache<Object, Boolean> get(Command command) {
+			final BoundedCache<Object, Boolean> cache = this.caches.get(command);
+			if (cache != null) {
+				return cache;
+			}
+			return this.caches.computeIfAbsent(command, c -> new BoundedCache<>(MAX_ENTRIES));
+		}
+	}
+}
@@ -16,10 +16,14 @@
 package cito.server.security;
 
 import static cito.ReflectionUtil.getAnnotationValue;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
 
+import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.LinkedHashSet;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.stream.Collectors;
@@ -31,19 +35,30 @@ import javax.enterprise.inject.Any;
 import javax.enterprise.inject.Instance;
 import javax.inject.Inject;
 
+import cito.BoundedCache;
 import cito.server.SecurityContext;
 import cito.server.security.Builder.Limitation;
+import cito.stomp.Command;
 import cito.stomp.Frame;
 
 /**
  * Registry should always allow {@code null} destinations.
+ * <p/>
+ * Rules are held in an immutable index which is replaced on registration, and the matching rules are memoised per
+ * command and destination in a {@link BoundedCache}. Evaluation is lock free: the index is read through a volatile
+ * field and cache reads do not lock. The only lock is taken when a new destination is added to a full cache and an
+ * entry is evicted.
  * 
  * @author Daniel Siviter
  * @since v1.0 [30 Aug 2016]
  */
 @ApplicationScoped
 public class SecurityRegistry {
-	private final Set<Limitation> limitations = new LinkedHashSet<>();
+	private static final int MAX_CACHED = 1_024;
+
+	private volatile List<Limitation> limitations = emptyList();
+	private volatile Index index = new Index(emptyList());
+	private volatile int version;
 
 	@Inject @Any
 	private Instance<SecurityCustomiser> customisers;
@@ -62,11 +77,26 @@ public class SecurityRegistry {
 	}
 
 	/**
+	 * Registration is copy-on-write so matching never needs to lock.
 	 * 
 	 * @param limitation
 	 */
 	public synchronized void register(Limitation limitation) {
-		this.limitations.add(limitation);
+		if (this.limitations.contains(limitation)) {
+			return;
+		}
+		final List<Limitation> limitations = new ArrayList<>(this.limitations);
+		limitations.add(limitation);
+		this.limitations = unmodifiableList(limitations);
+		this.index = new Index(this.limitations);
+		this.version++;
+	}
+
+	/**
+	 * @return a number that changes each time a {@link Limitation} is registered.
+	 */
+	public int version() {
+		return this.version;
 	}
 
 	/**
@@ -74,8 +104,17 @@ public class SecurityRegistry {
 	 * @param frame
 	 * @return
 	 */
-	public synchronized List<Limitation> getMatching(Frame frame) {
-		return this.limitations.stream().filter(e -> e.matches(frame)).collect(Collectors.toList());
+	public List<Limitation> getMatching(Frame frame) {
+		return this.index.matching(frame);
+	}
+
+	/**
+	 * 
+	 * @param command
+	 * @return {@code true} if the matching {@link Limitation}s for the command only depend on the destination.
+	 */
+	public boolean isCacheable(Command command) {
+		return this.index.cacheable(command);
 	}
 
 	/**
@@ -85,8 +124,9 @@ public class SecurityRegistry {
 	 * @return
 	 */
 	public boolean isPermitted(Frame frame, SecurityContext ctx) {
-		for (Limitation limitation : getMatching(frame)) {
-			if (!limitation.permitted(ctx)) {
+		final List<Limitation> matching = getMatching(frame);
+		for (int i = 0; i < matching.size(); i++) {
+			if (!matching.get(i).permitted(ctx)) {
 				return false;
 			}
 		}
@@ -129,4 +169,86 @@ public class SecurityRegistry {
 	private static int getPriority(SecurityCustomiser config) {
 		return getAnnotationValue(config, Priority.class, 5000);
 	}
+
+
+	// --- Inner Classes ---
+
+	/**
+	 * An immutable index of {@link Limitation}s by {@link Command}.
+	 * 
+	 * @author Daniel Siviter
+	 * @since v1.0 [19 Oct 2026]
+	 */
+	private static class Index {
+		private final Map<Command, Entry> entries = new EnumMap<>(Command.class);
+		private final Entry noCommand;
+
+		Index(List<Limitation> limitations) {
+			for (Command command : Command.values()) {
+				this.entries.put(command, new Entry(limitations, command));
+			}
+			this.noCommand = new Entry(limitations, null);
+		}
+
+		List<Limitation> matching(Frame frame) {
+			return entry(frame.getCommand()).matching(frame);
+		}
+
+		boolean cacheable(Command command) {
+			return entry(command).dynamic.isEmpty();
+		}
+
+		private Entry entry(Command command) {
+			return command == null ? this.noCommand : this.entries.get(command);
+		}
+	}
+
+	/**
+	 * The {@link Limitation}s for a single {@link Command}. Those that only depend on the command and destination are
+	 * memoised by destination, any others are evaluated every time.
+	 * 
+	 * @author Daniel Siviter
+	 * @since v1.0 [19 Oct 2026]
+	 */
+	private static class Entry {
+		private final List<Limitation> indexed = new ArrayList<>();
+		private final List<Limitation> dynamic = new ArrayList<>();
+		private final BoundedCache<String, List<Limitation>> cache = new BoundedCache<>(MAX_CACHED);
+		private volatile List<Limitation> nullDestination;
+
+		Entry(List<Limitation> limitations, Command command) {
+			for (Limitation l : limitations) {
+				if (l.commands != null && (command == null || !l.commands.contains(command))) {
+					continue;
+				}
+				(l.indexable ? this.indexed : this.dynamic).add(l);
+			}
+		}
+
+		List<Limitation> matching(Frame frame) {
+			List<Limitation> matching = emptyList();
+			if (!this.indexed.isEmpty()) {
+				final String destination = frame.destination();
+				if (destination != null) {
+					matching = this.cache.get(destination, d -> filter(this.indexed, frame));
+				} else {
+					matching = this.nullDestination;
+					if (matching == null) {
+						this.nullDestination = matching = filter(this.indexed, frame);
+					}
+				}
+			}
+			if (this.dynamic.isEmpty()) {
+				return matching;
+			}
+			final List<Limitation> all = new ArrayList<>(matching);
+			all.addAll(filter(this.dynamic, frame));
+			return all;
+		}
+
+		private static List<Limitation> filter(List<Limitation> limitations, Frame frame) {
+			final List<Limitation> matching = limitations.stream().filter(e -> e.matches(frame)).collect(Collectors.toList());
+			return matching.isEmpty() ? emptyList() : unmodifiableList(matching);
+		}
+	}
 }
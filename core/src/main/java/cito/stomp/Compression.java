@@ -0,0 +1,200 @@
+/*
+ * Copyright 2016-2017 Daniel Siviter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cito.stomp;
+
+import static cito.stomp.Header.Standard.CONTENT_LENGTH;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import javax.annotation.Nonnull;
+
+import cito.stomp.Header.Custom;
+
+/**
+ * Body compression. A client that can receive compressed bodies sends {@link Custom#ACCEPT_ENCODING} with
+ * {@link #DEFLATE} on {@code CONNECT}; if the server will compress it responds with {@link Custom#CONTENT_ENCODING} on
+ * {@code CONNECTED}. Compressed {@code MESSAGE} frames are then marked with {@link Custom#CONTENT_ENCODING}.
+ * <p/>
+ * A {@link Deflater} or {@link Inflater} is created per call and ended before returning so its native memory is
+ * released straight away rather than when it is finalised. Inflated bodies are limited in size, by default to
+ * {@link #MAX_INFLATED_SIZE}, to guard against highly compressed bodies exhausting memory.
+ * 
+ * @author Daniel Siviter
+ * @since v1.0 [19 Oct 2026]
+ */
+public enum Compression { ;
+	public static final String DEFLATE = "deflate";
+
+	public static final int MAX_INFLATED_SIZE = 16 * 1024 * 1024;
+
+	private static final int CHUNK_SIZE = 4 * 1024;
+
+	/**
+	 * 
+	 * @param frame
+	 * @return {@code true} if the frame accepts, or confirms, deflated bodies.
+	 */
+	public static boolean accepts(@Nonnull Frame frame) {
+		final String value = frame.getFirst(Custom.ACCEPT_ENCODING);
+		if (value == null) {
+			return DEFLATE.equals(frame.getFirst(Custom.CONTENT_ENCODING));
+		}
+		for (String encoding : value.split(",")) {
+			if (DEFLATE.equalsIgnoreCase(encoding.trim())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 
+	 * @param frame
+	 * @return {@code true} if the frame body is deflated.
+	 */
+	public static boolean isDeflated(@Nonnull Frame frame) {
+		return frame.getBody() != null && DEFLATE.equals(frame.getFirst(Custom.CONTENT_ENCODING));
+	}
+
+	/**
+	 * 
+	 * @param frame
+	 * @param body the deflated body.
+	 * @return a copy of the frame with the deflated body.
+	 */
+	public static Frame deflated(@Nonnull Frame frame, @Nonnull byte[] body) {
+		return Frame.builder(frame).remove(CONTENT_LENGTH)
+				.header(Custom.CONTENT_ENCODING, DEFLATE)
+				.body(null, ByteBuffer.wrap(body)).build();
+	}
+
+	/**
+	 * 
+	 * @param frame
+	 * @return a copy of the frame with the body inflated, or the frame if it is not deflated.
+	 * @throws IllegalArgumentException if the body is not valid or inflates to more than {@link #MAX_INFLATED_SIZE}.
+	 */
+	public static Frame inflated(@Nonnull Frame frame) {
+		return inflated(frame, MAX_INFLATED_SIZE);
+	}
+
+	/**
+	 * 
+	 * @param frame
+	 * @param maxSize the maximum size of the inflated body.
+	 * @return a copy of the frame with the body inflated, or the frame if it is not deflated.
+	 * @throws IllegalArgumentException if the body is not valid or inflates to more than {@code maxSize}.
+	 */
+	public static Frame inflated(@Nonnull Frame frame, int maxSize) {
+		if (!isDeflated(frame)) {
+			return frame;
+		}
+		return Frame.builder(frame).remove(CONTENT_LENGTH).remove(Custom.CONTENT_ENCODING)
+				.body(null, ByteBuffer.wrap(inflate(frame.getBody(), maxSize))).build();
+	}
+
+	/**
+	 * 
+	 * @param body
+	 * @return the deflated bytes. The buffer position is unchanged.
+	 */
+	public static byte[] deflate(@Nonnull ByteBuffer body) {
+		final Deflater deflater = new Deflater();
+		final byte[] chunk = new byte[CHUNK_SIZE];
+		try {
+			input(body, deflater::setInput);
+			deflater.finish();
+			final ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(body.remaining() / 2, 64));
+			while (!deflater.finished()) {
+				out.write(chunk, 0, deflater.deflate(chunk));
+			}
+			return out.toByteArray();
+		} finally {
+			deflater.end();
+		}
+	}
+
+	/**
+	 * 
+	 * @param body
+	 * @return the inflated bytes. The buffer position is unchanged.
+	 * @throws IllegalArgumentException if the body is not valid or inflates to more than {@link #MAX_INFLATED_SIZE}.
+	 */
+	public static byte[] inflate(@Nonnull ByteBuffer body) {
+		return inflate(body, MAX_INFLATED_SIZE);
+	}
+
+	/**
+	 * 
+	 * @param body
+	 * @param maxSize the maximum size of the inflated body.
+	 * @return the inflated bytes. The buffer position is unchanged.
+	 * @throws IllegalArgumentException if the body is not valid or inflates to more than {@code maxSize}.
+	 */
+	public static byte[] inflate(@Nonnull ByteBuffer body, int maxSize) {
+		final Inflater inflater = new Inflater();
+		final byte[] chunk = new byte[CHUNK_SIZE];
+		try {
+			input(body, inflater::setInput);
+			final ByteArrayOutputStream out = new ByteArrayOutputStream(
+					(int) Math.min((long) body.remaining() * 4, maxSize));
+			while (!inflater.finished()) {
+				final int len = inflater.inflate(chunk, 0, (int) Math.min(chunk.length, maxSize - out.size() + 1L));
+				if (len == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+					throw new DataFormatException("Truncated!");
+				}
+				if (out.size() + len > maxSize) {
+					throw new IllegalArgumentException("Inflated body too large! [max=" + maxSize + "]");
+				}
+				out.write(chunk, 0, len);
+			}
+			return out.toByteArray();
+		} catch (DataFormatException e) {
+			throw new IllegalArgumentException("Invalid deflated body!", e);
+		} finally {
+			inflater.end();
+		}
+	}
+
+	/**
+	 * Passes the remaining bytes to the consumer without copying if possible.
+	 */
+	private static void input(ByteBuffer body, Input input) {
+		if (body.hasArray()) {
+			input.set(body.array(), body.arrayOffset() + body.position(), body.remaining());
+		} else {
+			final byte[] bytes = new byte[body.remaining()];
+			body.duplicate().get(bytes);
+			input.set(bytes, 0, bytes.length);
+		}
+	}
+
+
+	// --- Inner Classes ---
+
+	/**
+	 * @author Daniel Siviter
+	 * @since v1.0 [19 Oct 2026]
+	 */
+	@FunctionalInterface
+	private interface Input {
+		void set(byte[] b, int off, int len);
+	}
+}
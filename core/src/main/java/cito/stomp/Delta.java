@@ -0,0 +1,349 @@
+/*
+ * Copyright 2016-2017 Daniel Siviter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cito.stomp;
+
+import static cito.stomp.Header.Standard.CONTENT_LENGTH;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+
+import javax.annotation.Nonnull;
+
+import cito.stomp.Header.Custom;
+
+/**
+ * Delta encoding of {@code MESSAGE} bodies. A subscription opts in by sending the {@link Custom#DELTA} header with
+ * {@code true} on {@code SUBSCRIBE}. Each {@code MESSAGE} is then marked with the {@link Custom#DELTA} header as either
+ * a {@link #SNAPSHOT}, carrying the full body, or a {@link #PATCH} to apply against the body of the previous message
+ * for that subscription. A patch also carries the {@link Custom#DELTA_BASE} header, the checksum of the body it applies
+ * to, so a client that has missed or failed to apply a message can detect it. The client then sends {@code SUBSCRIBE}
+ * again with the same {@code id} and a {@link Custom#DELTA} header of {@link #RESYNC} to receive a snapshot next.
+ * <p/>
+ * A patch is the length of the resulting body followed by a sequence of operations to either copy a range of the
+ * previous body or insert literal bytes. All numbers are unsigned variable length integers.
+ * 
+ * @author Daniel Siviter
+ * @since v1.0 [19 Oct 2026]
+ */
+public enum Delta { ;
+	public static final String SNAPSHOT = "snapshot";
+	public static final String PATCH = "patch";
+	public static final String RESYNC = "resync";
+
+	public static final int MAX_SIZE = 16 * 1024 * 1024;
+
+	private static final int MIN_MATCH = 8;
+	private static final int MAX_TABLE_BITS = 20;
+	private static final int COPY = 0;
+	private static final int INSERT = 1;
+
+	/**
+	 * 
+	 * @param frame
+	 * @return {@code true} if the frame requests, or is part of, delta encoding.
+	 */
+	public static boolean isDelta(@Nonnull Frame frame) {
+		final String value = frame.getFirst(Custom.DELTA);
+		return "true".equalsIgnoreCase(value) || SNAPSHOT.equals(value) || PATCH.equals(value) || RESYNC.equals(value);
+	}
+
+	/**
+	 * 
+	 * @param frame
+	 * @return {@code true} if the frame body is a patch.
+	 */
+	public static boolean isPatch(@Nonnull Frame frame) {
+		return PATCH.equals(frame.getFirst(Custom.DELTA));
+	}
+
+	/**
+	 * 
+	 * @param frame
+	 * @return {@code true} if the frame requests a snapshot for an existing subscription.
+	 */
+	public static boolean isResync(@Nonnull Frame frame) {
+		return RESYNC.equals(frame.getFirst(Custom.DELTA));
+	}
+
+	/**
+	 * 
+	 * @param frame the patch frame.
+	 * @param base the body the patch is to be applied to.
+	 * @return {@code true} if the patch was created from {@code base}.
+	 */
+	public static boolean isBase(@Nonnull Frame frame, @Nonnull byte[] base) {
+		return checksum(base).equals(frame.getFirst(Custom.DELTA_BASE));
+	}
+
+	/**
+	 * 
+	 * @param frame
+	 * @return a copy of the frame marked as a snapshot.
+	 */
+	public static Frame snapshot(@Nonnull Frame frame) {
+		return copy(frame, frame.getBody(), SNAPSHOT);
+	}
+
+	/**
+	 * 
+	 * @param frame
+	 * @param patch
+	 * @param base the body the patch was created from.
+	 * @return a copy of the frame with the patch as the body.
+	 */
+	public static Frame patch(@Nonnull Frame frame, @Nonnull byte[] patch, @Nonnull byte[] base) {
+		return Frame.builder(copy(frame, ByteBuffer.wrap(patch), PATCH)).header(Custom.DELTA_BASE, checksum(base)).build();
+	}
+
+	/**
+	 * 
+	 * @param frame the patch frame.
+	 * @param body the patched body.
+	 * @return a copy of the frame with the full body.
+	 */
+	public static Frame patched(@Nonnull Frame frame, @Nonnull byte[] body) {
+		return copy(frame, ByteBuffer.wrap(body), null);
+	}
+
+	/**
+	 * 
+	 * @param frame the snapshot frame.
+	 * @return a copy of the frame without the delta headers.
+	 */
+	public static Frame plain(@Nonnull Frame frame) {
+		return copy(frame, frame.getBody(), null);
+	}
+
+	/**
+	 * 
+	 * @param id the subscription identifier.
+	 * @param destination
+	 * @return a {@code SUBSCRIBE} frame requesting a snapshot for an existing subscription.
+	 */
+	public static Frame.Builder resync(@Nonnull String id, @Nonnull String destination) {
+		return Frame.subscribe(id, destination).header(Custom.DELTA, RESYNC);
+	}
+
+	/**
+	 * 
+	 * @param frame
+	 * @param body
+	 * @param delta the delta header value or {@code null} to omit it.
+	 * @return
+	 */
+	private static Frame copy(Frame frame, ByteBuffer body, String delta) {
+		final Frame.Builder builder = Frame.builder(frame).remove(CONTENT_LENGTH).remove(Custom.DELTA)
+				.remove(Custom.DELTA_BASE);
+		if (delta != null) {
+			builder.header(Custom.DELTA, delta);
+		}
+		return (body != null ? builder.body(null, body) : builder).build();
+	}
+
+	/**
+	 * 
+	 * @param source the previous body.
+	 * @param target the new body.
+	 * @return the patch to create {@code target} from {@code source}, or {@code null} if it is not smaller than
+	 *         {@code target}.
+	 */
+	public static byte[] diff(@Nonnull byte[] source, @Nonnull byte[] target) {
+		final int bits = Math.min(33 - Integer.numberOfLeadingZeros(Math.max(source.length, 1)), MAX_TABLE_BITS);
+		final int[] table = new int[1 << bits];
+		for (int i = 0; i + MIN_MATCH <= source.length; i++) {
+			table[hash(source, i, bits)] = i + 1;
+		}
+
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		varint(out, target.length);
+		int i = 0, pending = 0, expected = 0;
+		while (i + MIN_MATCH <= target.length) {
+			// favour continuing from the end of the last copy, as is the case for in-place edits
+			int offset = expected;
+			int length = match(source, offset, target, i);
+			if (length < MIN_MATCH) {
+				offset = table[hash(target, i, bits)] - 1;
+				length = offset < 0 ? 0 : match(source, offset, target, i);
+			}
+			if (length < MIN_MATCH) {
+				i++;
+				continue;
+			}
+			insert(out, target, pending, i - pending);
+			varint(out, ((long) length << 1) | COPY);
+			varint(out, offset);
+			i += length;
+			pending = i;
+			expected = offset + length;
+			if (out.size() >= target.length) {
+				return null;
+			}
+		}
+		insert(out, target, pending, target.length - pending);
+		return out.size() < target.length ? out.toByteArray() : null;
+	}
+
+	/**
+	 * 
+	 * @param source the previous body.
+	 * @param patch
+	 * @return the new body.
+	 * @throws IllegalArgumentException if the patch is invalid for the source or creates a body larger than
+	 *         {@link #MAX_SIZE}.
+	 */
+	public static byte[] apply(@Nonnull byte[] source, @Nonnull ByteBuffer patch) {
+		return apply(source, patch, MAX_SIZE);
+	}
+
+	/**
+	 * 
+	 * @param source the previous body.
+	 * @param patch
+	 * @param maxSize the maximum size of the new body.
+	 * @return the new body.
+	 * @throws IllegalArgumentException if the patch is invalid for the source or creates a body larger than
+	 *         {@code maxSize}.
+	 */
+	public static byte[] apply(@Nonnull byte[] source, @Nonnull ByteBuffer patch, int maxSize) {
+		final ByteBuffer in = patch.duplicate();
+		final long size = varint(in);
+		if (size > maxSize) {
+			throw new IllegalArgumentException("Patched body too large! [max=" + maxSize + "]");
+		}
+		final byte[] target = new byte[(int) size];
+		int pos = 0;
+		while (in.hasRemaining()) {
+			final long op = varint(in);
+			final int length = (int) (op >>> 1);
+			if (length < 0 || length > target.length - pos) {
+				throw new IllegalArgumentException("Invalid patch!");
+			}
+			if ((op & 1) == COPY) {
+				final long offset = varint(in);
+				if (offset + length > source.length) {
+					throw new IllegalArgumentException("Invalid patch!");
+				}
+				System.arraycopy(source, (int) offset, target, pos, length);
+			} else {
+				if (length > in.remaining()) {
+					throw new IllegalArgumentException("Invalid patch!");
+				}
+				in.get(target, pos, length);
+			}
+			pos += length;
+		}
+		if (pos != target.length) {
+			throw new IllegalArgumentException("Invalid patch!");
+		}
+		return target;
+	}
+
+	/**
+	 * 
+	 * @param body
+	 * @return the CRC-32 of the body as hex.
+	 */
+	public static String checksum(@Nonnull byte[] body) {
+		final CRC32 crc = new CRC32();
+		crc.update(body, 0, body.length);
+		return Long.toHexString(crc.getValue());
+	}
+
+	/**
+	 * 
+	 * @param buf
+	 * @return the remaining bytes of the buffer. The buffer position is unchanged.
+	 */
+	public static byte[] bytes(@Nonnull ByteBuffer buf) {
+		final byte[] bytes = new byte[buf.remaining()];
+		buf.duplicate().get(bytes);
+		return bytes;
+	}
+
+	/**
+	 * 
+	 * @param out
+	 * @param b
+	 * @param off
+	 * @param len
+	 */
+	private static void insert(ByteArrayOutputStream out, byte[] b, int off, int len) {
+		if (len > 0) {
+			varint(out, ((long) len << 1) | INSERT);
+			out.write(b, off, len);
+		}
+	}
+
+	/**
+	 * 
+	 * @return the number of matching bytes.
+	 */
+	private static int match(byte[] source, int sourceOff, byte[] target, int targetOff) {
+		int len = 0;
+		while (sourceOff + len < source.length && targetOff + len < target.length &&
+				source[sourceOff + len] == target[targetOff + len])
+		{
+			len++;
+		}
+		return len;
+	}
+
+	/**
+	 * 
+	 * @return the hash of the {@link #MIN_MATCH} bytes at the offset.
+	 */
+	private static int hash(byte[] b, int off, int bits) {
+		int h = 0;
+		for (int i = off; i < off + MIN_MATCH; i++) {
+			h = h * 31 + b[i];
+		}
+		return (h * 0x9E3779B1) >>> (32 - bits);
+	}
+
+	/**
+	 * 
+	 * @param out
+	 * @param value
+	 */
+	private static void varint(ByteArrayOutputStream out, long value) {
+		while ((value & ~0x7FL) != 0) {
+			out.write((int) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		out.write((int) value);
+	}
+
+	/**
+	 * 
+	 * @param in
+	 * @return
+	 */
+	private static long varint(ByteBuffer in) {
+		long value = 0;
+		for (int shift = 0; shift < 63; shift += 7) {
+			if (!in.hasRemaining()) {
+				throw new IllegalArgumentException("Invalid patch!");
+			}
+			final byte b = in.get();
+			value |= (long) (b & 0x7F) << shift;
+			if (b >= 0) {
+				return value;
+			}
+		}
+		throw new IllegalArgumentException("Invalid patch!");
+	}
+}
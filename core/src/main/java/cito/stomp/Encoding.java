@@ -21,7 +21,6 @@ import static java.nio.ByteBuffer.allocateDirect;
 import static java.nio.charset.StandardCharsets.UTF_8;
 
 import java.io.IOException;
-import java.nio.BufferOverflowException;
 import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
 import java.util.List;
@@ -43,19 +42,42 @@ public enum Encoding { ;
 	 * 
 	 * @param frame
 	 * @param direct
-	 * @param capacity
+	 * @param capacity the minimum capacity, this will be grown if the frame will not fit.
 	 * @return
-	 * @throws BufferOverflowException potentially thrown if there is insufficient space.
-	 * @see #DEFAULT_BUFFER_CAPACITY
-	 * @see ByteBuffer#put(byte)
+	 * @see #size(Frame)
 	 */
 	public static ByteBuffer from(Frame frame, boolean direct, int capacity) {
-		final ByteBuffer buf = direct ? allocateDirect(capacity) : allocate(capacity);
+		final int size = Math.max(capacity, size(frame));
+		final ByteBuffer buf = direct ? allocateDirect(size) : allocate(size);
 		write(frame, buf);
 		buf.flip();
 		return buf;
 	}
 
+	/**
+	 * 
+	 * @param frame
+	 * @return the number of bytes required to encode the frame.
+	 */
+	public static int size(Frame frame) {
+		if (frame.isHeartBeat()) {
+			return 1;
+		}
+		int size = frame.getCommand().name().length() + 1;
+		for (Entry<Header, List<String>> e : frame.getHeaders().entrySet()) {
+			final int keySize = utf8Length(e.getKey().value());
+			for (String value : e.getValue()) {
+				size += keySize + 1 + utf8Length(value) + 1;
+			}
+		}
+		size++;
+		final ByteBuffer body = frame.getBody();
+		if (body != null) {
+			size += body.remaining();
+		}
+		return size + 1;
+	}
+
 	/**
 	 * 
 	 * @param frame
@@ -116,6 +138,32 @@ public enum Encoding { ;
 		return builder.build();
 	}
 
+	/**
+	 * Creates a frame where the command and headers are separate from the body. This avoids parsing, and therefore
+	 * copying, a potentially very large body.
+	 * 
+	 * @param head the command and headers including the terminating blank line.
+	 * @param body the body excluding the terminating {@code NULL} octet. This is used as-is, so must not be modified
+	 * afterwards.
+	 * @return
+	 * @throws IOException
+	 */
+	public static Frame from(ByteBuffer head, ByteBuffer body) throws IOException {
+		skipEoL(head);
+
+		final CharBuffer command = readLine(head);
+		if (command.length() == 0) {
+			throw new IOException("No command!");
+		}
+		final Frame.Builder builder = Frame.builder(Command.valueOf(command.toString()));
+		final int contentLength = readHeaders(head, builder);
+		if (contentLength != body.remaining()) {
+			throw new IOException("Content-Length doesn't match remaining bytes!");
+		}
+		builder.body(null, body);
+		return builder.build();
+	}
+
 	/**
 	 * 
 	 * @param buf
@@ -193,6 +241,29 @@ public enum Encoding { ;
 		return false;
 	}
 
+	/**
+	 * 
+	 * @param s
+	 * @return the number of bytes required to encode the sequence in UTF-8.
+	 */
+	private static int utf8Length(CharSequence s) {
+		int length = 0;
+		for (int i = 0; i < s.length(); i++) {
+			final char c = s.charAt(i);
+			if (c < 0x80) {
+				length++;
+			} else if (c < 0x800) {
+				length += 2;
+			} else if (Character.isHighSurrogate(c) && i + 1 < s.length() && Character.isLowSurrogate(s.charAt(i + 1))) {
+				length += 4;
+				i++;
+			} else {
+				length += 3;
+			}
+		}
+		return length;
+	}
+
 	/**
 	 * Reads a line in and prepares the buffer for next line.
 	 * 
@@ -34,7 +34,6 @@ import static java.util.Collections.unmodifiableList;
 import static java.util.Collections.unmodifiableMap;
 import static java.util.Objects.requireNonNull;
 
-import java.nio.BufferOverflowException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -246,12 +245,11 @@ public class Frame {
 	}
 
 	/**
-	 * Only use this for debugging purposes. An especially large frame could lead to {@link BufferOverflowException}.
+	 * Only use this for debugging purposes as the whole frame will be encoded.
 	 */
 	@Override
 	public String toString() {
-		// 64k is generally much larger than the buffer used by WebSocket implementation, so this should suffice
-		return UTF_8.decode(Encoding.from(this, false, 64 * 1024)).toString();
+		return UTF_8.decode(Encoding.from(this, false, 0)).toString();
 	}
 
 
@@ -463,6 +461,16 @@ public class Frame {
 			return this;
 		}
 
+		/**
+		 * 
+		 * @param header
+		 * @return
+		 */
+		public Builder remove(@Nonnull Header header) {
+			this.headers.remove(header);
+			return this;
+		}
+
 		/**
 		 * 
 		 * @param headers
@@ -132,7 +132,15 @@ public interface Header {
 	 * @since v1.0 [18 Sep 2017]
 	 */
 	public enum Custom implements Header {
-		SELECTOR("selector");
+		SELECTOR("selector"),
+		/** @see Delta */
+		DELTA("delta"),
+		/** @see Delta */
+		DELTA_BASE("delta-base"),
+		/** @see Compression */
+		ACCEPT_ENCODING("accept-encoding"),
+		/** @see Compression */
+		CONTENT_ENCODING("content-encoding");
 
 		public final String value;
 
@@ -30,6 +30,7 @@ import org.apache.deltaspike.core.api.config.ConfigProperty;
 import org.slf4j.Logger;
 
 import cito.event.Message;
+import cito.stomp.Frame;
 
 /**
  * 
@@ -61,6 +62,21 @@ public abstract class AbstractConnection implements cito.stomp.Connection {
 	 */
 	public abstract void on(@Nonnull Message msg);
 
+	/**
+	 * Sends a message from the broker to the client. By default this converts it to a {@link Frame} and passes it to
+	 * {@link #sendToClient(Frame)}.
+	 * 
+	 * @param message
+	 * @param subscriptionId
+	 * @throws JMSException
+	 * @throws IOException
+	 */
+	public void sendToClient(@Nonnull javax.jms.Message message, @Nonnull String subscriptionId)
+			throws JMSException, IOException
+	{
+		sendToClient(this.factory.toFrame(message, subscriptionId));
+	}
+
 	/**
 	 * 
 	 * @param login
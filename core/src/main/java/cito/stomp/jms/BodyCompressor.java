@@ -0,0 +1,97 @@
+/*
+ * Copyright 2016-2017 Daniel Siviter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cito.stomp.jms;
+
+import java.nio.ByteBuffer;
+
+import javax.annotation.Nonnull;
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.apache.deltaspike.core.api.config.ConfigProperty;
+
+import cito.BoundedCache;
+import cito.stomp.Compression;
+import cito.stomp.Frame;
+
+/**
+ * Compresses {@code MESSAGE} bodies larger than {@code cito.stomp.compressionThreshold} bytes for clients that
+ * negotiated it. A broker message delivered to many sessions has the same message ID for each, so the compressed
+ * body is cached by it and only compressed once for the whole fan-out.
+ * 
+ * @author Daniel Siviter
+ * @since v1.0 [19 Oct 2026]
+ * @see Compression
+ */
+@ApplicationScoped
+public class BodyCompressor {
+	private static final int CACHE_SIZE = 256;
+
+	private final BoundedCache<String, byte[]> cache = new BoundedCache<>(CACHE_SIZE);
+
+	@Inject
+	@ConfigProperty(name = "cito.stomp.compressionThreshold", defaultValue = "0")
+	private int threshold;
+
+	/**
+	 * @return {@code true} if compression is enabled.
+	 */
+	public boolean isEnabled() {
+		return this.threshold > 0;
+	}
+
+	/**
+	 * 
+	 * @param body
+	 * @return {@code true} if the body should be compressed.
+	 */
+	public boolean isCompressible(ByteBuffer body) {
+		return isEnabled() && body != null && body.remaining() > this.threshold;
+	}
+
+	/**
+	 * 
+	 * @param messageId the message ID to cache against or {@code null} if the body is specific to one client.
+	 * @param body
+	 * @return the deflated body.
+	 */
+	public byte[] deflate(String messageId, @Nonnull ByteBuffer body) {
+		if (messageId == null) {
+			return Compression.deflate(body);
+		}
+		return this.cache.get(messageId, k -> Compression.deflate(body));
+	}
+
+	/**
+	 * 
+	 * @param frame
+	 * @param messageId the message ID to cache against or {@code null} if the body is specific to one client.
+	 * @return the frame with the deflated body, or the frame if it should not be compressed.
+	 */
+	public Frame deflate(@Nonnull Frame frame, String messageId) {
+		if (!isCompressible(frame.getBody())) {
+			return frame;
+		}
+		return Compression.deflated(frame, deflate(messageId, frame.getBody()));
+	}
+
+	/**
+	 * @return the cache of compressed bodies.
+	 */
+	BoundedCache<String, byte[]> cache() {
+		return this.cache;
+	}
+}
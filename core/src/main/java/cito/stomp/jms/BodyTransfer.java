@@ -0,0 +1,90 @@
+/*
+ * Copyright 2016-2017 Daniel Siviter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cito.stomp.jms;
+
+import java.nio.ByteBuffer;
+
+import javax.annotation.Nonnull;
+import javax.jms.BytesMessage;
+import javax.jms.JMSException;
+
+/**
+ * Transfers the body of a {@link BytesMessage} to and from a {@link ByteBuffer}. Brokers may provide an
+ * implementation that accesses their native message buffer directly, otherwise {@link #COPY} is used.
+ * 
+ * @author Daniel Siviter
+ * @since v1.0 [19 Oct 2026]
+ */
+public interface BodyTransfer {
+	/**
+	 * Generic JMS implementation which copies via a {@code byte[]}.
+	 */
+	public static final BodyTransfer COPY = new Copy();
+
+	/**
+	 * 
+	 * @param msg
+	 * @return {@code true} if this can transfer the body of the message.
+	 */
+	boolean supports(@Nonnull BytesMessage msg);
+
+	/**
+	 * Writes the remaining bytes of the source into the message body. The source may be consumed, so callers pass a
+	 * duplicate of any buffer that is read again.
+	 * 
+	 * @param src
+	 * @param msg
+	 * @throws JMSException
+	 */
+	void write(@Nonnull ByteBuffer src, @Nonnull BytesMessage msg) throws JMSException;
+
+	/**
+	 * 
+	 * @param msg
+	 * @return the message body ready for reading. This should be treated as read-only.
+	 * @throws JMSException
+	 */
+	ByteBuffer read(@Nonnull BytesMessage msg) throws JMSException;
+
+
+	// --- Inner Classes ---
+
+	/**
+	 * 
+	 * @author Daniel Siviter
+	 * @since v1.0 [19 Oct 2026]
+	 */
+	static class Copy implements BodyTransfer {
+		@Override
+		public boolean supports(BytesMessage msg) {
+			return true;
+		}
+
+		@Override
+		public void write(ByteBuffer src, BytesMessage msg) throws JMSException {
+			final byte[] bytes = new byte[src.remaining()];
+			src.get(bytes);
+			msg.writeBytes(bytes);
+		}
+
+		@Override
+		public ByteBuffer read(BytesMessage msg) throws JMSException {
+			final byte[] data = new byte[(int) msg.getBodyLength()];
+			msg.readBytes(data);
+			return ByteBuffer.wrap(data);
+		}
+	}
+}
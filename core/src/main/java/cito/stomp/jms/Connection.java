@@ -16,6 +16,7 @@
 package cito.stomp.jms;
 
 import static cito.Strings.isBlank;
+import static cito.annotation.Qualifiers.fromBroker;
 import static cito.Util.isNullOrEmpty;
 import static cito.stomp.Header.Standard.ACCEPT_VERSION;
 import static cito.stomp.Header.Standard.ACK;
@@ -38,11 +39,13 @@ import javax.enterprise.event.Event;
 import javax.enterprise.inject.Instance;
 import javax.inject.Inject;
 import javax.inject.Provider;
+import javax.jms.BytesMessage;
 import javax.jms.JMSException;
 import javax.security.auth.login.LoginException;
 import javax.websocket.CloseReason;
 import javax.ws.rs.core.MediaType;
 
+import org.apache.deltaspike.core.api.config.ConfigProperty;
 import org.apache.deltaspike.core.api.provider.BeanProvider;
 
 import cito.annotation.FromBroker;
@@ -50,10 +53,15 @@ import cito.event.Message;
 import cito.server.JaasSecurityContext;
 import cito.server.SecurityContext;
 import cito.server.SecurityContextProducer;
+import cito.server.SessionRegistry;
 import cito.stomp.Command;
+import cito.stomp.Compression;
+import cito.stomp.Delta;
 import cito.stomp.Frame;
 import cito.stomp.Frame.HeartBeat;
+import cito.stomp.Header.Custom;
 import cito.stomp.HeartBeatMonitor;
+import cito.stomp.ws.PartialWriter;
 
 /**
  * 
@@ -77,10 +85,27 @@ public class Connection extends AbstractConnection {
 	private Provider<javax.websocket.Session> wsSession;
 	@Inject
 	private Instance<SecurityContext> securityCtx;
+	@Inject
+	private SessionRegistry sessionRegistry;
+	@Inject
+	private MessageEncoder encoder;
+	@Inject
+	private BodyCompressor compressor;
+	@Inject
+	@ConfigProperty(name = "cito.stomp.directEncoding", defaultValue = "false")
+	private boolean directEncoding;
+	@Inject
+	@ConfigProperty(name = "cito.stomp.largeMessageThreshold", defaultValue = "0")
+	private int largeMessageThreshold;
+	@Inject
+	@ConfigProperty(name = "cito.stomp.deltaSnapshotInterval", defaultValue = "32")
+	private int deltaSnapshotInterval;
 
 	private HeartBeatMonitor heartBeatMonitor;
 	private String sessionId;
 	private Session session, ackSession;
+	private Boolean direct;
+	private boolean deflate;
 
 	/**
 	 * Initialise the connection.
@@ -104,6 +129,87 @@ public class Connection extends AbstractConnection {
 		this.brokerMessageEvent.fire(new Message(this.sessionId, frame));
 	}
 
+	/**
+	 * Sends a message from the broker to the client. If direct encoding is enabled and nothing other than the
+	 * {@link SessionRegistry} observes {@link FromBroker} events, the message is written straight to the wire.
+	 * Otherwise, a {@link Frame} is created and passed on as normal. Subscriptions using delta encoding always use a
+	 * {@link Frame} as the body of the previous message is needed. If negotiated, large bodies are compressed.
+	 * 
+	 * @param message
+	 * @param subscriptionId
+	 * @throws JMSException
+	 * @throws IOException
+	 */
+	@Override
+	public void sendToClient(@Nonnull javax.jms.Message message, @Nonnull String subscriptionId)
+			throws JMSException, IOException
+	{
+		final Subscription subscription = this.subscriptions.get(subscriptionId);
+		if (subscription != null && subscription.isDelta()) {
+			try {
+				sendToClient(deflate(subscription.delta(this.factory.toFrame(message, subscriptionId)), null));
+			} catch (JMSException | IOException | RuntimeException e) { // frame may not have reached the client
+				subscription.resync();
+				throw e;
+			}
+			return;
+		}
+		if (!isDirect()) {
+			sendToClient(deflate(this.factory.toFrame(message, subscriptionId), message.getJMSMessageID()));
+			return;
+		}
+		this.heartBeatMonitor.resetSend();
+		this.log.info("Sending message to client. [sessionId={},command={}]", this.sessionId, Command.MESSAGE);
+		if (isLarge(message)) {
+			try (PartialWriter writer = this.sessionRegistry.writer(this.sessionId)) {
+				try {
+					this.encoder.encode((BytesMessage) message, subscriptionId, writer);
+				} catch (JMSException | IOException | RuntimeException e) {
+					writer.abort();
+					throw e;
+				}
+			}
+			return;
+		}
+		if (this.deflate) {
+			this.sessionRegistry.sendToClient(this.sessionId, this.encoder.encode(message, subscriptionId, this.compressor));
+		} else {
+			this.sessionRegistry.sendToClient(this.sessionId, this.encoder.encode(message, subscriptionId));
+		}
+	}
+
+	/**
+	 * 
+	 * @param frame
+	 * @param messageId the message ID to cache the compressed body against or {@code null} if it's not shared.
+	 * @return the frame, compressed if negotiated and large enough.
+	 */
+	private Frame deflate(Frame frame, String messageId) {
+		return this.deflate ? this.compressor.deflate(frame, messageId) : frame;
+	}
+
+	/**
+	 * 
+	 * @param message
+	 * @return {@code true} if the message body should be streamed to the client.
+	 * @throws JMSException
+	 */
+	private boolean isLarge(javax.jms.Message message) throws JMSException {
+		return this.largeMessageThreshold > 0 && message instanceof BytesMessage &&
+				((BytesMessage) message).getBodyLength() > this.largeMessageThreshold;
+	}
+
+	/**
+	 * @return {@code true} if messages can be encoded directly to the wire.
+	 */
+	private boolean isDirect() {
+		if (this.direct == null) {
+			this.direct = this.directEncoding &&
+					this.beanManager.resolveObserverMethods(new Message(null), fromBroker()).size() <= 1;
+		}
+		return this.direct;
+	}
+
 	/**
 	 * 
 	 * @param ack if {@code true} then the client acknowledge session is returned.
@@ -174,6 +280,11 @@ public class Connection extends AbstractConnection {
 
 		final Frame.Builder connected = Frame.connnected(version, this.sessionId, "localhost");
 
+		if (Compression.accepts(msg.frame()) && this.compressor.isEnabled()) {
+			this.deflate = true;
+			connected.header(Custom.CONTENT_ENCODING, Compression.DEFLATE);
+		}
+
 		final HeartBeat heartBeat = msg.frame().heartBeat();
 		if (!version.equals("1.0") && heartBeat != null) {
 			connected.heartbeat(HEARTBEAT_READ_DEFAULT, HEARTBEAT_WRITE_DEFAULT);
@@ -279,10 +390,14 @@ public class Connection extends AbstractConnection {
 						subscriptionId,
 						(k, v) -> { 
 							try {
+								if (v != null && Delta.isResync(msg.frame())) {
+									v.resync();
+									return v;
+								}
 								if (v != null) {
 									throw new IllegalStateException("Subscription already exists! [" + subscriptionId + "]");
 								}
-								return new Subscription(getSession(msg.frame()), k, msg.frame());
+								return new Subscription(getSession(msg.frame()), k, msg.frame(), this.deltaSnapshotInterval);
 							} catch (JMSException e) {
 								throw new IllegalStateException("Unable to subscribe! [" + subscriptionId + "]");
 							}
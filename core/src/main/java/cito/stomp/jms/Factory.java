@@ -32,6 +32,7 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashSet;
@@ -40,6 +41,9 @@ import java.util.Map.Entry;
 import java.util.Set;
 
 import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.inject.Any;
+import javax.enterprise.inject.Instance;
+import javax.inject.Inject;
 import javax.jms.BytesMessage;
 import javax.jms.Destination;
 import javax.jms.JMSException;
@@ -76,6 +80,21 @@ public class Factory {
 		IGNORE_HEADERS = Collections.unmodifiableSet(ignore);
 	}
 
+	private BodyTransfer[] transfers = {};
+
+	/**
+	 * 
+	 * @param transfers
+	 */
+	@Inject
+	void init(@Any Instance<BodyTransfer> transfers) {
+		final List<BodyTransfer> list = new ArrayList<>();
+		for (BodyTransfer t : transfers) {
+			list.add(t);
+		}
+		this.transfers = list.toArray(new BodyTransfer[list.size()]);
+	}
+
 	/**
 	 * 
 	 * @param conn
@@ -90,7 +109,8 @@ public class Factory {
 		return new cito.stomp.jms.Session(
 				conn,
 				conn.getDelegate().createSession(transacted, acknowledgeMode),
-				this);
+				this,
+				transacted ? Session.SESSION_TRANSACTED : acknowledgeMode);
 	}
 
 	/**
@@ -137,6 +157,8 @@ public class Factory {
 	}
 
 	/**
+	 * Creates a message from the frame. The frame body is read through a duplicate so it is left untouched for
+	 * anything reading it later, such as {@code @Body} injection.
 	 * 
 	 * @param session
 	 * @param frame
@@ -146,14 +168,11 @@ public class Factory {
 	public Message toMessage(Session session, Frame frame) throws JMSException {
 		final Message msg;
 		if (frame.contains(CONTENT_LENGTH)) {
-			final ByteBuffer buf = frame.getBody();
-			byte[] bytes = new byte[buf.remaining()];
-			buf.get(bytes);
 			final BytesMessage bm = session.createBytesMessage();
-			bm.writeBytes(bytes);
+			transfer(bm).write(frame.getBody().duplicate(), bm);
 			msg = bm;
 		} else {
-			msg = session.createTextMessage(UTF_8.decode(frame.getBody()).toString());
+			msg = session.createTextMessage(UTF_8.decode(frame.getBody().duplicate()).toString());
 		}
 		copyHeaders(session, frame, msg);
 		return msg;
@@ -177,11 +196,8 @@ public class Factory {
 			final TextMessage msg = (TextMessage) message;
 			buf = ByteBuffer.wrap(msg.getText().getBytes(UTF_8));
 		} else if (message instanceof BytesMessage) {
-			final BytesMessage msg = (BytesMessage) message;
-			byte[] data = new byte[(int) msg.getBodyLength()];
-			msg.readBytes(data);
-			frame.header(CONTENT_LENGTH, Integer.toString(data.length));
-			buf = ByteBuffer.wrap(data);
+			buf = readBody((BytesMessage) message);
+			frame.header(CONTENT_LENGTH, Integer.toString(buf.remaining()));
 		} else {
 			throw new IllegalArgumentException("Unexpected type! [" + message.getClass() + "]");
 		}
@@ -189,6 +205,30 @@ public class Factory {
 		return frame.build();
 	}
 
+	/**
+	 * 
+	 * @param msg
+	 * @return the body of the message ready for reading.
+	 * @throws JMSException
+	 */
+	public ByteBuffer readBody(BytesMessage msg) throws JMSException {
+		return transfer(msg).read(msg);
+	}
+
+	/**
+	 * 
+	 * @param msg
+	 * @return the transfer for the message falling back to {@link BodyTransfer#COPY}.
+	 */
+	private BodyTransfer transfer(BytesMessage msg) {
+		for (BodyTransfer t : this.transfers) {
+			if (t.supports(msg)) {
+				return t;
+			}
+		}
+		return BodyTransfer.COPY;
+	}
+
 	/**
 	 * 
 	 * @param message
@@ -281,7 +321,7 @@ public class Factory {
 	 * @return
 	 */
 	public static String toJmsKey(Header header) {
-		return header.value().replace("-", "_HYPHEN_").replace(".", "_DOT_");
+		return KeyTranslator.toJms(header);
 	}
 
 	/**
@@ -290,6 +330,6 @@ public class Factory {
 	 * @return
 	 */
 	public static Header toStompKey(String key) {
-		return Header.valueOf(key.replace("_HYPHEN_", "-").replace("_DOT_", "."));
+		return KeyTranslator.toStomp(key);
 	}
 }
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2016-2017 Daniel Siviter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cito.stomp.jms;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.Nonnull;
+
+import cito.stomp.Header;
+
+/**
+ * Translates between STOMP header keys and JMS property names. JMS property names must be valid Java identifiers so
+ * '-' and '.' are escaped. Translations for all {@link Header.Standard} and {@link Header.Custom} values are
+ * precomputed and any others are cached up to a limit, so arbitrary keys cannot consume unbounded memory.
+ * 
+ * @author Daniel Siviter
+ * @since v1.0 [19 Oct 2026]
+ */
+public enum KeyTranslator { ;
+	private static final String HYPHEN = "_HYPHEN_";
+	private static final String DOT = "_DOT_";
+	private static final int MAX_ENTRIES = 1_024;
+
+	private static final ConcurrentMap<String, String> TO_JMS = new ConcurrentHashMap<>();
+	private static final ConcurrentMap<String, Header> TO_STOMP = new ConcurrentHashMap<>();
+	private static final LongAdder HITS = new LongAdder();
+	private static final LongAdder MISSES = new LongAdder();
+
+	static {
+		for (Header h : Header.Standard.values()) {
+			register(h);
+		}
+		for (Header h : Header.Custom.values()) {
+			register(h);
+		}
+	}
+
+	/**
+	 * 
+	 * @param header
+	 * @return the JMS property name.
+	 */
+	public static String toJms(@Nonnull Header header) {
+		final String value = header.value();
+		String key = TO_JMS.get(value);
+		if (key != null) {
+			HITS.increment();
+			return key;
+		}
+		MISSES.increment();
+		key = escape(value);
+		if (TO_JMS.size() < MAX_ENTRIES) {
+			TO_JMS.putIfAbsent(value, key);
+		}
+		return key;
+	}
+
+	/**
+	 * 
+	 * @param key the JMS property name.
+	 * @return the STOMP header.
+	 */
+	public static Header toStomp(@Nonnull String key) {
+		Header header = TO_STOMP.get(key);
+		if (header != null) {
+			HITS.increment();
+			return header;
+		}
+		MISSES.increment();
+		header = Header.valueOf(unescape(key));
+		if (TO_STOMP.size() < MAX_ENTRIES) {
+			TO_STOMP.putIfAbsent(key, header);
+		}
+		return header;
+	}
+
+	/**
+	 * @return the number of translations served from the tables.
+	 */
+	public static long hitCount() {
+		return HITS.sum();
+	}
+
+	/**
+	 * @return the number of translations that had to be computed.
+	 */
+	public static long missCount() {
+		return MISSES.sum();
+	}
+
+	/**
+	 * @return the ratio of hits to total translations, or {@code 0} if none have been made.
+	 */
+	public static double hitRate() {
+		final long hits = HITS.sum(), total = hits + MISSES.sum();
+		return total == 0 ? 0 : (double) hits / total;
+	}
+
+	/**
+	 * Registers the header, keeping the first registered where several share a value (e.g.
+	 * {@link cito.stomp.Header.Standard#PRORITY}).
+	 * 
+	 * @param header
+	 */
+	private static void register(Header header) {
+		final String key = escape(header.value());
+		TO_JMS.put(header.value(), key);
+		TO_STOMP.putIfAbsent(key, header);
+	}
+
+	/**
+	 * 
+	 * @param value
+	 * @return
+	 */
+	private static String escape(String value) {
+		return value.replace("-", HYPHEN).replace(".", DOT);
+	}
+
+	/**
+	 * 
+	 * @param key
+	 * @return
+	 */
+	private static String unescape(String key) {
+		return key.replace(HYPHEN, "-").replace(DOT, ".");
+	}
+}
@@ -0,0 +1,291 @@
+/*
+ * Copyright 2016-2017 Daniel Siviter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cito.stomp.jms;
+
+import static cito.stomp.Header.Standard.CONTENT_LENGTH;
+import static cito.stomp.Header.Standard.CORRELATION_ID;
+import static cito.stomp.Header.Standard.DESTINATION;
+import static cito.stomp.Header.Standard.EXPIRATION_TIME;
+import static cito.stomp.Header.Standard.MESSAGE_ID;
+import static cito.stomp.Header.Standard.PRORITY;
+import static cito.stomp.Header.Standard.REDELIVERED;
+import static cito.stomp.Header.Standard.REPLY_TO;
+import static cito.stomp.Header.Standard.SUBSCRIPTION;
+import static cito.stomp.Header.Standard.TIMESTAMP;
+import static cito.stomp.Header.Standard.TYPE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nonnull;
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import javax.jms.BytesMessage;
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.TextMessage;
+
+import cito.stomp.Command;
+import cito.stomp.Compression;
+import cito.stomp.Encoding;
+import cito.stomp.Frame;
+import cito.stomp.Header;
+import cito.stomp.Header.Custom;
+import cito.stomp.ws.PartialWriter;
+
+/**
+ * Encodes a JMS {@link Message} straight into a STOMP {@code MESSAGE} frame on the wire without creating an
+ * intermediate {@link Frame}. The output is equivalent to encoding {@link Factory#toFrame(Message, String)}.
+ *
+ * @author Daniel Siviter
+ * @since v1.0 [19 Oct 2026]
+ * @see Factory#toFrame(Message, String)
+ * @see Encoding#write(Frame, ByteBuffer)
+ */
+@ApplicationScoped
+public class MessageEncoder {
+	private static final byte LF = '\n';
+	private static final byte COLON = ':';
+	private static final byte[] COMMAND = Command.MESSAGE.name().getBytes(UTF_8);
+	private static final int MAX_CACHED_KEYS = 1_024;
+	private static final int INITIAL_CAPACITY = 512;
+	private static final int CHUNK_SIZE = 8 * 1024;
+
+	private final Map<String, byte[]> propertyKeys = new ConcurrentHashMap<>();
+
+	@Inject
+	private Factory factory;
+
+	/**
+	 *
+	 * @param message
+	 * @param subscriptionId
+	 * @return the encoded frame ready for reading.
+	 * @throws JMSException
+	 */
+	public ByteBuffer encode(@Nonnull Message message, @Nonnull String subscriptionId) throws JMSException {
+		return encode(message, subscriptionId, null);
+	}
+
+	/**
+	 *
+	 * @param message
+	 * @param subscriptionId
+	 * @param compressor compresses the body if large enough, or {@code null} to not compress.
+	 * @return the encoded frame ready for reading.
+	 * @throws JMSException
+	 */
+	public ByteBuffer encode(@Nonnull Message message, @Nonnull String subscriptionId, BodyCompressor compressor)
+			throws JMSException
+	{
+		ByteBuffer body = body(message);
+		final boolean compress = compressor != null && compressor.isCompressible(body);
+		if (compress) {
+			body = ByteBuffer.wrap(compressor.deflate(message.getJMSMessageID(), body));
+		}
+		final Output out = headers(message, subscriptionId, INITIAL_CAPACITY + (body != null ? body.remaining() : 0));
+		if (compress) {
+			out.header(Custom.CONTENT_ENCODING, Compression.DEFLATE);
+		}
+
+		if (body != null) {
+			out.header(CONTENT_LENGTH, Integer.toString(body.remaining()));
+			out.put(LF).put(body);
+		} else {
+			out.put(LF);
+		}
+		return out.put(Encoding.NULL).flip();
+	}
+
+	/**
+	 * Encodes the message streaming the body in chunks so only a chunk of a potentially very large message is held in
+	 * memory at any time. The writer is not closed.
+	 *
+	 * @param message
+	 * @param subscriptionId
+	 * @param writer
+	 * @throws JMSException
+	 * @throws IOException
+	 */
+	public void encode(@Nonnull BytesMessage message, @Nonnull String subscriptionId, @Nonnull PartialWriter writer)
+			throws JMSException, IOException
+	{
+		final Output out = headers(message, subscriptionId, INITIAL_CAPACITY);
+		out.header(CONTENT_LENGTH, Long.toString(message.getBodyLength())).put(LF);
+		writer.write(out.flip());
+
+		final byte[] chunk = new byte[CHUNK_SIZE];
+		int read;
+		while ((read = message.readBytes(chunk)) > 0) {
+			writer.write(chunk, 0, read);
+		}
+		writer.write(Encoding.NULL);
+	}
+
+	/**
+	 *
+	 * @param message
+	 * @param subscriptionId
+	 * @param capacity
+	 * @return the output with the command and headers, excluding 'content-length', written.
+	 * @throws JMSException
+	 */
+	private Output headers(Message message, String subscriptionId, int capacity) throws JMSException {
+		final Output out = new Output(capacity);
+		out.put(COMMAND).put(LF);
+		out.header(SUBSCRIPTION, subscriptionId);
+		out.header(DESTINATION, this.factory.fromDestination(message.getJMSDestination()));
+		out.header(MESSAGE_ID, message.getJMSMessageID());
+		if (message.getJMSCorrelationID() != null) {
+			out.header(CORRELATION_ID, message.getJMSCorrelationID());
+		}
+		out.header(EXPIRATION_TIME, Long.toString(message.getJMSExpiration()));
+		if (message.getJMSRedelivered()) {
+			out.header(REDELIVERED, "true");
+		}
+		out.header(PRORITY, Integer.toString(message.getJMSPriority()));
+		if (message.getJMSReplyTo() != null) {
+			out.header(REPLY_TO, this.factory.fromDestination(message.getJMSReplyTo()));
+		}
+		out.header(TIMESTAMP, Long.toString(message.getJMSTimestamp()));
+		if (message.getJMSType() != null) {
+			out.header(TYPE, message.getJMSType());
+		}
+
+		// this will include 'content-type'
+		@SuppressWarnings("unchecked")
+		final Enumeration<String> names = message.getPropertyNames();
+		while (names.hasMoreElements()) {
+			final String name = names.nextElement();
+			out.header(propertyKey(name), message.getStringProperty(name));
+		}
+		return out;
+	}
+
+	/**
+	 *
+	 * @param message
+	 * @return the body or {@code null} if there is none.
+	 * @throws JMSException
+	 */
+	private ByteBuffer body(Message message) throws JMSException {
+		if (message instanceof TextMessage) {
+			final String text = ((TextMessage) message).getText();
+			return text != null ? UTF_8.encode(text) : null;
+		} else if (message instanceof BytesMessage) {
+			return this.factory.readBody((BytesMessage) message);
+		}
+		throw new IllegalArgumentException("Unexpected type! [" + message.getClass() + "]");
+	}
+
+	/**
+	 *
+	 * @param name the JMS property name.
+	 * @return the encoded STOMP header key including the trailing colon.
+	 */
+	private byte[] propertyKey(String name) {
+		final byte[] key = this.propertyKeys.get(name);
+		if (key != null) {
+			return key;
+		}
+		final byte[] created = key(Factory.toStompKey(name));
+		if (this.propertyKeys.size() < MAX_CACHED_KEYS) { // don't let arbitrary property names consume memory
+			this.propertyKeys.putIfAbsent(name, created);
+		}
+		return created;
+	}
+
+
+	// --- Static Methods ---
+
+	/**
+	 *
+	 * @param header
+	 * @return
+	 */
+	private static byte[] key(Header header) {
+		final byte[] value = header.value().getBytes(UTF_8);
+		final byte[] key = Arrays.copyOf(value, value.length + 1);
+		key[value.length] = COLON;
+		return key;
+	}
+
+
+	// --- Inner Classes ---
+
+	/**
+	 * A simple growable buffer to avoid sizing issues of a fixed capacity buffer.
+	 *
+	 * @author Daniel Siviter
+	 * @since v1.0 [19 Oct 2026]
+	 */
+	private static class Output {
+		private ByteBuffer buf;
+
+		Output(int capacity) {
+			this.buf = ByteBuffer.allocate(capacity);
+		}
+
+		private void ensure(int remaining) {
+			if (this.buf.remaining() < remaining) {
+				final int capacity = Math.max(this.buf.capacity() * 2, this.buf.position() + remaining);
+				final ByteBuffer tmp = ByteBuffer.allocate(capacity);
+				this.buf.flip();
+				this.buf = tmp.put(this.buf);
+			}
+		}
+
+		Output put(byte b) {
+			ensure(1);
+			this.buf.put(b);
+			return this;
+		}
+
+		Output put(byte[] b) {
+			ensure(b.length);
+			this.buf.put(b);
+			return this;
+		}
+
+		Output put(ByteBuffer b) {
+			ensure(b.remaining());
+			this.buf.put(b);
+			return this;
+		}
+
+		Output header(Header header, String value) {
+			return header(key(header), value);
+		}
+
+		Output header(byte[] key, String value) {
+			put(key);
+			if (value != null) {
+				put(value.getBytes(UTF_8));
+			}
+			return put(LF);
+		}
+
+		ByteBuffer flip() {
+			this.buf.flip();
+			return this.buf;
+		}
+	}
+}
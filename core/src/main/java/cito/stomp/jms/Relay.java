@@ -33,10 +33,11 @@ import org.slf4j.Logger;
 
 import cito.annotation.FromServer;
 import cito.annotation.OnClose;
+import cito.event.Batch;
 import cito.event.Message;
 import cito.server.SecurityContext;
 import cito.server.SessionRegistry;
-import cito.server.security.SecurityRegistry;
+import cito.server.security.DecisionCache;
 
 /**
  * STOMP broker relay to JMS.
@@ -55,7 +56,7 @@ public class Relay {
 	@Inject
 	private ErrorHandler errorHandler;
 	@Inject
-	private SecurityRegistry securityRegistry;
+	private DecisionCache decisionCache;
 	@Inject
 	private Instance<Connection> connectionInstance;
 	@Inject
@@ -72,7 +73,7 @@ public class Relay {
 		final String sessionId = msg.sessionId();
 		this.log.debug("Message from client. [sessionId={},command={}]", sessionId, msg.frame().getCommand());
 
-		final boolean permitted = this.securityRegistry.isPermitted(msg.frame(), this.securityCtx.get());
+		final boolean permitted = this.decisionCache.isPermitted(msg.frame(), this.securityCtx.get());
 		if (!permitted) {
 			this.errorHandler.onError(this, sessionId, msg.frame(), "Not permitted!", null);
 			return;
@@ -93,6 +94,20 @@ public class Relay {
 		on(evt);
 	}
 
+	/**
+	 * Batch from the server layer.
+	 * 
+	 * @param batch
+	 * @throws IllegalStateException if the batch could not be sent.
+	 */
+	public void fromServer(@Observes @FromServer Batch batch) {
+		try {
+			this.systemConn.on(batch);
+		} catch (JMSException e) {
+			throw new IllegalStateException("Unable to send batch! [size=" + batch.frames().size() + "]", e);
+		}
+	}
+
 	/**
 	 * 
 	 * @param evt
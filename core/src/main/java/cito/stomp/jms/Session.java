@@ -16,6 +16,7 @@
 package cito.stomp.jms;
 
 import java.io.IOException;
+import java.util.Collection;
 
 import javax.jms.Destination;
 import javax.jms.JMSException;
@@ -34,13 +35,23 @@ public class Session {
 	private final Factory factory;
 	private final AbstractConnection conn;
 	private final javax.jms.Session delegate;
+	private final int acknowledgeMode;
 
 	private MessageProducer producer;
 
-	Session(AbstractConnection conn, javax.jms.Session delegate, Factory factory) {
+	/**
+	 * 
+	 * @param conn
+	 * @param delegate
+	 * @param factory
+	 * @param acknowledgeMode the acknowledge mode the delegate was created with. This never changes for the life of a
+	 * JMS session so it is held here to avoid locking on the delivery path.
+	 */
+	Session(AbstractConnection conn, javax.jms.Session delegate, Factory factory, int acknowledgeMode) {
 		this.factory = factory;
 		this.conn = conn;
 		this.delegate = delegate;
+		this.acknowledgeMode = acknowledgeMode;
 	}
 
 	public AbstractConnection getConnection() {
@@ -58,25 +69,24 @@ public class Session {
 	}
 
 	/**
+	 * Lazily creates the producer. Must only be called while holding the session lock.
 	 * 
-	 * @param consumer
 	 * @return
 	 * @throws JMSException
 	 */
-	private synchronized void withProducer(ProducerFunction consumer) throws JMSException {
+	private MessageProducer producer() throws JMSException {
 		if (this.producer == null) {
 			this.producer = this.delegate.createProducer(null);
 		}
-		consumer.apply(this.producer);
+		return this.producer;
 	}
 
 	/**
 	 * 
 	 * @return
-	 * @throws JMSException
 	 */
-	public int getAcknowledgeMode() throws JMSException {
-		return withSession(javax.jms.Session::getAcknowledgeMode);
+	public int getAcknowledgeMode() {
+		return this.acknowledgeMode;
 	}
 
 	public void commit() throws JMSException {
@@ -103,18 +113,60 @@ public class Session {
 	}
 
 	/**
+	 * Converts and sends the frame to the broker. The session lock is only acquired once for the whole operation.
 	 * 
 	 * @param frame
 	 * @throws JMSException
 	 */
 	public void sendToBroker(Frame frame) throws JMSException {
-		String destinationName = frame.destination();
-		final Message message = withSession(s -> this.factory.toMessage(s, frame));
-		final Destination destination = withSession(s -> this.factory.toDestination(s, destinationName));
-		withProducer(p -> p.send(destination, message));
+		this.<Void>withSession(s -> {
+			send(s, frame);
+			return null;
+		});
+	}
+
+	/**
+	 * Converts and sends the frames to the broker holding the session lock throughout. If the session is transacted
+	 * they are committed together, or rolled back if any fail.
+	 * 
+	 * @param frames
+	 * @throws JMSException
+	 */
+	public void sendToBroker(Collection<Frame> frames) throws JMSException {
+		final boolean transacted = this.acknowledgeMode == javax.jms.Session.SESSION_TRANSACTED;
+		this.<Void>withSession(s -> {
+			try {
+				for (Frame frame : frames) {
+					send(s, frame);
+				}
+				if (transacted) {
+					s.commit();
+				}
+			} catch (JMSException | RuntimeException e) {
+				if (transacted) {
+					s.rollback();
+				}
+				throw e;
+			}
+			return null;
+		});
 	}
 
 	/**
+	 * Must only be called while holding the session lock.
+	 * 
+	 * @param s
+	 * @param frame
+	 * @throws JMSException
+	 */
+	private void send(javax.jms.Session s, Frame frame) throws JMSException {
+		final Message message = this.factory.toMessage(s, frame);
+		final Destination destination = this.factory.toDestination(s, frame.destination());
+		producer().send(destination, message);
+	}
+
+	/**
+	 * Sends the message to the client. This does not touch the underlying JMS session so is lock free.
 	 * 
 	 * @param message
 	 * @param subscription
@@ -122,11 +174,10 @@ public class Session {
 	 * @throws IOException 
 	 */
 	public void send(Message message, Subscription subscription) throws JMSException, IOException {
-		if (getAcknowledgeMode() == javax.jms.Session.CLIENT_ACKNOWLEDGE) {
+		if (this.acknowledgeMode == javax.jms.Session.CLIENT_ACKNOWLEDGE) {
 			((Connection) this.conn).addAckMessage(message);
 		}
-		final Frame frame = this.factory.toFrame(message, subscription.getSubscriptionId());
-		this.conn.sendToClient(frame);
+		this.conn.sendToClient(message, subscription.getSubscriptionId());
 	}
 
 	/**
@@ -150,27 +201,10 @@ public class Session {
 	private interface SessionFunction<R> {
 		/**
 		 * Applies this function to the given argument.
-		 *
+		 * 
 		 * @param s the session
 		 * @return the function result
 		 */
 		R apply(javax.jms.Session s) throws JMSException;
 	}
-
-	/**
-	 * 
-	 * @author Daniel Siviter
-	 * @since v1.0 [3 Feb 2017]
-	 * @param <R>
-	 */
-	@FunctionalInterface
-	private interface ProducerFunction {
-		/**
-		 * Applies this function to the given argument.
-		 *
-		 * @param p the producer
-		 * @return the function result
-		 */
-		void apply(MessageProducer p) throws JMSException;
-	}
 }
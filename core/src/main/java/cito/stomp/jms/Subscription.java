@@ -29,6 +29,7 @@ import javax.jms.MessageListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import cito.stomp.Delta;
 import cito.stomp.Frame;
 import cito.stomp.Header.Custom;
 import cito.stomp.Header.Standard;
@@ -43,11 +44,17 @@ public class Subscription implements MessageListener {
 	private static final Logger LOG = LoggerFactory.getLogger(Subscription.class);
 	private static final String SELECTOR = "session IS NULL OR session = '%s'";
 	private static final String COMPLEX_SELECTOR = "(session IS NULL OR session = '%s') AND %s";
+	private static final int DEFAULT_SNAPSHOT_INTERVAL = 32;
 
 	private final Session session;
 	private final String id;
 	private final Destination destination;
 	private final MessageConsumer consumer;
+	private final boolean delta;
+	private final int snapshotInterval;
+
+	private byte[] last;
+	private int patches;
 
 	/**
 	 * 
@@ -57,8 +64,25 @@ public class Subscription implements MessageListener {
 	 * @throws JMSException
 	 */
 	public Subscription(@Nonnull Session session, @Nonnull String id, @Nonnull Frame frame) throws JMSException {
+		this(session, id, frame, DEFAULT_SNAPSHOT_INTERVAL);
+	}
+
+	/**
+	 * 
+	 * @param session
+	 * @param id
+	 * @param frame
+	 * @param snapshotInterval if delta encoding is requested, the maximum number of patches sent between snapshots.
+	 * @throws JMSException
+	 * @see Delta
+	 */
+	public Subscription(@Nonnull Session session, @Nonnull String id, @Nonnull Frame frame, int snapshotInterval)
+			throws JMSException
+	{
 		this.session = requireNonNull(session);
 		this.id = requireNonNull(id);
+		this.delta = Delta.isDelta(frame);
+		this.snapshotInterval = snapshotInterval;
 		this.destination = session.toDestination(frame.getFirst(Standard.DESTINATION));
 
 		final String sessionId = this.session.getConnection().getSessionId();
@@ -92,17 +116,52 @@ public class Subscription implements MessageListener {
 		return this.destination;
 	}
 
+	/**
+	 * 
+	 * @return {@code true} if the client requested delta encoding.
+	 */
+	public boolean isDelta() {
+		return this.delta;
+	}
+
+	/**
+	 * Converts the frame for delta encoding. If a patch against the previous body is smaller than the body it is sent,
+	 * otherwise, or every {@code snapshotInterval} messages, a snapshot is sent.
+	 * 
+	 * @param frame
+	 * @return the frame to send.
+	 */
+	public synchronized Frame delta(@Nonnull Frame frame) {
+		if (!this.delta || frame.getBody() == null) {
+			return frame;
+		}
+		final byte[] previous = this.last;
+		this.last = Delta.bytes(frame.getBody());
+		if (previous != null && ++this.patches < this.snapshotInterval) {
+			final byte[] patch = Delta.diff(previous, this.last);
+			if (patch != null) {
+				return Delta.patch(frame, patch, previous);
+			}
+		}
+		this.patches = 0;
+		return Delta.snapshot(frame);
+	}
+
+	/**
+	 * Forgets the previous body so the next message is sent as a snapshot. Used when a frame may not have reached the
+	 * client or the client has requested it.
+	 */
+	public synchronized void resync() {
+		this.last = null;
+		this.patches = 0;
+	}
+
 	@Override
 	public void onMessage(Message message) {
-		try {
-			int ackMode = this.session.getAcknowledgeMode();
-			if (ackMode == javax.jms.Session.CLIENT_ACKNOWLEDGE) {
-				synchronized (this) {
-					((Connection) this.session.getConnection()).addAckMessage(message);
-				}
-			}
+		try { // acknowledgement registration is handled by the session
 			this.session.send(message, this);
 		} catch (JMSException | IOException e) {
+			resync();
 			LOG.error("Unable to send message! [sessionId={},subscriptionId={}]",
 					this.session.getConnection().getSessionId(), this.id);
 		}
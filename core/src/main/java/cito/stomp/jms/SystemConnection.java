@@ -15,17 +15,31 @@
  */
 package cito.stomp.jms;
 
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
 import javax.annotation.PostConstruct;
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 import javax.jms.JMSException;
+import javax.websocket.CloseReason;
 
 import org.apache.deltaspike.core.api.config.ConfigProperty;
 
+import cito.event.Batch;
 import cito.event.Message;
 import cito.stomp.Frame;
 
 /**
+ * The connection used for messages from the server layer. Messages are sent through a pool of
+ * {@code cito.system.sessions} JMS sessions, selected by destination so the order of messages to the same destination
+ * is kept while different destinations can be sent concurrently.
+ * <p/>
+ * A {@link Batch} is sent through a separate transacted session, so its ordering is only guaranteed within the batch.
+ * Relative to single messages to the same destination it may arrive before or after messages sent earlier or later, as
+ * neither the pool nor JMS orders sends across sessions. Publish related messages the same way if their order matters.
  * 
  * @author Daniel Siviter
  * @since v1.0 [2 Aug 2016]
@@ -38,8 +52,12 @@ public class SystemConnection extends AbstractConnection {
 	@Inject
 	@ConfigProperty(name = "cito.system.password", defaultValue = DEFAULT_PASSWORD)
 	private String passcode;
+	@Inject
+	@ConfigProperty(name = "cito.system.sessions", defaultValue = "4")
+	private int sessions;
 
-	private Session session;
+	private Publisher[] publishers;
+	private Session batchSession;
 
 	@Override
 	public String getSessionId() {
@@ -51,6 +69,10 @@ public class SystemConnection extends AbstractConnection {
 	 */
 	@PostConstruct
 	public void init() {
+		this.publishers = new Publisher[Math.max(this.sessions, 1)];
+		for (int i = 0; i < this.publishers.length; i++) {
+			this.publishers[i] = new Publisher();
+		}
 		try {
 			createDelegate(SESSION_ID, this.passcode);
 		} catch (JMSException e) {
@@ -63,16 +85,37 @@ public class SystemConnection extends AbstractConnection {
 		throw new UnsupportedOperationException("Cannot sent to client from system connection!");
 	}
 
+	/**
+	 * 
+	 * @param destination
+	 * @return the publisher for the destination.
+	 */
+	private Publisher publisher(String destination) {
+		return this.publishers[Math.floorMod(Objects.hashCode(destination), this.publishers.length)];
+	}
+
 	/**
 	 * 
 	 * @return
 	 * @throws JMSException
 	 */
-	private Session getSession() throws JMSException {
-		if (this.session == null) {
-			this.session = this.factory.toSession(this, false, javax.jms.Session.AUTO_ACKNOWLEDGE);
+	private synchronized Session getBatchSession() throws JMSException {
+		if (this.batchSession == null) {
+			this.batchSession = this.factory.toSession(this, true, javax.jms.Session.SESSION_TRANSACTED);
 		}
-		return this.session;
+		return this.batchSession;
+	}
+
+	/**
+	 * Sends the frames to the broker in a single transaction. The frames are not ordered with single messages to the
+	 * same destinations.
+	 * 
+	 * @param batch
+	 * @throws JMSException if the transaction failed, in which case none of the frames were sent.
+	 */
+	public void on(Batch batch) throws JMSException {
+		this.log.debug("Batch event. [size={}]", batch.frames().size());
+		getBatchSession().sendToBroker(batch.frames());
 	}
 
 	@Override
@@ -85,9 +128,91 @@ public class SystemConnection extends AbstractConnection {
 		this.log.debug("Message event. [sessionId={}]", sessionId);
 
 		try {
-			getSession().sendToBroker(msg.frame());
+			publisher(msg.frame().destination()).send(msg.frame());
 		} catch (JMSException e) {
 			this.log.error("Error handling message! [sessionId={},command={}]", getSessionId(), msg.frame().getCommand(), e);
 		}
 	}
+
+	/**
+	 * @return the number of sessions used to send messages.
+	 */
+	public int getSessionCount() {
+		return this.publishers.length;
+	}
+
+	/**
+	 * 
+	 * @param index the session index.
+	 * @return the number of messages sent by the session.
+	 */
+	public long sentCount(int index) {
+		return this.publishers[index].sent.sum();
+	}
+
+	/**
+	 * 
+	 * @param index the session index.
+	 * @param unit
+	 * @return the total time the session has spent sending messages.
+	 */
+	public long sendTime(int index, TimeUnit unit) {
+		return unit.convert(this.publishers[index].nanos.sum(), TimeUnit.NANOSECONDS);
+	}
+
+	@Override
+	public void close(CloseReason reason) throws IOException {
+		if (this.publishers != null) {
+			for (int i = 0; i < this.publishers.length; i++) {
+				this.log.info("System session. [index={},sent={},time={}ms]", i, sentCount(i), sendTime(i, TimeUnit.MILLISECONDS));
+			}
+		}
+		super.close(reason);
+	}
+
+
+	// --- Inner Classes ---
+
+	/**
+	 * A lazily created JMS session and its send metrics.
+	 * 
+	 * @author Daniel Siviter
+	 * @since v1.0 [19 Oct 2026]
+	 */
+	private class Publisher {
+		private final LongAdder sent = new LongAdder();
+		private final LongAdder nanos = new LongAdder();
+		private volatile Session session;
+
+		/**
+		 * 
+		 * @return
+		 * @throws JMSException
+		 */
+		private Session session() throws JMSException {
+			Session session = this.session;
+			if (session == null) {
+				synchronized (this) {
+					session = this.session;
+					if (session == null) {
+						this.session = session = factory.toSession(SystemConnection.this, false, javax.jms.Session.AUTO_ACKNOWLEDGE);
+					}
+				}
+			}
+			return session;
+		}
+
+		/**
+		 * 
+		 * @param frame
+		 * @throws JMSException
+		 */
+		void send(Frame frame) throws JMSException {
+			final Session session = session();
+			final long start = System.nanoTime();
+			session.sendToBroker(frame);
+			this.nanos.add(System.nanoTime() - start);
+			this.sent.increment();
+		}
+	}
 }
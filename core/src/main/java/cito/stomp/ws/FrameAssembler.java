@@ -0,0 +1,200 @@
+/*
+ * Copyright 2016-2017 Daniel Siviter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cito.stomp.ws;
+
+import static cito.stomp.Encoding.NULL;
+import static java.nio.file.StandardOpenOption.DELETE_ON_CLOSE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.util.function.Consumer;
+
+import javax.websocket.MessageHandler;
+
+import cito.stomp.Encoding;
+import cito.stomp.Frame;
+
+/**
+ * Assembles {@link Frame}s from partial binary WebSocket messages. Frames up to the threshold are held in memory,
+ * beyond that they are spooled to a temporary file so in-flight frames do not hold a growing buffer. Once complete a
+ * spooled frame is read back into a single buffer of the exact size and the file is deleted straight away.
+ * <p/>
+ * <strong>Note:</strong> this is not thread safe, but a WebSocket session will only deliver one message at a time.
+ * 
+ * @author Daniel Siviter
+ * @since v1.0 [19 Oct 2026]
+ */
+public class FrameAssembler implements MessageHandler.Partial<ByteBuffer> {
+	private static final byte LF = '\n';
+
+	private final Consumer<Frame> consumer;
+	private final int threshold;
+
+	private ByteBuffer buf;
+	private FileChannel spool;
+
+	/**
+	 * 
+	 * @param consumer
+	 * @param threshold the maximum number of bytes held in memory.
+	 */
+	public FrameAssembler(Consumer<Frame> consumer, int threshold) {
+		this.consumer = consumer;
+		this.threshold = threshold;
+		this.buf = ByteBuffer.allocate(Math.min(threshold, 8 * 1024));
+	}
+
+	@Override
+	public void onMessage(ByteBuffer partialMessage, boolean last) {
+		final Frame frame;
+		try {
+			append(partialMessage);
+			if (!last) {
+				return;
+			}
+			frame = this.spool != null ? fromSpool() : Encoding.from(flip());
+		} catch (IOException e) {
+			reset();
+			throw new UncheckedIOException(e);
+		} catch (RuntimeException e) {
+			reset();
+			throw e;
+		}
+		reset();
+		this.consumer.accept(frame);
+	}
+
+	/**
+	 * 
+	 * @param part
+	 * @throws IOException
+	 */
+	private void append(ByteBuffer part) throws IOException {
+		if (this.spool != null) {
+			write(part);
+			return;
+		}
+		if (this.buf.position() + part.remaining() <= this.threshold) {
+			if (this.buf.remaining() < part.remaining()) {
+				final int capacity = Math.min(this.threshold, Math.max(this.buf.capacity() * 2, this.buf.position() + part.remaining()));
+				final ByteBuffer tmp = ByteBuffer.allocate(capacity);
+				this.buf.flip();
+				this.buf = tmp.put(this.buf);
+			}
+			this.buf.put(part);
+			return;
+		}
+		this.spool = FileChannel.open(Files.createTempFile("cito", ".frame"), READ, WRITE, DELETE_ON_CLOSE);
+		write(flip());
+		write(part);
+	}
+
+	/**
+	 * 
+	 * @param src
+	 * @throws IOException
+	 */
+	private void write(ByteBuffer src) throws IOException {
+		while (src.hasRemaining()) {
+			this.spool.write(src);
+		}
+	}
+
+	/**
+	 * 
+	 * @return
+	 */
+	private ByteBuffer flip() {
+		this.buf.flip();
+		return this.buf;
+	}
+
+	/**
+	 * 
+	 * @return
+	 * @throws IOException
+	 */
+	private Frame fromSpool() throws IOException {
+		final long size = this.spool.size();
+		if (size > Integer.MAX_VALUE) {
+			throw new IOException("Frame too large! [" + size + "]");
+		}
+		// read rather than memory mapped so the file can be deleted, and its space released, on reset
+		final ByteBuffer buf = ByteBuffer.allocate((int) size);
+		this.spool.position(0);
+		while (buf.hasRemaining()) {
+			if (this.spool.read(buf) < 0) {
+				throw new IOException("Spool truncated!");
+			}
+		}
+		buf.flip();
+		final int headEnd = headEnd(buf);
+		if (headEnd < 0 || buf.get(buf.limit() - 1) != NULL) {
+			throw new IOException("Invalid frame!");
+		}
+		final ByteBuffer head = ByteBuffer.allocate(headEnd);
+		final ByteBuffer headView = buf.duplicate();
+		headView.limit(headEnd);
+		head.put(headView).flip();
+
+		buf.position(headEnd).limit(buf.limit() - 1);
+		return Encoding.from(head, buf.slice());
+	}
+
+	/**
+	 * 
+	 */
+	private void reset() {
+		this.buf.clear();
+		if (this.spool != null) {
+			try {
+				this.spool.close();
+			} catch (IOException e) {
+				// nothing we can do and we're already finished with it
+			}
+			this.spool = null;
+		}
+	}
+
+
+	// --- Static Methods ---
+
+	/**
+	 * 
+	 * @param buf
+	 * @return the position after the blank line terminating the headers, or {@code -1} if not found.
+	 */
+	private static int headEnd(ByteBuffer buf) {
+		boolean eol = false;
+		for (int i = buf.position(); i < buf.limit(); i++) {
+			final byte b = buf.get(i);
+			if (b == LF) {
+				if (eol) {
+					return i + 1;
+				}
+				eol = true;
+			} else if (b != '\r') {
+				eol = false;
+			}
+		}
+		return -1;
+	}
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2016-2017 Daniel Siviter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cito.stomp.ws;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import javax.websocket.RemoteEndpoint;
+
+/**
+ * Writes a binary WebSocket message as a series of partial messages so only a single chunk is held in memory. The
+ * final partial is sent on {@link #close()}. If the message cannot be completed call {@link #abort()} before closing
+ * so a truncated message isn't completed.
+ * <p/>
+ * <strong>Note:</strong> no other message may be sent to the endpoint until this is closed, so the caller must hold
+ * off all other writes to the session until then. The {@code onClose} callback can be used to release a lock.
+ * 
+ * @author Daniel Siviter
+ * @since v1.0 [19 Oct 2026]
+ */
+public class PartialWriter implements Closeable {
+	private final RemoteEndpoint.Basic remote;
+	private final ByteBuffer chunk;
+	private final Runnable onClose;
+	private final Runnable onAbort;
+	private boolean aborted;
+
+	/**
+	 * 
+	 * @param remote
+	 * @param chunkSize
+	 */
+	public PartialWriter(RemoteEndpoint.Basic remote, int chunkSize) {
+		this(remote, chunkSize, () -> { });
+	}
+
+	/**
+	 * 
+	 * @param remote
+	 * @param chunkSize
+	 * @param onClose called once closed, even if sending the final partial fails.
+	 */
+	public PartialWriter(RemoteEndpoint.Basic remote, int chunkSize, Runnable onClose) {
+		this(remote, chunkSize, onClose, () -> { });
+	}
+
+	/**
+	 * 
+	 * @param remote
+	 * @param chunkSize
+	 * @param onClose called once closed, even if sending the final partial fails.
+	 * @param onAbort called on close, before {@code onClose}, if aborted. As partials may already have been sent this
+	 *            should close the session.
+	 */
+	public PartialWriter(RemoteEndpoint.Basic remote, int chunkSize, Runnable onClose, Runnable onAbort) {
+		this.remote = remote;
+		this.chunk = ByteBuffer.allocate(chunkSize);
+		this.onClose = onClose;
+		this.onAbort = onAbort;
+	}
+
+	/**
+	 * 
+	 * @param b
+	 * @return
+	 * @throws IOException
+	 */
+	public PartialWriter write(byte b) throws IOException {
+		if (!this.chunk.hasRemaining()) {
+			flush(false);
+		}
+		this.chunk.put(b);
+		return this;
+	}
+
+	/**
+	 * 
+	 * @param b
+	 * @param off
+	 * @param len
+	 * @return
+	 * @throws IOException
+	 */
+	public PartialWriter write(byte[] b, int off, int len) throws IOException {
+		return write(ByteBuffer.wrap(b, off, len));
+	}
+
+	/**
+	 * 
+	 * @param src
+	 * @return
+	 * @throws IOException
+	 */
+	public PartialWriter write(ByteBuffer src) throws IOException {
+		while (src.hasRemaining()) {
+			if (!this.chunk.hasRemaining()) {
+				flush(false);
+			}
+			final int len = Math.min(this.chunk.remaining(), src.remaining());
+			final ByteBuffer slice = src.duplicate();
+			slice.limit(slice.position() + len);
+			this.chunk.put(slice);
+			src.position(src.position() + len);
+		}
+		return this;
+	}
+
+	/**
+	 * 
+	 * @param last
+	 * @throws IOException
+	 */
+	private void flush(boolean last) throws IOException {
+		this.chunk.flip();
+		this.remote.sendBinary(this.chunk, last);
+		this.chunk.clear();
+	}
+
+	/**
+	 * Abandons the message. On {@link #close()} the final partial is not sent and {@code onAbort} is called instead.
+	 */
+	public void abort() {
+		this.aborted = true;
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			if (this.aborted) {
+				this.onAbort.run();
+			} else {
+				flush(true);
+			}
+		} finally {
+			this.onClose.run();
+		}
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2016-2017 Daniel Siviter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cito;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link BoundedCache}.
+ * 
+ * @author Daniel Siviter
+ * @since v1.0 [19 Oct 2026]
+ */
+public class BoundedCacheTest {
+	@Test
+	public void get() {
+		final BoundedCache<String, Object> cache = new BoundedCache<>(2);
+		final Object value = cache.get("a", k -> new Object());
+		assertSame(value, cache.get("a", k -> new Object()));
+		assertEquals(1, cache.hitCount());
+		assertEquals(1, cache.missCount());
+	}
+
+	@Test
+	public void get_evict() {
+		final BoundedCache<String, String> cache = new BoundedCache<>(2);
+		cache.get("a", String::toUpperCase);
+		cache.get("b", String::toUpperCase);
+		cache.get("c", String::toUpperCase);
+		assertEquals(2, cache.size());
+		assertEquals(1, cache.evictionCount());
+		assertEquals(3, cache.missCount());
+	}
+
+	@Test
+	public void get_evictLeastRecentlyUsed() {
+		final BoundedCache<String, String> cache = new BoundedCache<>(2);
+		cache.get("a", String::toUpperCase);
+		cache.get("b", String::toUpperCase);
+		cache.get("a", k -> { throw new AssertionError(); });
+		cache.get("c", String::toUpperCase);
+
+		// 'a' was used more recently than 'b' and 'c' was just added
+		assertEquals("A", cache.get("a", k -> { throw new AssertionError(); }));
+		assertEquals("C", cache.get("c", k -> { throw new AssertionError(); }));
+		assertEquals("b", cache.get("b", String::toLowerCase));
+		assertEquals(2, cache.evictionCount());
+	}
+
+	@Test
+	public void get_concurrent() throws InterruptedException {
+		final BoundedCache<Integer, Integer> cache = new BoundedCache<>(16);
+		final ExecutorService executor = Executors.newFixedThreadPool(4);
+		for (int t = 0; t < 4; t++) {
+			executor.execute(() -> {
+				for (int i = 0; i < 10_000; i++) {
+					cache.get(i % 64, k -> k);
+				}
+			});
+		}
+		executor.shutdown();
+		assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+		assertEquals(16, cache.size());
+		assertEquals(40_000, cache.hitCount() + cache.missCount());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void init_invalidSize() {
+		new BoundedCache<>(0);
+	}
+}
@@ -93,6 +93,24 @@ public class GlobTest {
 		assertTrue(Glob.matches("/foo.bar/{hello}/blagh", "/foo.bar/hello-world/blagh"));
 	}
 
+	@Test
+	public void capture_segment() {
+		assertFalse(Glob.matches("/foo.bar/{hello}/blagh", "/foo.bar/hello/world/blagh"));
+	}
+
+	@Test
+	public void characterClass() {
+		assertTrue(Glob.matches("/foo/[a-c]ar", "/foo/bar"));
+		assertFalse(Glob.matches("/foo/[!a-c]ar", "/foo/bar"));
+		assertTrue(Glob.matches("/foo/[!a-c]ar", "/foo/far"));
+	}
+
+	@Test
+	public void escape() {
+		assertTrue(Glob.matches("/foo/\\*", "/foo/*"));
+		assertFalse(Glob.matches("/foo/\\*", "/foo/bar"));
+	}
+
 	@Test
 	public void invalidComma() {
 		this.exception.expect(PatternSyntaxException.class);
@@ -55,7 +55,7 @@ public class PathParamProducerTest {
 
 		close.close();
 
-		assertNull(ReflectionUtil.get(PathParamProducer.class, "HOLDER", ThreadLocal.class).get());
+		assertNull(PathParamProducer.pathParser());
 
 		verifyNoMoreInteractions(parser);
 	}
@@ -68,7 +68,7 @@ public class PathParamProducerTest {
 
 		close.close();
 
-		assertNull(ReflectionUtil.get(PathParamProducer.class, "HOLDER", ThreadLocal.class).get());
+		assertNull(PathParamProducer.pathParser());
 	}
 
 	@Test
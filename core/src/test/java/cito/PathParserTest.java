@@ -94,6 +94,16 @@ public class PathParserTest {
 		assertEquals("first", result.get("param1"));
 	}
 
+	@Test(expected = IllegalArgumentException.class)
+	public void get_unknown() {
+		PathParser.parse("/queue/{param1}", "/queue/first").get("param2");
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void get_noMatch() {
+		PathParser.parse("/queue/{param1}", "/topic/first").get("param1");
+	}
+
 	@Test
 	public void equality() {
 		final PathParser parser0 = new PathParser("/{param}");
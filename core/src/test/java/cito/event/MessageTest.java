@@ -0,0 +1,66 @@
+/*
+ * Copyright 2016-2017 Daniel Siviter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cito.event;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import cito.stomp.Frame;
+
+/**
+ * Unit tests for {@link Message}.
+ * 
+ * @author Daniel Siviter
+ * @since v1.0 [19 Oct 2026]
+ */
+public class MessageTest {
+	@Test
+	public void body() {
+		final Message msg = new Message("sessionId", Frame.send("/here", null, "body").build());
+		final AtomicInteger count = new AtomicInteger();
+
+		final Object body = msg.body(String.class, t -> "body" + count.incrementAndGet());
+		assertEquals("body1", body);
+		assertSame(body, msg.body(String.class, t -> "body" + count.incrementAndGet()));
+		assertEquals(Integer.valueOf(2), msg.body(Integer.class, t -> count.incrementAndGet()));
+		assertEquals(2, count.get());
+	}
+
+	@Test
+	public void body_null() {
+		final Message msg = new Message("sessionId", Frame.send("/here", null, "body").build());
+		final AtomicInteger count = new AtomicInteger();
+
+		assertNull(msg.body(String.class, t -> { count.incrementAndGet(); return null; }));
+		assertNull(msg.body(String.class, t -> { count.incrementAndGet(); return null; }));
+		assertEquals(1, count.get());
+	}
+
+	@Test
+	public void body_recursive() {
+		final Message msg = new Message("sessionId", Frame.send("/here", null, "body").build());
+
+		final Object body = msg.body(String.class, t -> "outer-" + msg.body(Integer.class, i -> 1));
+
+		assertEquals("outer-1", body);
+		assertEquals(Integer.valueOf(1), msg.body(Integer.class, i -> 2));
+	}
+}
@@ -0,0 +1,392 @@
+/*
+ * Copyright 2016-2017 Daniel Siviter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cito.ext;
+
+import static cito.ext.CborSerialiser.APPLICATION_CBOR_TYPE;
+import static javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+
+import javax.json.bind.JsonbBuilder;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import cito.ReflectionUtil;
+
+/**
+ * Unit tests for {@link CborSerialiser}.
+ * 
+ * @author Daniel Siviter
+ * @since v1.0 [19 Oct 2026]
+ */
+public class CborSerialiserTest {
+	private CborSerialiser serialiser;
+
+	@Before
+	public void before() {
+		this.serialiser = new CborSerialiser();
+	}
+
+	@Test
+	public void isReadable() {
+		assertTrue(this.serialiser.isReadable(String.class, APPLICATION_CBOR_TYPE));
+		assertFalse(this.serialiser.isReadable(String.class, APPLICATION_JSON_TYPE));
+	}
+
+	@Test
+	public void isWriteable() {
+		assertTrue(this.serialiser.isWriteable(String.class, APPLICATION_CBOR_TYPE));
+		assertFalse(this.serialiser.isWriteable(String.class, APPLICATION_JSON_TYPE));
+	}
+
+	@Test
+	public void writeTo() throws IOException {
+		// examples from RFC 7049 Appendix A
+		assertArrayEquals(bytes(0x00), write(0));
+		assertArrayEquals(bytes(0x17), write(23));
+		assertArrayEquals(bytes(0x18, 0x18), write(24));
+		assertArrayEquals(bytes(0x19, 0x03, 0xE8), write(1000));
+		assertArrayEquals(bytes(0x1A, 0x00, 0x0F, 0x42, 0x40), write(1000000));
+		assertArrayEquals(bytes(0x1B, 0x00, 0x00, 0x00, 0xE8, 0xD4, 0xA5, 0x10, 0x00), write(1000000000000L));
+		assertArrayEquals(bytes(0x20), write(-1));
+		assertArrayEquals(bytes(0x39, 0x03, 0xE7), write(-1000));
+		assertArrayEquals(bytes(0xFB, 0x3F, 0xF1, 0x99, 0x99, 0x99, 0x99, 0x99, 0x9A), write(1.1));
+		assertArrayEquals(bytes(0xF4), write(false));
+		assertArrayEquals(bytes(0xF5), write(true));
+		assertArrayEquals(bytes(0xF6), write(null));
+		assertArrayEquals(bytes(0x61, 0x61), write("a"));
+		assertArrayEquals(bytes(0x64, 0x49, 0x45, 0x54, 0x46), write("IETF"));
+		assertArrayEquals(bytes(0x44, 0x01, 0x02, 0x03, 0x04), write(new byte[] { 1, 2, 3, 4 }));
+		assertArrayEquals(bytes(0x83, 0x01, 0x02, 0x03), write(Arrays.asList(1, 2, 3)));
+		assertArrayEquals(bytes(0x83, 0x01, 0x02, 0x03), write(new int[] { 1, 2, 3 }));
+		assertArrayEquals(bytes(0xA1, 0x61, 0x61, 0x01), write(Collections.singletonMap("a", 1)));
+	}
+
+	@Test
+	public void readFrom() throws IOException {
+		assertEquals(1000, read(Object.class, 0x19, 0x03, 0xE8));
+		assertEquals(1000000000000L, read(Object.class, 0x1B, 0x00, 0x00, 0x00, 0xE8, 0xD4, 0xA5, 0x10, 0x00));
+		assertEquals(-1000L, read(long.class, 0x39, 0x03, 0xE7));
+		assertEquals(1.0, read(Object.class, 0xF9, 0x3C, 0x00));
+		assertEquals(-4.0, read(Object.class, 0xF9, 0xC4, 0x00));
+		assertEquals(100000.0f, read(float.class, 0xFA, 0x47, 0xC3, 0x50, 0x00));
+		assertEquals(Boolean.TRUE, read(Object.class, 0xF5));
+		assertNull(read(String.class, 0xF6));
+		// tagged date/time string
+		assertEquals("2013-03-21T20:04:00Z", read(Object.class, 0xC0, 0x74, 0x32, 0x30, 0x31, 0x33, 0x2D, 0x30, 0x33,
+				0x2D, 0x32, 0x31, 0x54, 0x32, 0x30, 0x3A, 0x30, 0x34, 0x3A, 0x30, 0x30, 0x5A));
+		// indefinite length text and array
+		assertEquals("streaming", read(String.class, 0x7F, 0x65, 0x73, 0x74, 0x72, 0x65, 0x61, 0x64, 0x6D, 0x69, 0x6E,
+				0x67, 0xFF));
+		assertEquals(Arrays.asList(1, Arrays.asList(2, 3), Arrays.asList(4, 5)),
+				read(Object.class, 0x9F, 0x01, 0x82, 0x02, 0x03, 0x9F, 0x04, 0x05, 0xFF, 0xFF));
+	}
+
+	@Test
+	public void roundTrip() throws IOException {
+		final Person expected = person();
+
+		final Person actual = (Person) read(Person.class, write(expected));
+
+		assertEquals(expected.name, actual.name);
+		assertEquals(expected.getAge(), actual.getAge());
+		assertEquals(expected.getId(), actual.getId());
+		assertEquals(expected.getRole(), actual.getRole());
+		assertArrayEquals(expected.getScores(), actual.getScores(), 0);
+		assertEquals(expected.getTags(), actual.getTags());
+		assertEquals(expected.getAttributes(), actual.getAttributes());
+		assertArrayEquals(expected.getData(), actual.getData());
+		assertNull(actual.getManager());
+		assertEquals(expected.getFriends().size(), actual.getFriends().size());
+		assertEquals(expected.getFriends().get(0).name, actual.getFriends().get(0).name);
+		assertEquals(expected.getFriends().get(0).getAge(), actual.getFriends().get(0).getAge());
+	}
+
+	@Test
+	public void readFrom_unknownProperties() throws IOException {
+		final Map<String, Object> map = new LinkedHashMap<>();
+		map.put("name", "Fred");
+		map.put("unknown", Arrays.asList(Collections.singletonMap("a", 1.5), "b", new byte[] { 1 }));
+		map.put("age", 42);
+
+		final Person actual = (Person) read(Person.class, write(map));
+
+		assertEquals("Fred", actual.name);
+		assertEquals(42, actual.getAge());
+	}
+
+	@Test
+	public void readFrom_generic() throws IOException {
+		final Type type = Person.class.getDeclaredField("friends").getGenericType();
+
+		@SuppressWarnings("unchecked")
+		final List<Person> actual = (List<Person>) read(type, write(person().getFriends()));
+
+		assertEquals("Barney", actual.get(0).name);
+	}
+
+	@Test
+	public void readFrom_hugeLength() throws IOException {
+		// claims a ~2GB byte string with only a single byte following
+		try {
+			read(byte[].class, 0x5A, 0x7F, 0xFF, 0xFF, 0xF0, 0x01);
+			fail("IOException expected!");
+		} catch (IOException e) {
+			assertEquals("String too large! [length=2147483632,max=16777216]", e.getMessage());
+		}
+	}
+
+	@Test
+	public void readFrom_truncated() throws IOException {
+		ReflectionUtil.set(this.serialiser, "maxLength", Integer.MAX_VALUE);
+
+		// within the limit, but only the data that arrives is buffered before failing
+		try {
+			read(byte[].class, 0x5A, 0x7F, 0xFF, 0xFF, 0xF0, 0x01);
+			fail("EOFException expected!");
+		} catch (EOFException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void readFrom_chunked() throws IOException {
+		final byte[] data = new byte[20_000];
+		Arrays.fill(data, (byte) 7);
+
+		assertArrayEquals(data, (byte[]) read(byte[].class, write(data)));
+	}
+
+	@Test
+	public void readFrom_deepNesting() throws IOException {
+		final byte[] nested = new byte[100_000];
+		Arrays.fill(nested, (byte) 0x81); // array of one item, repeated
+
+		for (Type type : new Type[] { Object.class, Person.class }) {
+			try {
+				read(type, type == Person.class ? concat(bytes(0xA1, 0x63, 'f', 'o', 'o'), nested) : nested);
+				fail("IOException expected!");
+			} catch (IOException e) {
+				assertEquals("Nesting too deep! [max=64]", e.getMessage());
+			}
+		}
+	}
+
+	@Test
+	public void size() throws IOException {
+		final Person person = person();
+
+		final byte[] cbor = write(person);
+		final byte[] json = JsonbBuilder.create().toJson(person).getBytes();
+
+		assertTrue(cbor.length + " < " + json.length, cbor.length < json.length);
+	}
+
+	/**
+	 * 
+	 * @param value
+	 * @return
+	 * @throws IOException
+	 */
+	private byte[] write(Object value) throws IOException {
+		final ByteArrayOutputStream os = new ByteArrayOutputStream();
+		this.serialiser.writeTo(value, value == null ? Object.class : value.getClass(), APPLICATION_CBOR_TYPE, os);
+		return os.toByteArray();
+	}
+
+	/**
+	 * 
+	 * @param type
+	 * @param bytes
+	 * @return
+	 * @throws IOException
+	 */
+	private Object read(Type type, int... bytes) throws IOException {
+		return read(type, bytes(bytes));
+	}
+
+	/**
+	 * 
+	 * @param type
+	 * @param bytes
+	 * @return
+	 * @throws IOException
+	 */
+	private Object read(Type type, byte[] bytes) throws IOException {
+		return this.serialiser.readFrom(type, APPLICATION_CBOR_TYPE, new ByteArrayInputStream(bytes));
+	}
+
+
+	// --- Static Methods ---
+
+	/**
+	 * 
+	 * @param a
+	 * @param b
+	 * @return
+	 */
+	private static byte[] concat(byte[] a, byte[] b) {
+		final byte[] bytes = Arrays.copyOf(a, a.length + b.length);
+		System.arraycopy(b, 0, bytes, a.length, b.length);
+		return bytes;
+	}
+
+	/**
+	 * 
+	 * @param values
+	 * @return
+	 */
+	private static byte[] bytes(int... values) {
+		final byte[] bytes = new byte[values.length];
+		for (int i = 0; i < values.length; i++) {
+			bytes[i] = (byte) values[i];
+		}
+		return bytes;
+	}
+
+	/**
+	 * 
+	 * @return
+	 */
+	private static Person person() {
+		final Person friend = new Person();
+		friend.name = "Barney";
+		friend.setAge(37);
+
+		final Person person = new Person();
+		person.name = "Fred";
+		person.setAge(38);
+		person.setId(UUID.randomUUID());
+		person.setRole(Role.ADMIN);
+		person.setScores(new double[] { 1.5, -2.25 });
+		person.setTags(new TreeSet<>(Arrays.asList("b", "a")));
+		person.setAttributes(Collections.singletonMap("town", "Bedrock"));
+		person.setData(new byte[] { 1, 2, 3 });
+		person.setFriends(Arrays.asList(friend));
+		return person;
+	}
+
+
+	// --- Inner Classes ---
+
+	public enum Role {
+		USER, ADMIN
+	}
+
+	public static class Person {
+		public String name;
+		private int age;
+		private UUID id;
+		private Role role;
+		private double[] scores;
+		private Set<String> tags;
+		private Map<String, String> attributes;
+		private byte[] data;
+		private Person manager;
+		private List<Person> friends;
+
+		public int getAge() {
+			return age;
+		}
+
+		public void setAge(int age) {
+			this.age = age;
+		}
+
+		public UUID getId() {
+			return id;
+		}
+
+		public void setId(UUID id) {
+			this.id = id;
+		}
+
+		public Role getRole() {
+			return role;
+		}
+
+		public void setRole(Role role) {
+			this.role = role;
+		}
+
+		public double[] getScores() {
+			return scores;
+		}
+
+		public void setScores(double[] scores) {
+			this.scores = scores;
+		}
+
+		public Set<String> getTags() {
+			return tags;
+		}
+
+		public void setTags(Set<String> tags) {
+			this.tags = tags;
+		}
+
+		public Map<String, String> getAttributes() {
+			return attributes;
+		}
+
+		public void setAttributes(Map<String, String> attributes) {
+			this.attributes = attributes;
+		}
+
+		public byte[] getData() {
+			return data;
+		}
+
+		public void setData(byte[] data) {
+			this.data = data;
+		}
+
+		public Person getManager() {
+			return manager;
+		}
+
+		public void setManager(Person manager) {
+			this.manager = manager;
+		}
+
+		public List<Person> getFriends() {
+			return friends;
+		}
+
+		public void setFriends(List<Person> friends) {
+			this.friends = friends;
+		}
+	}
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2016-2017 Daniel Siviter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cito.ext;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import javax.enterprise.inject.Instance;
+import javax.json.bind.Jsonb;
+import javax.json.bind.JsonbBuilder;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.slf4j.Logger;
+
+import cito.ReflectionUtil;
+
+/**
+ * Unit tests for {@link JsonBSerialiser}.
+ * 
+ * @author Daniel Siviter
+ * @since v1.0 [19 Oct 2026]
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class JsonBSerialiserTest {
+	@Mock
+	private Logger log;
+	@Mock
+	private Instance<Jsonb> jsonb;
+
+	@InjectMocks
+	private JsonBSerialiser serialiser;
+
+	@Test
+	public void init() throws IOException {
+		final Jsonb jsonb = JsonbBuilder.create();
+		when(this.jsonb.isUnsatisfied()).thenReturn(false);
+		when(this.jsonb.get()).thenReturn(jsonb);
+
+		this.serialiser.init();
+		final ByteArrayOutputStream os = new ByteArrayOutputStream();
+		this.serialiser.writeTo(new Bean("value"), Bean.class, APPLICATION_JSON_TYPE, os);
+		final Bean actual = (Bean) this.serialiser.readFrom(
+				Bean.class, APPLICATION_JSON_TYPE, new ByteArrayInputStream(os.toByteArray()));
+
+		assertEquals("{\"name\":\"value\"}", new String(os.toByteArray(), UTF_8));
+		assertEquals("value", actual.getName());
+
+		verify(this.jsonb).isUnsatisfied();
+		verify(this.jsonb).get();
+	}
+
+	@Test
+	public void init_unsatisfied() {
+		when(this.jsonb.isUnsatisfied()).thenReturn(true);
+
+		this.serialiser.init();
+		this.serialiser.destroy();
+
+		verify(this.jsonb).isUnsatisfied();
+	}
+
+	@Test
+	public void startup() {
+		when(this.jsonb.isUnsatisfied()).thenReturn(true);
+		ReflectionUtil.set(this.serialiser, "warmUp", Bean.class.getName() + ", acme.Unknown,");
+
+		this.serialiser.init();
+		this.serialiser.startup(new Object());
+
+		verify(this.jsonb).isUnsatisfied();
+		verify(this.log).warn(eq("Unable to warm up type! [{}]"), eq("acme.Unknown"), any(ClassNotFoundException.class));
+		verify(this.log).info(eq("Json-B warm up complete. [types={},time={}ms]"), eq(1), anyLong());
+	}
+
+	@Test
+	public void startup_none() {
+		when(this.jsonb.isUnsatisfied()).thenReturn(true);
+
+		this.serialiser.init();
+		this.serialiser.startup(new Object());
+
+		verify(this.jsonb).isUnsatisfied();
+	}
+
+	@After
+	public void after() {
+		verifyNoMoreInteractions(this.log, this.jsonb);
+	}
+
+
+	// --- Inner Classes ---
+
+	public static class Bean {
+		private String name;
+
+		public Bean() { }
+
+		Bean(String name) {
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+}
@@ -18,7 +18,9 @@ package cito.ext;
 
 import static java.util.Arrays.asList;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -26,8 +28,11 @@ import static org.mockito.Mockito.when;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.util.Collections;
 import java.util.Iterator;
 
+import javax.annotation.Priority;
 import javax.enterprise.inject.Instance;
 import javax.ws.rs.core.MediaType;
 
@@ -95,8 +100,89 @@ public class SerialiserTest {
 		verifyNoMoreInteractions(os);
 	}
 
+	@Test
+	public void readFrom_unreadable() throws IOException {
+		final InputStream is = mock(InputStream.class);
+		final MediaType mediaType = MediaType.APPLICATION_JSON_TYPE;
+		when(readers.iterator()).thenReturn(Collections.emptyIterator());
+
+		for (int i = 0; i < 2; i++) {
+			try {
+				this.serialiser.readFrom(SerialiserTest.class, mediaType, is);
+				fail("IOException expected!");
+			} catch (IOException e) {
+				assertEquals("Unable to read! [type=" + SerialiserTest.class + ",mediaType=" + mediaType + "]", e.getMessage());
+			}
+		}
+
+		verify(readers).iterator();
+		verifyNoMoreInteractions(is);
+	}
+
+	@Test
+	public void writeTo_cached() throws IOException {
+		final OutputStream os = Mockito.mock(OutputStream.class);
+		final MediaType mediaType = MediaType.APPLICATION_JSON_TYPE;
+		@SuppressWarnings("unchecked")
+		final BodyWriter<SerialiserTest> writer = mock(BodyWriter.class);
+		@SuppressWarnings({ "rawtypes", "unchecked" })
+		final Iterator<BodyWriter<?>> iterator = (Iterator) asList(writer).iterator();
+		when(writers.iterator()).thenReturn(iterator);
+		when(writer.isWriteable(SerialiserTest.class, mediaType)).thenReturn(true);
+
+		this.serialiser.writeTo(this, SerialiserTest.class, mediaType, os);
+		this.serialiser.writeTo(this, SerialiserTest.class, mediaType, os);
+
+		verify(writers).iterator();
+		verify(writer).isWriteable(SerialiserTest.class, mediaType);
+		verify(writer, times(2)).writeTo(this, SerialiserTest.class, mediaType, os);
+		verifyNoMoreInteractions(os, writer);
+	}
+
+	@Test
+	public void writeTo_priority() throws IOException {
+		final OutputStream os = Mockito.mock(OutputStream.class);
+		final MediaType mediaType = MediaType.APPLICATION_JSON_TYPE;
+		@SuppressWarnings("unchecked")
+		final BodyWriter<SerialiserTest> writer = mock(BodyWriter.class);
+		// as a proxy would, the subclass inherits the priority of the bean class
+		final PriorityWriter priorityWriter = new PriorityWriter() { };
+		@SuppressWarnings({ "rawtypes", "unchecked" })
+		final Iterator<BodyWriter<?>> iterator = (Iterator) asList(writer, priorityWriter).iterator();
+		when(writers.iterator()).thenReturn(iterator);
+
+		this.serialiser.writeTo(this, SerialiserTest.class, mediaType, os);
+
+		assertEquals(1, priorityWriter.count);
+		verify(writers).iterator();
+		verifyNoMoreInteractions(os, writer);
+	}
+
 	@After
 	public void after() {
 		verifyNoMoreInteractions(this.readers, this.writers);
 	}
+
+
+	// --- Inner Classes ---
+
+	/**
+	 * 
+	 * @author Daniel Siviter
+	 * @since v1.0 [19 Oct 2026]
+	 */
+	@Priority(1)
+	private static class PriorityWriter implements BodyWriter<Object> {
+		private int count;
+
+		@Override
+		public boolean isWriteable(Type type, MediaType mediaType) {
+			return true;
+		}
+
+		@Override
+		public void writeTo(Object t, Type type, MediaType mediaType, OutputStream os) {
+			this.count++;
+		}
+	}
 }
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2016-2017 Daniel Siviter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cito.io;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link ByteBufferInputStream}.
+ * 
+ * @author Daniel Siviter
+ * @since v1.0 [19 Oct 2026]
+ */
+public class ByteBufferInputStreamTest {
+	@Test
+	public void read() throws IOException {
+		try (InputStream is = new ByteBufferInputStream(ByteBuffer.wrap(new byte[] { 1, (byte) 0xFF }))) {
+			assertEquals(1, is.read());
+			assertEquals(0xFF, is.read());
+			assertEquals(-1, is.read());
+		}
+	}
+
+	@Test
+	public void read_bulk() throws IOException {
+		final ByteBuffer buf = UTF_8.encode("hello world");
+		try (InputStream is = new ByteBufferInputStream(buf)) {
+			assertEquals(11, is.available());
+			final byte[] b = new byte[8];
+			assertEquals(0, is.read(b, 0, 0));
+			assertEquals(5, is.read(b, 1, 5));
+			assertArrayEquals("\0hello\0\0".getBytes(UTF_8), b);
+			assertEquals(1, is.skip(1));
+			assertEquals(5, is.read(b));
+			assertEquals("world", new String(b, 0, 5, UTF_8));
+			assertEquals(0, is.available());
+			assertEquals(-1, is.read(b));
+			assertEquals(0, is.skip(1));
+		}
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void read_bulk_outOfBounds() throws IOException {
+		try (InputStream is = new ByteBufferInputStream(ByteBuffer.allocate(4))) {
+			is.read(new byte[2], 1, 2);
+		}
+	}
+}
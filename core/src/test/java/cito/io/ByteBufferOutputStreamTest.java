@@ -0,0 +1,50 @@
+/*
+ * Copyright 2016-2017 Daniel Siviter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cito.io;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link ByteBufferOutputStream}.
+ * 
+ * @author Daniel Siviter
+ * @since v1.0 [19 Oct 2026]
+ */
+public class ByteBufferOutputStreamTest {
+	@Test
+	public void write() {
+		final ByteBufferOutputStream os = new ByteBufferOutputStream(2);
+		os.write('a');
+		os.write("bcdef".getBytes(UTF_8), 1, 3);
+		os.write(UTF_8.encode("xyz"));
+		os.close();
+
+		assertEquals(7, os.size());
+		final ByteBuffer buf = os.toByteBuffer();
+		assertEquals(0, buf.position());
+		assertEquals("acdexyz", UTF_8.decode(buf).toString());
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void write_outOfBounds() {
+		new ByteBufferOutputStream(2).write(new byte[2], 1, 2);
+	}
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2016-2017 Daniel Siviter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cito.jms;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import javax.jms.Destination;
+import javax.jms.JMSConsumer;
+import javax.jms.JMSContext;
+import javax.jms.JMSException;
+import javax.jms.JMSProducer;
+import javax.jms.JMSRuntimeException;
+import javax.jms.Message;
+import javax.jms.MessageListener;
+import javax.jms.TemporaryQueue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+/**
+ * Unit test for {@link MultiplexRequestor}.
+ * 
+ * @author Daniel Siviter
+ * @since v1.0 [19 Oct 2026]
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class MultiplexRequestorTest {
+	@Mock
+	private JMSContext context;
+	@Mock
+	private JMSContext replyContext;
+	@Mock
+	private JMSProducer producer;
+	@Mock
+	private JMSConsumer consumer;
+	@Mock
+	private TemporaryQueue replyQueue;
+	@Mock
+	private ScheduledExecutorService scheduler;
+	@Mock
+	private ScheduledFuture<?> timer;
+	@Mock
+	private Destination dest;
+
+	private MultiplexRequestor requestor;
+	private MessageListener listener;
+
+	@Before
+	public void before() {
+		when(this.context.createProducer()).thenReturn(this.producer);
+		when(this.context.createContext(JMSContext.AUTO_ACKNOWLEDGE)).thenReturn(this.replyContext);
+		when(this.replyContext.createTemporaryQueue()).thenReturn(this.replyQueue);
+		when(this.replyContext.createConsumer(this.replyQueue)).thenReturn(this.consumer);
+
+		this.requestor = new MultiplexRequestor(this.context, this.scheduler);
+
+		final ArgumentCaptor<MessageListener> listenerCaptor = ArgumentCaptor.forClass(MessageListener.class);
+		verify(this.consumer).setMessageListener(listenerCaptor.capture());
+		this.listener = listenerCaptor.getValue();
+	}
+
+	@Test
+	public void request() throws JMSException, InterruptedException, ExecutionException {
+		doReturn(this.timer).when(this.scheduler).schedule(any(Runnable.class), eq(1L), eq(TimeUnit.SECONDS));
+		final Message req0 = mock(Message.class);
+		final Message req1 = mock(Message.class);
+
+		final CompletableFuture<Message> future0 = this.requestor.request(this.dest, req0, 1, TimeUnit.SECONDS);
+		final CompletableFuture<Message> future1 = this.requestor.request(this.dest, req1, 1, TimeUnit.SECONDS);
+		assertEquals(2, this.requestor.pendingCount());
+
+		// replies out of order
+		final Message res1 = reply(correlationId(req1));
+		this.listener.onMessage(res1);
+		assertFalse(future0.isDone());
+		assertSame(res1, future1.get());
+		final Message res0 = reply(correlationId(req0));
+		this.listener.onMessage(res0);
+		assertSame(res0, future0.get());
+		this.listener.onMessage(reply("unknown"));
+		assertEquals(0, this.requestor.pendingCount());
+
+		verify(this.scheduler, times(2)).schedule(any(Runnable.class), eq(1L), eq(TimeUnit.SECONDS));
+		verify(this.timer, times(2)).cancel(false);
+		verify(req0).setJMSReplyTo(this.replyQueue);
+		verify(req1).setJMSReplyTo(this.replyQueue);
+		verify(this.producer).send(this.dest, req0);
+		verify(this.producer).send(this.dest, req1);
+	}
+
+	@Test
+	public void request_timeout() throws JMSException, InterruptedException {
+		doReturn(this.timer).when(this.scheduler).schedule(any(Runnable.class), eq(1L), eq(TimeUnit.SECONDS));
+		final Message req = mock(Message.class);
+
+		final CompletableFuture<Message> future = this.requestor.request(this.dest, req, 1, TimeUnit.SECONDS);
+		final ArgumentCaptor<Runnable> timeoutCaptor = ArgumentCaptor.forClass(Runnable.class);
+		verify(this.scheduler).schedule(timeoutCaptor.capture(), eq(1L), eq(TimeUnit.SECONDS));
+		timeoutCaptor.getValue().run();
+		// late reply is discarded
+		this.listener.onMessage(reply(correlationId(req)));
+
+		try {
+			future.get();
+			fail("ExecutionException expected!");
+		} catch (ExecutionException e) {
+			assertTrue(e.getCause() instanceof TimeoutException);
+		}
+		assertEquals(0, this.requestor.pendingCount());
+
+		verify(this.timer).cancel(false);
+		verify(req).setJMSReplyTo(this.replyQueue);
+		verify(this.producer).send(this.dest, req);
+	}
+
+	@Test
+	public void request_sendFailure() throws JMSException {
+		doReturn(this.timer).when(this.scheduler).schedule(any(Runnable.class), eq(1L), eq(TimeUnit.SECONDS));
+		final Message req = mock(Message.class);
+		final JMSRuntimeException expected = new JMSRuntimeException("Bang!");
+		when(this.producer.send(this.dest, req)).thenThrow(expected);
+
+		try {
+			this.requestor.request(this.dest, req, 1, TimeUnit.SECONDS);
+			fail("JMSRuntimeException expected!");
+		} catch (JMSRuntimeException e) {
+			assertSame(expected, e);
+		}
+		assertEquals(0, this.requestor.pendingCount());
+
+		verify(this.scheduler).schedule(any(Runnable.class), eq(1L), eq(TimeUnit.SECONDS));
+		verify(this.timer).cancel(false);
+		verify(req).setJMSCorrelationID(any());
+		verify(req).setJMSReplyTo(this.replyQueue);
+		verify(this.producer).send(this.dest, req);
+	}
+
+	@Test
+	public void close() throws JMSException, InterruptedException {
+		doReturn(this.timer).when(this.scheduler).schedule(any(Runnable.class), eq(1L), eq(TimeUnit.SECONDS));
+		final Message req = mock(Message.class);
+		final CompletableFuture<Message> future = this.requestor.request(this.dest, req, 1, TimeUnit.SECONDS);
+
+		this.requestor.close();
+
+		try {
+			future.get();
+			fail("ExecutionException expected!");
+		} catch (ExecutionException e) {
+			assertEquals("Requestor closed!", e.getCause().getMessage());
+		}
+		assertEquals(0, this.requestor.pendingCount());
+
+		verify(this.scheduler).schedule(any(Runnable.class), eq(1L), eq(TimeUnit.SECONDS));
+		verify(this.timer).cancel(false);
+		verify(req).setJMSCorrelationID(any());
+		verify(req).setJMSReplyTo(this.replyQueue);
+		verify(this.producer).send(this.dest, req);
+		verify(this.consumer).close();
+		verify(this.replyQueue).delete();
+		verify(this.replyContext).close();
+	}
+
+	@After
+	public void after() {
+		verify(this.context).createProducer();
+		verify(this.context).createContext(JMSContext.AUTO_ACKNOWLEDGE);
+		verify(this.replyContext).createTemporaryQueue();
+		verify(this.replyContext).createConsumer(this.replyQueue);
+		verifyNoMoreInteractions(
+				this.context, this.replyContext, this.producer, this.consumer, this.replyQueue, this.scheduler,
+				this.timer, this.dest);
+	}
+
+	/**
+	 * 
+	 * @param req
+	 * @return the correlation ID set on the request.
+	 * @throws JMSException
+	 */
+	private static String correlationId(Message req) throws JMSException {
+		final ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+		verify(req).setJMSCorrelationID(captor.capture());
+		return captor.getValue();
+	}
+
+	/**
+	 * 
+	 * @param correlationId
+	 * @return a reply with the correlation ID.
+	 * @throws JMSException
+	 */
+	private static Message reply(String correlationId) throws JMSException {
+		final Message reply = mock(Message.class);
+		when(reply.getJMSCorrelationID()).thenReturn(correlationId);
+		return reply;
+	}
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2016-2017 Daniel Siviter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cito.scope;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.websocket.Session;
+
+import org.junit.After;
+import org.junit.Test;
+
+import cito.PathParamProducer;
+import cito.PathParser;
+import cito.QuietClosable;
+import cito.event.ClientMessageProducer;
+import cito.event.Message;
+import cito.stomp.Frame;
+
+/**
+ * Unit tests for {@link DispatchContext}.
+ * 
+ * @author Daniel Siviter
+ * @since v1.0 [19 Oct 2026]
+ */
+public class DispatchContextTest {
+	@Test
+	public void current() throws InterruptedException, ExecutionException {
+		final DispatchContext ctx = DispatchContext.current();
+		assertSame(ctx, DispatchContext.current());
+
+		final ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			assertNotSame(ctx, executor.submit(DispatchContext::current).get());
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void activate() {
+		final DispatchContext ctx = DispatchContext.current();
+		final Session session = mock(Session.class);
+		final Message msg = new Message("sessionId", Frame.HEART_BEAT);
+		final PathParser parser = new PathParser("/{there}");
+
+		try (QuietClosable c = ctx.activate(session)) {
+			assertSame(ctx, c);
+			ctx.message(msg);
+			ctx.pathParser(parser);
+
+			assertSame(session, ctx.session());
+			assertSame(msg, ClientMessageProducer.get());
+			assertSame(parser, PathParamProducer.pathParser());
+		}
+		assertNull(ctx.session());
+		assertNull(ctx.message());
+		assertNull(ctx.pathParser());
+	}
+
+	@Test
+	public void activate_alreadySet() {
+		final DispatchContext ctx = DispatchContext.current();
+		final Session session = mock(Session.class);
+		when(session.getId()).thenReturn("sessionId");
+		final Session session0 = mock(Session.class);
+		when(session0.getId()).thenReturn("sessionId0");
+
+		try (QuietClosable c = ctx.activate(session)) {
+			ctx.activate(session0);
+			fail("IllegalStateException expected!");
+		} catch (IllegalStateException e) {
+			assertEquals("Session already set! [expected=sessionId,current=sessionId0]", e.getMessage());
+		}
+		assertNull(ctx.session());
+	}
+
+	@Test
+	public void message_alreadySet() {
+		final DispatchContext ctx = DispatchContext.current();
+		ctx.message(new Message("sessionId", Frame.HEART_BEAT));
+		try {
+			ctx.message(new Message("sessionId", Frame.HEART_BEAT));
+			fail("IllegalStateException expected!");
+		} catch (IllegalStateException e) {
+			assertEquals("Already set!", e.getMessage());
+		}
+		ctx.message(null);
+		assertNull(ctx.message());
+	}
+
+	@After
+	public void after() {
+		DispatchContext.current().close();
+	}
+}
@@ -18,8 +18,13 @@ package cito.server;
 
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.verifyZeroInteractions;
@@ -34,6 +39,7 @@ import javax.enterprise.inject.spi.BeanManager;
 import javax.websocket.CloseReason;
 import javax.websocket.CloseReason.CloseCodes;
 import javax.websocket.EndpointConfig;
+import javax.websocket.MessageHandler;
 import javax.websocket.Session;
 
 import org.junit.After;
@@ -46,11 +52,13 @@ import org.mockito.junit.MockitoJUnitRunner;
 import org.slf4j.Logger;
 
 import cito.annotation.Qualifiers;
-import cito.event.Message;
+import cito.scope.DispatchContext;
 import cito.scope.WebSocketContext;
 import cito.stomp.Command;
 import cito.stomp.Frame;
 import cito.stomp.jms.Relay;
+import cito.stomp.ws.FrameAssembler;
+import cito.stomp.ws.FrameDecoder;
 
 /**
  * Unit tests for {@link AbstractEndpoint}.
@@ -69,7 +77,7 @@ public class AbstractEndpointTest {
 	@Mock
 	private Relay relay;
 	@Mock
-	private Event<Message> messageEvent;
+	private EventDispatcher dispatcher;
 	@Mock
 	private Event<Session> sessionEvent;
 	@Mock
@@ -89,6 +97,7 @@ public class AbstractEndpointTest {
 	}
 
 	@Test
+	@SuppressWarnings("unchecked")
 	public void onOpen() {
 		final Session session = mock(Session.class);
 		when(session.getId()).thenReturn("sessionId");
@@ -109,6 +118,70 @@ public class AbstractEndpointTest {
 				"httpSessionId",
 				null);
 		verify(config).getUserProperties();
+		verify(config).getDecoders();
+		verify(session).getUserProperties();
+		verify(session).addMessageHandler(eq(ByteBuffer.class), any(MessageHandler.Whole.class));
+		verify(this.registry).register(session);
+		verify(this.sessionEvent).select(Qualifiers.onOpen());
+		verify(this.sessionEvent).fire(session);
+		verifyNoMoreInteractions(session, config);
+	}
+
+	@Test
+	public void onOpen_largeMessages() {
+		ReflectionUtil.set(this.endpoint, "largeMessageThreshold", 1024);
+		final Session session = mock(Session.class);
+		when(session.getId()).thenReturn("sessionId");
+		final Map<String, List<String>> paramMap = singletonMap("httpSessionId", singletonList("httpSessionId"));
+		when(session.getRequestParameterMap()).thenReturn(paramMap);
+		final EndpointConfig config = mock(EndpointConfig.class);
+		when(this.sessionEvent.select(Qualifiers.onOpen())).thenReturn(this.sessionEvent);
+		when(config.getUserProperties()).thenReturn(new HashMap<>());
+		when(config.getDecoders()).thenReturn(singletonList(FrameDecoder.Text.class));
+
+		this.endpoint.onOpen(session, config);
+
+		verify(session).getRequestParameterMap();
+		verify(session).getId();
+		verify(session).getUserPrincipal();
+		verify(this.log).info("WebSocket connection opened. [id={},httpSessionId={},principle={}]",
+				"sessionId",
+				"httpSessionId",
+				null);
+		verify(config).getUserProperties();
+		verify(config).getDecoders();
+		verify(session).getUserProperties();
+		verify(session).addMessageHandler(eq(ByteBuffer.class), any(FrameAssembler.class));
+		verify(this.registry).register(session);
+		verify(this.sessionEvent).select(Qualifiers.onOpen());
+		verify(this.sessionEvent).fire(session);
+		verifyNoMoreInteractions(session, config);
+	}
+
+	@Test
+	public void onOpen_largeMessages_binaryDecoder() {
+		ReflectionUtil.set(this.endpoint, "largeMessageThreshold", 1024);
+		final Session session = mock(Session.class);
+		when(session.getId()).thenReturn("sessionId");
+		final Map<String, List<String>> paramMap = singletonMap("httpSessionId", singletonList("httpSessionId"));
+		when(session.getRequestParameterMap()).thenReturn(paramMap);
+		final EndpointConfig config = mock(EndpointConfig.class);
+		when(this.sessionEvent.select(Qualifiers.onOpen())).thenReturn(this.sessionEvent);
+		when(config.getUserProperties()).thenReturn(new HashMap<>());
+		when(config.getDecoders()).thenReturn(singletonList(FrameDecoder.Binary.class));
+
+		this.endpoint.onOpen(session, config);
+
+		verify(session).getRequestParameterMap();
+		verify(session, times(2)).getId();
+		verify(session).getUserPrincipal();
+		verify(this.log).info("WebSocket connection opened. [id={},httpSessionId={},principle={}]",
+				"sessionId",
+				"httpSessionId",
+				null);
+		verify(this.log).warn("Binary decoder configured, large messages will not be assembled! [id={}]", "sessionId");
+		verify(config).getUserProperties();
+		verify(config).getDecoders();
 		verify(session).getUserProperties();
 		verify(this.registry).register(session);
 		verify(this.sessionEvent).select(Qualifiers.onOpen());
@@ -122,15 +195,22 @@ public class AbstractEndpointTest {
 		when(session.getId()).thenReturn("sessionId");
 		final Frame frame = mock(Frame.class);
 		when(frame.getCommand()).thenReturn(Command.MESSAGE);
+		when(this.webSocketContext.activate(session)).thenReturn(DispatchContext.current());
+		doAnswer(inv -> {
+			assertSame(inv.getArgument(1), DispatchContext.current().message());
+			return null;
+		}).when(this.dispatcher).dispatch(eq(session), any());
 
 		this.endpoint.message(session, frame);
 
+		assertNull(DispatchContext.current().message());
+
 		verify(session).getId();
 		verify(session).getUserPrincipal();
 		verify(this.log).debug("Received message from client. [id={},principle={},command={}]", "sessionId", null, Command.MESSAGE);
 		verify(frame).getCommand();
 		verify(this.relay).fromClient(any());
-		verify(this.messageEvent).fire(any());
+		verify(this.dispatcher).dispatch(eq(session), any());
 		verifyNoMoreInteractions(session, frame);
 	}
 
@@ -158,6 +238,10 @@ public class AbstractEndpointTest {
 		when(session.getId()).thenReturn("sessionId");
 		final CloseReason reason = new CloseReason(CloseCodes.GOING_AWAY, "oooh");
 		when(this.sessionEvent.select(Qualifiers.onClose())).thenReturn(this.sessionEvent);
+		doAnswer(inv -> {
+			inv.<Runnable>getArgument(1).run();
+			return null;
+		}).when(this.dispatcher).close(eq(session), any());
 
 		this.endpoint.onClose(session, reason);
 
@@ -168,6 +252,7 @@ public class AbstractEndpointTest {
 		verify(this.registry).unregister(session);
 		verify(this.sessionEvent).select(Qualifiers.onClose());
 		verify(this.sessionEvent).fire(session);
+		verify(this.dispatcher).close(eq(session), any());
 		verifyNoMoreInteractions(session);
 	}
 
@@ -180,7 +265,7 @@ public class AbstractEndpointTest {
 				this.beanManager,
 				this.registry,
 				this.relay,
-				this.messageEvent,
+				this.dispatcher,
 				this.sessionEvent,
 				this.errorEvent,
 				this.extension);
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2016-2017 Daniel Siviter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cito.server;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singleton;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import javax.enterprise.inject.spi.ObserverMethod;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import cito.annotation.OnSend;
+import cito.annotation.Qualifiers;
+import cito.event.Message;
+
+/**
+ * Unit test for {@link DispatchIndex}.
+ * 
+ * @author Daniel Siviter
+ * @since v1.0 [19 Oct 2026]
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class DispatchIndexTest {
+	@Mock
+	private ObserverMethod<Message> literal;
+	@Mock
+	private ObserverMethod<Message> wildcard;
+	@Mock
+	private ObserverMethod<Message> param;
+
+	private DispatchIndex index;
+
+	@Before
+	public void before() {
+		when(this.literal.getObservedQualifiers()).thenReturn(singleton(Qualifiers.onSend("/topic/foo")));
+		when(this.wildcard.getObservedQualifiers()).thenReturn(singleton(Qualifiers.onSend("/topic/*")));
+		when(this.param.getObservedQualifiers()).thenReturn(singleton(Qualifiers.onSend("/queue/{id}")));
+		this.index = new DispatchIndex(OnSend.class, asList(this.literal, this.wildcard, this.param));
+	}
+
+	@Test
+	public void resolve_literal() {
+		final List<DispatchIndex.Target> targets = this.index.resolve("/topic/foo");
+		assertEquals(2, targets.size());
+		assertSame(this.literal, targets.get(0).observerMethod());
+		assertSame(this.wildcard, targets.get(1).observerMethod());
+		assertSame(targets, this.index.resolve("/topic/foo"));
+	}
+
+	@Test
+	public void resolve_param() {
+		final List<DispatchIndex.Target> targets = this.index.resolve("/queue/bar");
+		assertEquals(1, targets.size());
+		assertSame(this.param, targets.get(0).observerMethod());
+		assertEquals("bar", targets.get(0).pathParser().parse("/queue/bar").get("id"));
+	}
+
+	@Test
+	public void resolve_none() {
+		assertTrue(this.index.resolve("/other").isEmpty());
+		assertTrue(this.index.resolve(null).isEmpty());
+	}
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2016-2017 Daniel Siviter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cito.server;
+
+import static cito.annotation.Qualifiers.onError;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.enterprise.event.Event;
+import javax.enterprise.inject.spi.BeanManager;
+import javax.websocket.Session;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.slf4j.Logger;
+
+import cito.ReflectionUtil;
+import cito.event.ClientMessageProducer;
+import cito.event.Message;
+import cito.scope.DispatchContext;
+import cito.scope.WebSocketContext;
+import cito.stomp.Frame;
+
+/**
+ * Unit tests for {@link EventDispatcher}.
+ * 
+ * @author Daniel Siviter
+ * @since v1.0 [19 Oct 2026]
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class EventDispatcherTest {
+	@Mock
+	private Logger log;
+	@Mock
+	private BeanManager beanManager;
+	@Mock
+	private Event<Message> messageEvent;
+	@Mock
+	private Event<Throwable> errorEvent;
+	@Mock
+	private Session session;
+
+	@InjectMocks
+	private EventDispatcher dispatcher;
+
+	@Test
+	public void dispatch() {
+		final Message msg = new Message("sessionId", Frame.HEART_BEAT);
+
+		this.dispatcher.init();
+		this.dispatcher.dispatch(this.session, msg);
+
+		assertFalse(this.dispatcher.isAsync());
+		verify(this.messageEvent).fire(msg);
+	}
+
+	@Test
+	public void close() {
+		final Runnable task = mock(Runnable.class);
+
+		this.dispatcher.init();
+		this.dispatcher.close(this.session, task);
+
+		verify(task).run();
+		verifyNoMoreInteractions(task);
+	}
+
+	@Test
+	public void dispatch_async() throws InterruptedException {
+		final Extension extension = mock(Extension.class);
+		final WebSocketContext webSocketContext = mock(WebSocketContext.class);
+		when(this.beanManager.getExtension(Extension.class)).thenReturn(extension);
+		when(extension.webSocketContext()).thenReturn(webSocketContext);
+		when(webSocketContext.activate(this.session)).thenAnswer(inv -> DispatchContext.current());
+		when(this.session.getId()).thenReturn("sessionId");
+
+		final List<Message> received = new CopyOnWriteArrayList<>();
+		final List<Thread> threads = new CopyOnWriteArrayList<>();
+		doAnswer(inv -> {
+			final Message msg = inv.getArgument(0);
+			assertSame(msg, ClientMessageProducer.get());
+			received.add(msg);
+			threads.add(Thread.currentThread());
+			return null;
+		}).when(this.messageEvent).fire(any());
+
+		ReflectionUtil.set(this.dispatcher, "async", true);
+		ReflectionUtil.set(this.dispatcher, "threads", 4);
+		ReflectionUtil.set(this.dispatcher, "queueSize", 8);
+		this.dispatcher.init();
+		assertTrue(this.dispatcher.isAsync());
+
+		final Message[] msgs = new Message[100];
+		for (int i = 0; i < msgs.length; i++) {
+			msgs[i] = new Message("sessionId", Frame.HEART_BEAT);
+			this.dispatcher.dispatch(this.session, msgs[i]);
+		}
+		final CountDownLatch latch = new CountDownLatch(1);
+		this.dispatcher.close(this.session, latch::countDown);
+		assertTrue(latch.await(10, TimeUnit.SECONDS));
+
+		assertEquals(msgs.length, received.size());
+		for (int i = 0; i < msgs.length; i++) {
+			assertSame(msgs[i], received.get(i));
+			assertFalse(threads.get(i) == Thread.currentThread());
+		}
+		this.dispatcher.destroy();
+		assertTrue(ReflectionUtil.<Map<?, ?>>get(this.dispatcher, "serials").isEmpty());
+
+		verify(this.log).info("Asynchronous event dispatch enabled. [threads={},queueSize={}]", 4, 8);
+		verify(this.messageEvent, times(msgs.length)).fire(any());
+	}
+
+	@Test
+	public void dispatch_asyncError() throws InterruptedException {
+		final Extension extension = mock(Extension.class);
+		final WebSocketContext webSocketContext = mock(WebSocketContext.class);
+		when(this.beanManager.getExtension(Extension.class)).thenReturn(extension);
+		when(extension.webSocketContext()).thenReturn(webSocketContext);
+		when(webSocketContext.activate(this.session)).thenAnswer(inv -> DispatchContext.current());
+		when(this.session.getId()).thenReturn("sessionId");
+		when(this.errorEvent.select(onError())).thenReturn(this.errorEvent);
+		final Message msg = new Message("sessionId", Frame.HEART_BEAT);
+		final RuntimeException e = new IllegalStateException("Bang!");
+		doThrow(e).when(this.messageEvent).fire(msg);
+
+		ReflectionUtil.set(this.dispatcher, "async", true);
+		ReflectionUtil.set(this.dispatcher, "threads", 1);
+		ReflectionUtil.set(this.dispatcher, "queueSize", 1);
+		this.dispatcher.init();
+		this.dispatcher.dispatch(this.session, msg);
+		final CountDownLatch latch = new CountDownLatch(1);
+		this.dispatcher.close(this.session, latch::countDown);
+		assertTrue(latch.await(10, TimeUnit.SECONDS));
+		this.dispatcher.destroy();
+
+		verify(this.log).info("Asynchronous event dispatch enabled. [threads={},queueSize={}]", 1, 1);
+		verify(this.messageEvent).fire(msg);
+		verify(this.log).warn("Unable to dispatch event! [sessionId={}]", "sessionId", e);
+		verify(this.errorEvent).select(onError());
+		verify(this.errorEvent).fire(e);
+	}
+
+	@After
+	public void after() {
+		verifyNoMoreInteractions(this.log, this.messageEvent, this.errorEvent);
+	}
+}
@@ -84,8 +84,8 @@ public class EventProducerTest {
 
 	@Test
 	public void message_SEND() {;
-		when(this.extension.getMessageObservers(OnSend.class)).thenReturn(Collections.singleton(this.observerMethod));
 		when(observerMethod.getObservedQualifiers()).thenReturn(Collections.singleton(Qualifiers.onSend("topic/*")));
+		when(this.extension.getDispatchIndex(OnSend.class)).thenReturn(new DispatchIndex(OnSend.class, Collections.singleton(this.observerMethod)));
 
 		final Message event = new Message(
 				Frame.send("topic/foo", MediaType.APPLICATION_JSON_TYPE, "{}").build());
@@ -93,15 +93,15 @@ public class EventProducerTest {
 		this.eventProducer.message(event);
 
 		verify(this.beanManager).getExtension(Extension.class);
-		verify(this.extension).getMessageObservers(OnSend.class);
+		verify(this.extension).getDispatchIndex(OnSend.class);
 		verify(this.observerMethod).getObservedQualifiers();
 		verify(this.observerMethod).notify(event);
 	}
 
 	@Test
 	public void message_SUBSCRIBE() {
-		when(this.extension.getMessageObservers(OnSubscribe.class)).thenReturn(Collections.singleton(this.observerMethod));
 		when(observerMethod.getObservedQualifiers()).thenReturn(Collections.singleton(Qualifiers.onSubscribe("topic/*")));
+		when(this.extension.getDispatchIndex(OnSubscribe.class)).thenReturn(new DispatchIndex(OnSubscribe.class, Collections.singleton(this.observerMethod)));
 
 		final Message event = new Message(
 				Frame.builder(Command.SUBSCRIBE).destination("topic/foo").subscription("id").build());
@@ -109,7 +109,7 @@ public class EventProducerTest {
 		this.eventProducer.message(event);
 
 		verify(this.beanManager).getExtension(Extension.class);
-		verify(this.extension).getMessageObservers(OnSubscribe.class);
+		verify(this.extension).getDispatchIndex(OnSubscribe.class);
 		verify(this.observerMethod).getObservedQualifiers();
 		verify(this.observerMethod).notify(event);
 		verifyNoMoreInteractions(this.observerMethod);
@@ -117,8 +117,8 @@ public class EventProducerTest {
 
 	@Test
 	public void message_UNSUBSCRIBE() {
-		when(this.extension.getMessageObservers(OnUnsubscribe.class)).thenReturn(Collections.singleton(observerMethod));
 		when(this.observerMethod.getObservedQualifiers()).thenReturn(Collections.singleton(Qualifiers.onUnsubscribe("topic/*")));
+		when(this.extension.getDispatchIndex(OnUnsubscribe.class)).thenReturn(new DispatchIndex(OnUnsubscribe.class, Collections.singleton(this.observerMethod)));
 		ReflectionUtil.<Map<String,String>>get(this.eventProducer, "idDestinationMap").put("id", "topic/foo");
 
 		final Message event = new Message(
@@ -127,7 +127,7 @@ public class EventProducerTest {
 		this.eventProducer.message(event);
 
 		verify(this.beanManager).getExtension(Extension.class);
-		verify(this.extension).getMessageObservers(OnUnsubscribe.class);
+		verify(this.extension).getDispatchIndex(OnUnsubscribe.class);
 		verify(this.observerMethod).getObservedQualifiers();
 		verify(this.observerMethod).notify(event);
 	}
@@ -181,6 +181,23 @@ public class ExtensionTest {
 		verifyNoMoreInteractions(observerMethod);
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void buildDispatchIndexes() {
+		final ObserverMethod<Message> observerMethod = mock(ObserverMethod.class);
+		when(observerMethod.getObservedQualifiers()).thenReturn(Collections.singleton(Qualifiers.onSend("/topic/*")));
+		getMessageObservers(this.extension).put(OnSend.class, Collections.singleton(observerMethod));
+
+		this.extension.buildDispatchIndexes(mock(AfterDeploymentValidation.class));
+
+		assertEquals(observerMethod, this.extension.getDispatchIndex(OnSend.class).resolve("/topic/foo").get(0).observerMethod());
+		assertEquals(0, this.extension.getDispatchIndex(OnSubscribe.class).resolve("/topic/foo").size());
+		assertEquals(0, this.extension.getDispatchIndex(OnConnected.class).resolve("/topic/foo").size());
+
+		verify(observerMethod).getObservedQualifiers();
+		verifyNoMoreInteractions(observerMethod);
+	}
+
 	@Test
 	public void registerContexts() {
 		final AfterBeanDiscovery afterBeanDiscovery = mock(AfterBeanDiscovery.class);
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2016-2017 Daniel Siviter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cito.server;
+
+import static cito.annotation.Qualifiers.fromServer;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import javax.enterprise.event.Event;
+import javax.ws.rs.core.MediaType;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.slf4j.Logger;
+
+import cito.event.Batch;
+import cito.event.Message;
+import cito.ext.Serialiser;
+import cito.server.MessagingSupport.Publication;
+import cito.stomp.Frame;
+import cito.stomp.Header;
+import cito.stomp.Header.Custom;
+
+/**
+ * Unit test for {@link MessagingSupport#publish(java.util.stream.Stream)}.
+ * 
+ * @author Daniel Siviter
+ * @since v1.0 [19 Oct 2026]
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class PublishTest {
+	@Mock
+	private Logger log;
+	@Mock
+	private Event<Message> msgEvent;
+	@Mock
+	private Event<Batch> batchEvent;
+	@Mock
+	private SessionRegistry registry;
+	@Mock
+	private Serialiser serialiser;
+
+	@InjectMocks
+	private MessagingSupport support;
+
+	@Test
+	public void publish() throws IOException, InterruptedException, ExecutionException {
+		when(this.batchEvent.select(fromServer())).thenReturn(this.batchEvent);
+		doAnswer(i -> { i.<OutputStream>getArgument(3).write(i.getArgument(0).toString().getBytes(UTF_8)); return null; })
+				.when(this.serialiser).writeTo(any(), any(Class.class), any(MediaType.class), any(OutputStream.class));
+		final List<String> bodies = new ArrayList<>();
+		final List<Frame> frames = new ArrayList<>();
+		doAnswer(i -> {
+			for (Frame frame : i.<Batch>getArgument(0).frames()) {
+				frames.add(frame);
+				bodies.add(UTF_8.decode(frame.getBody()).toString());
+			}
+			return null;
+		}).when(this.batchEvent).fire(any(Batch.class));
+
+		final CompletableFuture<Void> future = this.support.publish(Arrays.asList(
+				new Publication("/topic/a", "one"),
+				new Publication("/topic/b", "two", MediaType.TEXT_PLAIN_TYPE, Collections.singletonMap(Custom.DELTA, "x"))));
+		future.get();
+
+		assertEquals(Arrays.asList("one", "two"), bodies);
+		assertEquals("/topic/a", frames.get(0).destination());
+		assertEquals(MediaType.APPLICATION_JSON_TYPE, frames.get(0).contentType());
+		assertEquals("/topic/b", frames.get(1).destination());
+		assertEquals(MediaType.TEXT_PLAIN_TYPE, frames.get(1).contentType());
+		assertEquals("x", frames.get(1).getFirst(Custom.DELTA));
+
+		verify(this.serialiser).writeTo(eq("one"), eq(String.class), eq(MediaType.APPLICATION_JSON_TYPE), any(OutputStream.class));
+		verify(this.serialiser).writeTo(eq("two"), eq(String.class), eq(MediaType.TEXT_PLAIN_TYPE), any(OutputStream.class));
+		verify(this.log).debug("Publishing... [size={}]", 2);
+		verify(this.batchEvent).select(fromServer());
+		verify(this.batchEvent).fire(any(Batch.class));
+	}
+
+	@Test
+	public void publish_serialiseFailure() throws IOException, InterruptedException {
+		doThrow(new IOException("Bang!")).when(this.serialiser)
+				.writeTo(any(), any(Class.class), any(MediaType.class), any(OutputStream.class));
+
+		final CompletableFuture<Void> future = this.support.publish(Collections.singleton(new Publication("/topic/a", "one")));
+		try {
+			future.get();
+			fail("ExecutionException expected!");
+		} catch (ExecutionException e) {
+			assertTrue(e.getCause() instanceof UncheckedIOException);
+		}
+
+		verify(this.serialiser).writeTo(eq("one"), eq(String.class), eq(MediaType.APPLICATION_JSON_TYPE), any(OutputStream.class));
+	}
+
+	@Test
+	public void publish_empty() throws InterruptedException, ExecutionException {
+		this.support.publish(Collections.emptyList()).get();
+
+		verify(this.log).debug("Publishing... [size={}]", 0);
+	}
+
+	@Test
+	public void publication_headers() {
+		final Map<Header, String> headers = new HashMap<>();
+		headers.put(Custom.DELTA, "x");
+
+		final Publication publication = new Publication("/topic/a", "one", null, headers);
+		headers.put(Custom.DELTA, "y");
+
+		assertEquals("x", publication.headers().get(Custom.DELTA));
+		try {
+			publication.headers().clear();
+			fail("UnsupportedOperationException expected!");
+		} catch (UnsupportedOperationException e) {
+			// expected
+		}
+	}
+
+	@After
+	public void after() {
+		verifyNoMoreInteractions(this.log, this.msgEvent, this.batchEvent, this.registry, this.serialiser);
+	}
+}
@@ -17,12 +17,12 @@
 package cito.server;
 
 import static cito.server.SessionRegistry.NULL_PRINCIPLE;
-import static java.util.Collections.singleton;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -31,13 +31,16 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.security.Principal;
-import java.util.Collections;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
 
+import javax.websocket.CloseReason;
 import javax.websocket.EncodeException;
 import javax.websocket.RemoteEndpoint.Basic;
 import javax.websocket.Session;
@@ -55,6 +58,7 @@ import cito.ReflectionUtil;
 import cito.event.Message;
 import cito.stomp.Command;
 import cito.stomp.Frame;
+import cito.stomp.ws.PartialWriter;
 
 /**
  * Unit tests for {@link SessionRegistry}.
@@ -79,7 +83,7 @@ public class SessionRegistryTest {
 
 		assertTrue(getSessionMap().containsKey("sessionId"));
 		assertTrue(getSessionMap().containsValue(session));
-		assertTrue(getPrincipalSessionMap().get(NULL_PRINCIPLE).contains(session));
+		assertTrue(this.registry.getSessions(NULL_PRINCIPLE).contains(session));
 
 		verify(session).getId();
 		verify(session).getUserPrincipal();
@@ -90,16 +94,16 @@ public class SessionRegistryTest {
 	public void unregister() {
 		final Session session = mock(Session.class);
 		when(session.getId()).thenReturn("sessionId");
-		getSessionMap().put("sessionId", session);
-		getPrincipalSessionMap().put(NULL_PRINCIPLE, new HashSet<>(singleton(session)));
+		this.registry.register(session);
 
 		this.registry.unregister(session);
 
 		assertTrue(getSessionMap().isEmpty());
 		assertTrue(getPrincipalSessionMap().isEmpty());
+		assertTrue(this.registry.getSessions(NULL_PRINCIPLE).isEmpty());
 
-		verify(session).getId();
-		verify(session).getUserPrincipal();
+		verify(session, times(2)).getId();
+		verify(session, times(2)).getUserPrincipal();
 		verifyNoMoreInteractions(session);
 	}
 
@@ -137,15 +141,41 @@ public class SessionRegistryTest {
 	public void getSessions() {
 		final Principal principal = mock(Principal.class);
 		final Session session = Mockito.mock(Session.class);
-		getPrincipalSessionMap().put(principal, Collections.singleton(session));
+		when(session.getId()).thenReturn("sessionId");
+		when(session.getUserPrincipal()).thenReturn(principal);
+		this.registry.register(session);
 
 		final Set<Session> sessions = this.registry.getSessions(principal);
 		assertFalse(sessions.isEmpty());
 		assertTrue(sessions.contains(session));
+		assertTrue(this.registry.getSessions(NULL_PRINCIPLE).isEmpty());
 
+		verify(session).getId();
+		verify(session).getUserPrincipal();
 		verifyNoMoreInteractions(principal, session);
 	}
 
+	@Test
+	public void getSessions_many() {
+		final List<Session> registered = new ArrayList<>();
+		for (int i = 0; i < SessionRegistry.MAX_ARRAY_SIZE * 2; i++) {
+			final Session session = Mockito.mock(Session.class);
+			when(session.getId()).thenReturn("sessionId" + i);
+			this.registry.register(session);
+			registered.add(session);
+		}
+		final Set<Session> sessions = this.registry.getSessions(NULL_PRINCIPLE);
+		assertEquals(registered.size(), sessions.size());
+		assertTrue(sessions.containsAll(registered));
+
+		// safe to iterate while changing
+		for (Session session : sessions) {
+			this.registry.unregister(session);
+		}
+		assertTrue(this.registry.getSessions(NULL_PRINCIPLE).isEmpty());
+		assertTrue(getPrincipalSessionMap().isEmpty());
+	}
+
 	@Test
 	public void fromBroker() throws IOException, EncodeException {
 		final Message msg = mock(Message.class);
@@ -155,7 +185,6 @@ public class SessionRegistryTest {
 		when(frame.getCommand()).thenReturn(Command.MESSAGE);
 		final Session session = Mockito.mock(Session.class);
 		getSessionMap().put("sessionId", session);
-		getPrincipalSessionMap().put(NULL_PRINCIPLE, new HashSet<>(singleton(session)));
 		final Basic basic = mock(Basic.class);
 		when(session.getBasicRemote()).thenReturn(basic);
 
@@ -179,7 +208,6 @@ public class SessionRegistryTest {
 		when(frame.getCommand()).thenReturn(Command.MESSAGE);
 		final Session session = Mockito.mock(Session.class);
 		getSessionMap().put("sessionId", session);
-		getPrincipalSessionMap().put(NULL_PRINCIPLE, new HashSet<>(singleton(session)));
 		final Basic basic = mock(Basic.class);
 		when(session.getBasicRemote()).thenReturn(basic);
 		final IOException ioe = new IOException();
@@ -197,6 +225,56 @@ public class SessionRegistryTest {
 		verifyNoMoreInteractions(msg, frame, session, basic);
 	}
 
+	@Test
+	public void writer() throws IOException, InterruptedException {
+		final Session session = Mockito.mock(Session.class);
+		when(session.getId()).thenReturn("sessionId");
+		this.registry.register(session);
+		final Basic basic = mock(Basic.class);
+		when(session.getBasicRemote()).thenReturn(basic);
+		final ReentrantLock lock = this.registry.writeLock("sessionId");
+
+		try (PartialWriter writer = this.registry.writer("sessionId")) {
+			assertTrue(lock.isHeldByCurrentThread());
+			// other threads must wait until the last partial is sent
+			final Thread other = new Thread(() -> {
+				lock.lock();
+				lock.unlock();
+			});
+			other.start();
+			other.join(100);
+			assertTrue(lock.hasQueuedThread(other));
+		}
+		assertFalse(lock.isHeldByCurrentThread());
+
+		verify(session).getId();
+		verify(session).getUserPrincipal();
+		verify(session).getBasicRemote();
+		verify(basic).sendBinary(ByteBuffer.allocate(0), true);
+		verifyNoMoreInteractions(session, basic);
+	}
+
+	@Test
+	public void writer_abort() throws IOException {
+		final Session session = Mockito.mock(Session.class);
+		when(session.getId()).thenReturn("sessionId");
+		this.registry.register(session);
+		final Basic basic = mock(Basic.class);
+		when(session.getBasicRemote()).thenReturn(basic);
+
+		try (PartialWriter writer = this.registry.writer("sessionId")) {
+			writer.abort();
+		}
+		assertFalse(this.registry.writeLock("sessionId").isLocked());
+
+		verify(session, times(2)).getId();
+		verify(session).getUserPrincipal();
+		verify(session).getBasicRemote();
+		verify(session).close(any(CloseReason.class));
+		verify(this.log).warn("Frame abandoned, closing session! [sessionId={}]", "sessionId");
+		verifyNoMoreInteractions(session, basic);
+	}
+
 	@After
 	public void after() {
 		verifyNoMoreInteractions(this.log);
@@ -206,7 +284,7 @@ public class SessionRegistryTest {
 		return ReflectionUtil.get(this.registry, "sessionMap");
 	}
 
-	private ConcurrentMap<Principal, Set<Session>> getPrincipalSessionMap() {
+	private ConcurrentMap<Principal, ?> getPrincipalSessionMap() {
 		return ReflectionUtil.get(this.registry, "principalSessionMap");
 	}
 }
@@ -16,11 +16,14 @@
 package cito.server;
 
 import static cito.annotation.Qualifiers.fromServer;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -30,9 +33,11 @@ import static org.mockito.Mockito.when;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.security.Principal;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedHashSet;
+import java.util.List;
 
 import javax.enterprise.event.Event;
 import javax.websocket.Session;
@@ -50,6 +55,7 @@ import org.slf4j.Logger;
 
 import cito.event.Message;
 import cito.ext.Serialiser;
+import cito.stomp.Header;
 
 /**
  * Unit test for {@link MessagingSupport}.
@@ -118,6 +124,12 @@ public class SupportTest {
 		final Session session1 = mock(Session.class);
 		when(session1.getId()).thenReturn("session1");
 		when(this.registry.getSessions(principal)).thenReturn(new LinkedHashSet<>(Arrays.asList(session0, session1)));
+		doAnswer(i -> { i.<OutputStream>getArgument(3).write("{}".getBytes(UTF_8)); return null; })
+				.when(this.serialiser).writeTo(any(), any(Class.class), eq(MediaType.APPLICATION_JSON_TYPE), any(OutputStream.class));
+		final List<String> bodies = new ArrayList<>();
+		// consume the body as the broker would, without rewinding it
+		doAnswer(i -> { bodies.add(UTF_8.decode(i.<Message>getArgument(0).frame().getBody()).toString()); return null; })
+				.when(this.msgEvent).fire(any(Message.class));
 
 		this.support.broadcastTo(principal, "destination", new Object(), Collections.emptyMap());
 
@@ -132,11 +144,16 @@ public class SupportTest {
 		assertEquals("session1", msgEvent1.frame().session());
 		assertEquals("destination", msgEvent1.frame().destination());
 		assertEquals("application/json", msgEvent1.frame().contentType().toString());
-
-		verify(this.log).debug("Sending... [sessionId={},destination={}]", "session0", "destination");
-		verify(this.log).debug("Sending... [sessionId={},destination={}]", "session1", "destination");
+		assertEquals(Arrays.asList("{}", "{}"), bodies);
+		// each frame has its own view of the body, consumed independently
+		assertNotSame(msgEvent0.frame().getBody(), msgEvent1.frame().getBody());
+		assertEquals(0, msgEvent0.frame().getBody().remaining());
+		assertEquals(0, msgEvent1.frame().getBody().remaining());
+		assertEquals(1, msgEvent0.frame().get(Header.Standard.CONTENT_LENGTH).size());
+
+		verify(this.log).debug("Broadcasting to sessions... [sessions={},destination={}]", 2, "destination");
 		verify(this.registry).getSessions(principal);
-		verify(this.serialiser, times(2)).writeTo(any(), any(Class.class), eq(MediaType.APPLICATION_JSON_TYPE), any(OutputStream.class));
+		verify(this.serialiser).writeTo(any(), any(Class.class), eq(MediaType.APPLICATION_JSON_TYPE), any(OutputStream.class));
 		verify(session0).getId();
 		verify(session1).getId();
 		verifyNoMoreInteractions(session0, session1);
@@ -164,10 +181,9 @@ public class SupportTest {
 		assertEquals("destination", msgEvent1.frame().destination());
 		assertEquals("text/plain", msgEvent1.frame().contentType().toString());
 
-		verify(this.log).debug("Sending... [sessionId={},destination={}]", "session0", "destination");
-		verify(this.log).debug("Sending... [sessionId={},destination={}]", "session1", "destination");
-			verify(this.registry).getSessions(principal);
-		verify(this.serialiser, times(2)).writeTo(any(), any(Class.class), eq(MediaType.TEXT_PLAIN_TYPE), any(OutputStream.class));
+		verify(this.log).debug("Broadcasting to sessions... [sessions={},destination={}]", 2, "destination");
+		verify(this.registry).getSessions(principal);
+		verify(this.serialiser).writeTo(any(), any(Class.class), eq(MediaType.TEXT_PLAIN_TYPE), any(OutputStream.class));
 		verify(session0).getId();
 		verify(session1).getId();
 		verifyNoMoreInteractions(session0, session1);
@@ -205,6 +221,24 @@ public class SupportTest {
 		verify(this.serialiser).writeTo(any(), any(Class.class), eq(MediaType.TEXT_PLAIN_TYPE), any(OutputStream.class));
 	}
 
+	@Test
+	public void sendTo_retained() throws IOException {
+		doAnswer(i -> { i.<OutputStream>getArgument(3).write(i.getArgument(0).toString().getBytes(UTF_8)); return null; })
+				.when(this.serialiser).writeTo(any(), any(Class.class), eq(MediaType.TEXT_PLAIN_TYPE), any(OutputStream.class));
+
+		this.support.sendTo("sessionId", "destination", "first", MediaType.TEXT_PLAIN_TYPE, Collections.emptyMap());
+		this.support.sendTo("sessionId", "destination", "second", MediaType.TEXT_PLAIN_TYPE, Collections.emptyMap());
+
+		// observers may keep the frame, so later sends must not reuse its body
+		final ArgumentCaptor<Message> eventCaptor = ArgumentCaptor.forClass(Message.class);
+		verify(this.msgEvent, times(2)).fire(eventCaptor.capture());
+		assertEquals("first", UTF_8.decode(eventCaptor.getAllValues().get(0).frame().getBody()).toString());
+		assertEquals("second", UTF_8.decode(eventCaptor.getAllValues().get(1).frame().getBody()).toString());
+
+		verify(this.log, times(2)).debug("Sending... [sessionId={},destination={}]", "sessionId", "destination");
+		verify(this.serialiser, times(2)).writeTo(any(), any(Class.class), eq(MediaType.TEXT_PLAIN_TYPE), any(OutputStream.class));
+	}
+
 	@After
 	public void after() {
 		verify(this.msgEvent, atLeastOnce()).select(fromServer());
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2016-2017 Daniel Siviter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cito.server.security;
+
+import static cito.ReflectionUtil.get;
+import static cito.ReflectionUtil.getAnnotation;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.inject.Provider;
+import javax.websocket.Session;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.slf4j.Logger;
+
+import cito.annotation.WebSocketScope;
+import cito.server.SecurityContext;
+import cito.stomp.Command;
+import cito.stomp.Frame;
+
+/**
+ * Unit tests for {@link DecisionCache}.
+ * 
+ * @author Daniel Siviter
+ * @since v1.0 [19 Oct 2026]
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class DecisionCacheTest {
+	private final Map<String, Object> userProperties = new HashMap<>();
+
+	@Mock
+	private Logger log;
+	@Mock
+	private SecurityRegistry registry;
+	@Mock
+	private Provider<Session> sessionProvider;
+	@Mock
+	private Session session;
+	@Mock
+	private SecurityContext securityCtx;
+
+	@InjectMocks
+	private DecisionCache cache;
+
+	@Before
+	public void before() {
+		this.userProperties.put(SecurityContext.class.getName(), this.securityCtx);
+	}
+
+	@Test
+	public void scope() {
+		assertNotNull(getAnnotation(DecisionCache.class, WebSocketScope.class));
+	}
+
+	@Test
+	public void isPermitted() {
+		cacheable();
+		final Frame frame = Frame.send("/topic/a", null, "").build();
+		when(this.registry.isPermitted(frame, this.securityCtx)).thenReturn(true);
+
+		assertTrue(this.cache.isPermitted(frame, this.securityCtx));
+		assertTrue(this.cache.isPermitted(frame, this.securityCtx));
+
+		assertEquals(1, this.cache.hitCount());
+		assertEquals(1, this.cache.missCount());
+		assertEquals(0.5, this.cache.hitRate(), 0);
+		final Map<Command, ?> caches = get(get(this.cache, "decisions"), "caches");
+		assertEquals(Collections.singleton(Command.SEND), caches.keySet()); // only created once used
+
+		verify(this.registry, times(2)).isCacheable(Command.SEND);
+		verify(this.registry, times(2)).version();
+		verify(this.registry).isPermitted(frame, this.securityCtx);
+	}
+
+	@Test
+	public void isPermitted_destination() {
+		cacheable();
+		final Frame frame = Frame.send("/topic/a", null, "").build();
+		final Frame frame0 = Frame.send("/topic/b", null, "").build();
+		when(this.registry.isPermitted(frame, this.securityCtx)).thenReturn(true);
+
+		assertTrue(this.cache.isPermitted(frame, this.securityCtx));
+		assertFalse(this.cache.isPermitted(frame0, this.securityCtx));
+		assertFalse(this.cache.isPermitted(frame0, this.securityCtx));
+
+		assertEquals(1, this.cache.hitCount());
+		assertEquals(2, this.cache.missCount());
+
+		verify(this.registry, times(3)).isCacheable(Command.SEND);
+		verify(this.registry, times(3)).version();
+		verify(this.registry).isPermitted(frame, this.securityCtx);
+		verify(this.registry).isPermitted(frame0, this.securityCtx);
+	}
+
+	@Test
+	public void isPermitted_registryChanged() {
+		cacheable();
+		final Frame frame = Frame.send("/topic/a", null, "").build();
+		when(this.registry.isPermitted(frame, this.securityCtx)).thenReturn(true);
+
+		assertTrue(this.cache.isPermitted(frame, this.securityCtx));
+		when(this.registry.version()).thenReturn(1);
+		when(this.registry.isPermitted(frame, this.securityCtx)).thenReturn(false);
+		assertFalse(this.cache.isPermitted(frame, this.securityCtx));
+
+		assertEquals(0, this.cache.hitCount());
+		assertEquals(2, this.cache.missCount());
+
+		verify(this.registry, times(2)).isCacheable(Command.SEND);
+		verify(this.registry, times(2)).version();
+		verify(this.registry, times(2)).isPermitted(frame, this.securityCtx);
+	}
+
+	@Test
+	public void isPermitted_securityContextChanged() {
+		cacheable();
+		final Frame frame = Frame.send("/topic/a", null, "").build();
+		final SecurityContext securityCtx = mock(SecurityContext.class);
+		when(this.registry.isPermitted(frame, this.securityCtx)).thenReturn(false);
+		when(this.registry.isPermitted(frame, securityCtx)).thenReturn(true);
+
+		assertFalse(this.cache.isPermitted(frame, this.securityCtx));
+		this.userProperties.put(SecurityContext.class.getName(), securityCtx);
+		assertTrue(this.cache.isPermitted(frame, securityCtx));
+
+		assertEquals(0, this.cache.hitCount());
+		assertEquals(2, this.cache.missCount());
+
+		verify(this.registry, times(2)).isCacheable(Command.SEND);
+		verify(this.registry, times(2)).version();
+		verify(this.registry).isPermitted(frame, this.securityCtx);
+		verify(this.registry).isPermitted(frame, securityCtx);
+	}
+
+	@Test
+	public void isPermitted_notCacheable() {
+		final Frame frame = Frame.subscribe("1", "/topic/a").build();
+		when(this.registry.isPermitted(frame, this.securityCtx)).thenReturn(true);
+
+		assertTrue(this.cache.isPermitted(frame, this.securityCtx));
+		assertTrue(this.cache.isPermitted(frame, this.securityCtx));
+
+		assertEquals(0, this.cache.hitCount());
+		assertEquals(0, this.cache.missCount());
+		assertEquals(0, this.cache.hitRate(), 0);
+
+		verify(this.registry, times(2)).isCacheable(Command.SUBSCRIBE);
+		verify(this.registry, times(2)).isPermitted(frame, this.securityCtx);
+	}
+
+	@After
+	public void after() {
+		verifyNoMoreInteractions(this.log, this.registry);
+	}
+
+	/**
+	 * 
+	 */
+	private void cacheable() {
+		when(this.sessionProvider.get()).thenReturn(this.session);
+		when(this.session.getUserProperties()).thenReturn(this.userProperties);
+		when(this.registry.isCacheable(Command.SEND)).thenReturn(true);
+	}
+}
@@ -17,9 +17,12 @@
 package cito.server.security;
 
 import static cito.ReflectionUtil.getAnnotation;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
@@ -27,7 +30,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
-import java.util.Set;
+import java.util.List;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.inject.Instance;
@@ -43,6 +46,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 import cito.ReflectionUtil;
 import cito.server.SecurityContext;
 import cito.server.security.Builder.Limitation;
+import cito.stomp.Command;
 import cito.stomp.Frame;
 
 /**
@@ -88,29 +92,61 @@ public class SecurityRegistryTest {
 	public void getMatching() {
 		final Frame frame = mock(Frame.class);
 		final Limitation limitation = mock(Limitation.class);
-		getLimitations().add(limitation);
+		this.registry.register(limitation);
 		when(limitation.matches(frame)).thenReturn(true);
 		final Limitation limitation0 = mock(Limitation.class);
-		getLimitations().add(limitation0);
+		this.registry.register(limitation0);
 
 		this.registry.getMatching(frame);
 
+		verify(frame).getCommand();
 		verify(limitation).matches(frame);
 		verify(limitation0).matches(frame);
 		verifyNoMoreInteractions(limitation, limitation0, frame);
 	}
 
+	@Test
+	public void getMatching_indexed() {
+		final Limitation send = this.registry.builder().matches(Command.SEND).matches("/topic/a").roles("role").build();
+		final Limitation subscribe = this.registry.builder().matches(Command.SUBSCRIBE).matches("/topic/*").permitAll().build();
+		assertEquals(2, this.registry.version());
+
+		final List<Limitation> matching = this.registry.getMatching(Frame.send("/topic/a", null, "").build());
+		assertEquals(singletonList(send), matching);
+		assertSame(matching, this.registry.getMatching(Frame.send("/topic/a", null, "").build()));
+		assertTrue(this.registry.getMatching(Frame.send("/topic/b", null, "").build()).isEmpty());
+		assertEquals(singletonList(subscribe), this.registry.getMatching(Frame.subscribe("1", "/topic/b").build()));
+		assertTrue(this.registry.getMatching(Frame.disconnect().build()).isEmpty());
+		assertTrue(this.registry.isCacheable(Command.SEND));
+
+		this.registry.builder().matches(Command.SEND).matches((FrameMatcher) f -> true).denyAll().build();
+		assertFalse(this.registry.isCacheable(Command.SEND));
+		assertTrue(this.registry.isCacheable(Command.SUBSCRIBE));
+	}
+
+	@Test
+	public void register_invalidates() {
+		final Frame frame = Frame.send("/topic/a", null, "").build();
+		final Limitation first = this.registry.builder().matches(Command.SEND).matches("/topic/a").permitAll().build();
+		assertEquals(singletonList(first), this.registry.getMatching(frame));
+
+		final Limitation second = this.registry.builder().matches("/topic/*").denyAll().build();
+		assertEquals(asList(first, second), this.registry.getMatching(frame));
+		assertFalse(this.registry.isPermitted(frame, mock(SecurityContext.class)));
+	}
+
 	@Test
 	public void isPermitted() {
 		final Frame frame = mock(Frame.class);
 		final SecurityContext context = mock(SecurityContext.class);
 		final Limitation limitation = mock(Limitation.class);
-		getLimitations().add(limitation);
+		this.registry.register(limitation);
 		when(limitation.matches(frame)).thenReturn(true);
 		when(limitation.permitted(context)).thenReturn(true);
 
 		assertTrue(this.registry.isPermitted(frame, context));
 
+		verify(frame).getCommand();
 		verify(limitation).matches(frame);
 		verify(limitation).permitted(context);
 		verifyNoMoreInteractions(frame, context, limitation);
@@ -121,11 +157,12 @@ public class SecurityRegistryTest {
 		final Frame frame = mock(Frame.class);
 		final SecurityContext context = mock(SecurityContext.class);
 		final Limitation limitation = mock(Limitation.class);
-		getLimitations().add(limitation);
+		this.registry.register(limitation);
 		when(limitation.matches(frame)).thenReturn(true);
 
 		assertFalse(this.registry.isPermitted(frame, context));
 
+		verify(frame).getCommand();
 		verify(limitation).matches(frame);
 		verify(limitation).permitted(context);
 		verifyNoMoreInteractions(frame, context, limitation);
@@ -155,7 +192,7 @@ public class SecurityRegistryTest {
 	 * 
 	 * @return
 	 */
-	private Set<Limitation> getLimitations() {
+	private List<Limitation> getLimitations() {
 		return ReflectionUtil.get(this.registry, "limitations");
 	}
 }
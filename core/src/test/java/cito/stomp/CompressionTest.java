@@ -0,0 +1,143 @@
+/*
+ * Copyright 2016-2017 Daniel Siviter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cito.stomp;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import javax.ws.rs.core.MediaType;
+
+import org.junit.Test;
+
+import cito.stomp.Header.Custom;
+
+/**
+ * Unit tests for {@link Compression}.
+ * 
+ * @author Daniel Siviter
+ * @since v1.0 [19 Oct 2026]
+ */
+public class CompressionTest {
+	private static final String BODY;
+	static {
+		final StringBuilder sb = new StringBuilder("[");
+		for (int i = 0; i < 500; i++) {
+			sb.append("{\"id\":").append(i).append(",\"name\":\"Item ").append(i).append("\",\"active\":true},");
+		}
+		BODY = sb.append("{}]").toString();
+	}
+
+	@Test
+	public void deflate() {
+		final byte[] body = BODY.getBytes(UTF_8);
+		final ByteBuffer buf = ByteBuffer.wrap(body);
+
+		final byte[] deflated = Compression.deflate(buf);
+
+		assertTrue(deflated.length < body.length / 4);
+		assertEquals(0, buf.position());
+		assertArrayEquals(body, Compression.inflate(ByteBuffer.wrap(deflated)));
+		assertArrayEquals(deflated, Compression.deflate(ByteBuffer.wrap(body)));
+	}
+
+	@Test
+	public void deflate_direct() {
+		final byte[] body = BODY.getBytes(UTF_8);
+		final ByteBuffer buf = ByteBuffer.allocateDirect(body.length);
+		buf.put(body).flip();
+
+		assertArrayEquals(body, Compression.inflate(ByteBuffer.wrap(Compression.deflate(buf))));
+	}
+
+	@Test
+	public void inflate_invalid() {
+		final byte[] deflated = Compression.deflate(ByteBuffer.wrap(BODY.getBytes(UTF_8)));
+		try {
+			Compression.inflate(ByteBuffer.wrap(Arrays.copyOf(deflated, deflated.length / 2)));
+			fail("IllegalArgumentException expected!");
+		} catch (IllegalArgumentException e) {
+			assertEquals("Invalid deflated body!", e.getMessage());
+		}
+		try {
+			Compression.inflate(ByteBuffer.wrap(BODY.getBytes(UTF_8)));
+			fail("IllegalArgumentException expected!");
+		} catch (IllegalArgumentException e) {
+			assertEquals("Invalid deflated body!", e.getMessage());
+		}
+	}
+
+	@Test
+	public void inflate_tooLarge() {
+		final byte[] deflated = Compression.deflate(ByteBuffer.wrap(new byte[1_000_000]));
+		assertTrue(deflated.length < 2_000);
+
+		assertEquals(1_000_000, Compression.inflate(ByteBuffer.wrap(deflated), 1_000_000).length);
+		try {
+			Compression.inflate(ByteBuffer.wrap(deflated), 999_999);
+			fail("IllegalArgumentException expected!");
+		} catch (IllegalArgumentException e) {
+			assertEquals("Inflated body too large! [max=999999]", e.getMessage());
+		}
+	}
+
+	@Test
+	public void inflated_tooLarge() {
+		final Frame frame = Frame.message("/topic/items", "sub-0", "123", MediaType.APPLICATION_JSON_TYPE, BODY).build();
+		final Frame deflated = Compression.deflated(frame, Compression.deflate(frame.getBody()));
+
+		try {
+			Compression.inflated(deflated, 100);
+			fail("IllegalArgumentException expected!");
+		} catch (IllegalArgumentException e) {
+			assertEquals("Inflated body too large! [max=100]", e.getMessage());
+		}
+	}
+
+	@Test
+	public void accepts() {
+		assertTrue(Compression.accepts(Frame.connect("localhost", "1.2").header(Custom.ACCEPT_ENCODING, "gzip, deflate").build()));
+		assertFalse(Compression.accepts(Frame.connect("localhost", "1.2").header(Custom.ACCEPT_ENCODING, "gzip").build()));
+		assertFalse(Compression.accepts(Frame.connect("localhost", "1.2").build()));
+		assertTrue(Compression.accepts(Frame.connnected("1.2", "session", "server").header(Custom.CONTENT_ENCODING, "deflate").build()));
+	}
+
+	@Test
+	public void frames() {
+		final Frame frame = Frame.message("/topic/items", "sub-0", "123", MediaType.APPLICATION_JSON_TYPE, BODY).build();
+		assertSame(frame, Compression.inflated(frame));
+
+		final Frame deflated = Compression.deflated(frame, Compression.deflate(frame.getBody()));
+		assertTrue(Compression.isDeflated(deflated));
+		assertEquals(1, deflated.get(Header.Standard.CONTENT_LENGTH).size());
+		assertEquals(deflated.getBody().remaining(), deflated.contentLength());
+		assertEquals(MediaType.APPLICATION_JSON_TYPE, deflated.contentType());
+
+		final Frame inflated = Compression.inflated(deflated);
+		assertFalse(Compression.isDeflated(inflated));
+		assertNull(inflated.getFirst(Custom.CONTENT_ENCODING));
+		assertEquals(BODY.getBytes(UTF_8).length, inflated.contentLength());
+		assertEquals(BODY, UTF_8.decode(inflated.getBody()).toString());
+	}
+}
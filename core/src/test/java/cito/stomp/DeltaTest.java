@@ -0,0 +1,160 @@
+/*
+ * Copyright 2016-2017 Daniel Siviter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cito.stomp;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import javax.ws.rs.core.MediaType;
+
+import org.junit.Test;
+
+import cito.stomp.Header.Custom;
+
+/**
+ * Unit tests for {@link Delta}.
+ * 
+ * @author Daniel Siviter
+ * @since v1.0 [19 Oct 2026]
+ */
+public class DeltaTest {
+	private static final String SOURCE = "{\"id\":1234,\"name\":\"Fred Flintstone\",\"town\":\"Bedrock\",\"price\":12.50," +
+			"\"description\":\"A rather long description that does not change between updates\",\"quantity\":7}";
+
+	@Test
+	public void diff() {
+		final byte[] source = SOURCE.getBytes(UTF_8);
+		final byte[] target = SOURCE.replace("12.50", "12.75").replace("\"quantity\":7", "\"quantity\":11").getBytes(UTF_8);
+
+		final byte[] patch = Delta.diff(source, target);
+
+		assertTrue(patch.length < target.length / 4);
+		assertArrayEquals(target, Delta.apply(source, ByteBuffer.wrap(patch)));
+	}
+
+	@Test
+	public void diff_unchanged() {
+		final byte[] source = SOURCE.getBytes(UTF_8);
+
+		final byte[] patch = Delta.diff(source, source);
+
+		assertArrayEquals(source, Delta.apply(source, ByteBuffer.wrap(patch)));
+	}
+
+	@Test
+	public void diff_moved() {
+		final byte[] source = SOURCE.getBytes(UTF_8);
+		final byte[] target = new byte[source.length];
+		System.arraycopy(source, 60, target, 0, source.length - 60);
+		System.arraycopy(source, 0, target, source.length - 60, 60);
+
+		assertArrayEquals(target, Delta.apply(source, ByteBuffer.wrap(Delta.diff(source, target))));
+	}
+
+	@Test
+	public void diff_notSmaller() {
+		assertNull(Delta.diff(SOURCE.getBytes(UTF_8), "completely different".getBytes(UTF_8)));
+		assertNull(Delta.diff(new byte[0], "tiny".getBytes(UTF_8)));
+	}
+
+	@Test
+	public void apply_invalid() {
+		final byte[] source = SOURCE.getBytes(UTF_8);
+		final byte[] patch = Delta.diff(source, SOURCE.replace("Fred", "Wilma").getBytes(UTF_8));
+
+		try {
+			Delta.apply(Arrays.copyOf(source, 10), ByteBuffer.wrap(patch));
+			fail("IllegalArgumentException expected!");
+		} catch (IllegalArgumentException e) {
+			assertEquals("Invalid patch!", e.getMessage());
+		}
+		try {
+			Delta.apply(source, ByteBuffer.wrap(Arrays.copyOf(patch, patch.length - 1)));
+			fail("IllegalArgumentException expected!");
+		} catch (IllegalArgumentException e) {
+			assertEquals("Invalid patch!", e.getMessage());
+		}
+	}
+
+	@Test
+	public void apply_tooLarge() {
+		final byte[] source = SOURCE.getBytes(UTF_8);
+		final byte[] patch = Delta.diff(source, SOURCE.replace("Fred", "Wilma").getBytes(UTF_8));
+
+		try {
+			Delta.apply(source, ByteBuffer.wrap(patch), source.length);
+			fail("IllegalArgumentException expected!");
+		} catch (IllegalArgumentException e) {
+			assertEquals("Patched body too large! [max=" + source.length + "]", e.getMessage());
+		}
+		try { // claims a 2 GiB body
+			Delta.apply(source, ByteBuffer.wrap(new byte[] { (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07 }));
+			fail("IllegalArgumentException expected!");
+		} catch (IllegalArgumentException e) {
+			assertEquals("Patched body too large! [max=" + Delta.MAX_SIZE + "]", e.getMessage());
+		}
+	}
+
+	@Test
+	public void frames() {
+		final Frame frame = Frame.message("/topic/prices", "sub-0", "123", MediaType.APPLICATION_JSON_TYPE, SOURCE).build();
+		final byte[] target = SOURCE.replace("Fred", "Wilma").getBytes(UTF_8);
+
+		final Frame snapshot = Delta.snapshot(frame);
+		assertTrue(Delta.isDelta(snapshot));
+		assertFalse(Delta.isPatch(snapshot));
+		assertEquals(Delta.SNAPSHOT, snapshot.getFirst(Custom.DELTA));
+		assertEquals(SOURCE, new String(Delta.bytes(snapshot.getBody()), UTF_8));
+
+		final Frame patch = Delta.patch(frame, Delta.diff(Delta.bytes(frame.getBody()), target), Delta.bytes(frame.getBody()));
+		assertTrue(Delta.isPatch(patch));
+		assertTrue(Delta.isBase(patch, Delta.bytes(frame.getBody())));
+		assertFalse(Delta.isBase(patch, target));
+		assertEquals(1, patch.get(Header.Standard.CONTENT_LENGTH).size());
+		assertEquals(patch.getBody().remaining(), patch.contentLength());
+		assertEquals("sub-0", patch.subscription());
+		assertEquals(MediaType.APPLICATION_JSON_TYPE, patch.contentType());
+
+		final Frame patched = Delta.patched(patch, Delta.apply(Delta.bytes(frame.getBody()), patch.getBody()));
+		assertFalse(Delta.isDelta(patched));
+		assertFalse(patched.contains(Custom.DELTA_BASE));
+		assertEquals(target.length, patched.contentLength());
+		assertArrayEquals(target, Delta.bytes(patched.getBody()));
+
+		final Frame plain = Delta.plain(snapshot);
+		assertFalse(Delta.isDelta(plain));
+		assertEquals(1, plain.get(Header.Standard.CONTENT_LENGTH).size());
+		assertEquals(SOURCE, new String(Delta.bytes(plain.getBody()), UTF_8));
+	}
+
+	@Test
+	public void resync() {
+		final Frame frame = Delta.resync("sub-0", "/topic/prices").build();
+
+		assertEquals(Command.SUBSCRIBE, frame.getCommand());
+		assertEquals("/topic/prices", frame.destination());
+		assertTrue(Delta.isResync(frame));
+		assertTrue(Delta.isDelta(frame));
+	}
+}
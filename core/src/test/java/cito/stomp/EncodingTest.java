@@ -91,4 +91,28 @@ public class EncodingTest {
 		final ByteBuffer actual = Encoding.from(frame, false, 1024);
 		assertEquals(ByteBuffer.wrap("RECEIPT\nreceipt-id:123\n\n\u0000".getBytes(UTF_8)), actual);
 	}
+
+	@Test
+	public void from_frame_large() {
+		final ByteBuffer body = ByteBuffer.allocate(32 * 1024);
+		final Frame frame = Frame.send("/queue/a", null, body).build();
+		final ByteBuffer actual = Encoding.from(frame, false, 1024);
+		assertEquals(Encoding.size(frame), actual.remaining());
+	}
+
+	@Test
+	public void size() {
+		final Frame frame = Frame.send("/queue/\u00e9", null, "body").build();
+		assertEquals(Encoding.from(frame, false, 0).remaining(), Encoding.size(frame));
+	}
+
+	@Test
+	public void from_headAndBody() throws IOException {
+		final ByteBuffer head = ByteBuffer.wrap("SEND\ndestination:/queue/a\ncontent-length:4\n\n".getBytes(UTF_8));
+		final ByteBuffer body = ByteBuffer.wrap("body".getBytes(UTF_8));
+		final Frame frame = Encoding.from(head, body);
+		assertEquals(Command.SEND, frame.getCommand());
+		assertEquals("/queue/a", frame.destination());
+		assertEquals("body", UTF_8.decode(frame.getBody()).toString());
+	}
 }
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2016-2017 Daniel Siviter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cito.stomp.jms;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+
+import javax.ws.rs.core.MediaType;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import cito.ReflectionUtil;
+import cito.stomp.Compression;
+import cito.stomp.Frame;
+
+/**
+ * Unit tests for {@link BodyCompressor}.
+ * 
+ * @author Daniel Siviter
+ * @since v1.0 [19 Oct 2026]
+ */
+public class BodyCompressorTest {
+	private BodyCompressor compressor;
+
+	@Before
+	public void before() {
+		this.compressor = new BodyCompressor();
+		ReflectionUtil.set(this.compressor, "threshold", 100);
+	}
+
+	@Test
+	public void isCompressible() {
+		assertTrue(this.compressor.isEnabled());
+		assertTrue(this.compressor.isCompressible(ByteBuffer.allocate(101)));
+		assertFalse(this.compressor.isCompressible(ByteBuffer.allocate(100)));
+		assertFalse(this.compressor.isCompressible(null));
+
+		ReflectionUtil.set(this.compressor, "threshold", 0);
+		assertFalse(this.compressor.isEnabled());
+		assertFalse(this.compressor.isCompressible(ByteBuffer.allocate(1_000)));
+	}
+
+	@Test
+	public void deflate_cached() {
+		final byte[] first = this.compressor.deflate("ID:1", ByteBuffer.allocate(1_000));
+		final byte[] second = this.compressor.deflate("ID:1", ByteBuffer.allocate(1_000));
+		final byte[] uncached = this.compressor.deflate(null, ByteBuffer.allocate(1_000));
+
+		assertSame(first, second);
+		assertNotSame(first, uncached);
+		assertArrayEquals(first, uncached);
+		assertEquals(1, this.compressor.cache().hitCount());
+		assertEquals(1, this.compressor.cache().missCount());
+	}
+
+	@Test
+	public void deflate_frame() {
+		final Frame small = Frame.message("/topic/foo", "sub-0", "ID:1", MediaType.TEXT_PLAIN_TYPE, "small").build();
+		assertSame(small, this.compressor.deflate(small, "ID:1"));
+
+		final Frame large = Frame.message("/topic/foo", "sub-0", "ID:2", MediaType.TEXT_PLAIN_TYPE, new String(new char[1_000])).build();
+		final Frame actual = this.compressor.deflate(large, "ID:2");
+		assertTrue(Compression.isDeflated(actual));
+		assertArrayEquals(new byte[1_000], Compression.inflate(actual.getBody()));
+	}
+}
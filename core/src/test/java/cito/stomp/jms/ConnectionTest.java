@@ -17,6 +17,7 @@ package cito.stomp.jms;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -57,6 +58,7 @@ import cito.ReflectionUtil;
 import cito.event.Message;
 import cito.server.SecurityContext;
 import cito.stomp.Command;
+import cito.stomp.Delta;
 import cito.stomp.Frame;
 import cito.stomp.Header.Standard;
 import cito.stomp.HeartBeatMonitor;
@@ -365,6 +367,20 @@ public class ConnectionTest {
 		verify(this.log).info("Message received. [sessionId={},command={}]", "ABC123", Command.SUBSCRIBE);
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void on_SUBSCRIBE_resync() {
+		final Subscription subscription = mock(Subscription.class);
+		final Map<String, Subscription> subscriptions = ReflectionUtil.get(this.connection, "subscriptions", Map.class);
+		subscriptions.put("1", subscription);
+
+		this.connection.on(new Message("ABC123", Delta.resync("1", "/dest").build()));
+
+		assertSame(subscription, subscriptions.get("1"));
+		verify(subscription).resync();
+		verify(this.log).info("Message received. [sessionId={},command={}]", "ABC123", Command.SUBSCRIBE);
+	}
+
 	@Test
 	@SuppressWarnings("unchecked")
 	public void on_UNSUBSCRIBE() {
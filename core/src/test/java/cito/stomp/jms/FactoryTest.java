@@ -15,6 +15,7 @@
  */
 package cito.stomp.jms;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.Assert.assertEquals;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -23,14 +24,17 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.util.Collections;
 
+import javax.enterprise.inject.Instance;
 import javax.jms.BytesMessage;
 import javax.jms.JMSException;
 import javax.jms.Queue;
 import javax.jms.TextMessage;
 import javax.jms.Topic;
+import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.MultivaluedHashMap;
 
 import org.junit.Before;
@@ -39,6 +43,7 @@ import org.junit.runner.RunWith;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import cito.ReflectionUtil;
+import cito.io.ByteBufferInputStream;
 import cito.stomp.Frame;
 import cito.stomp.Header;
 import cito.stomp.Header.Standard;
@@ -68,6 +73,7 @@ public class FactoryTest {
 
 		final Session session = this.factory.toSession(conn, false, javax.jms.Session.AUTO_ACKNOWLEDGE);
 		assertEquals(jmsSession, ReflectionUtil.get(session, "delegate"));
+		assertEquals(javax.jms.Session.AUTO_ACKNOWLEDGE, session.getAcknowledgeMode());
 
 		verify(conn).getDelegate();
 		verify(jmsConn).createSession(false, javax.jms.Session.AUTO_ACKNOWLEDGE);
@@ -162,6 +168,61 @@ public class FactoryTest {
 	}
 
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void toMessage_bytes_transfer() throws JMSException {
+		final BodyTransfer transfer = mock(BodyTransfer.class);
+		final Instance<BodyTransfer> transfers = mock(Instance.class);
+		when(transfers.iterator()).thenReturn(Collections.singleton(transfer).iterator());
+		this.factory.init(transfers);
+
+		final javax.jms.Session session = mock(javax.jms.Session.class);
+		final Frame frame = mock(Frame.class);
+		final ByteBuffer buffer = ByteBuffer.wrap(new byte[0]).asReadOnlyBuffer();
+		when(frame.getBody()).thenReturn(buffer);
+		when(frame.getHeaders()).thenReturn(new MultivaluedHashMap<>());
+		when(frame.contains(Standard.CONTENT_LENGTH)).thenReturn(true);
+		final BytesMessage message = mock(BytesMessage.class);
+		when(session.createBytesMessage()).thenReturn(message);
+		when(transfer.supports(message)).thenReturn(true);
+
+		this.factory.toMessage(session, frame);
+
+		verify(transfers).iterator();
+		verify(frame).getBody();
+		verify(frame, times(2)).getHeaders();
+		verify(frame).contains(Standard.CONTENT_LENGTH);
+		verify(session).createBytesMessage();
+		verify(transfer).supports(message);
+		verify(transfer).write(buffer, message);
+		verify(message).setJMSCorrelationID(null);
+		verifyNoMoreInteractions(transfers, transfer, session, frame, message);
+	}
+
+	@Test
+	public void toMessage_bodyUnchanged() throws JMSException, IOException {
+		final javax.jms.Session session = mock(javax.jms.Session.class);
+		final BytesMessage bytesMessage = mock(BytesMessage.class);
+		when(session.createBytesMessage()).thenReturn(bytesMessage);
+		final TextMessage textMessage = mock(TextMessage.class);
+		when(session.createTextMessage("{\"name\":\"Fred\"}")).thenReturn(textMessage);
+		final Frame bytes = Frame.send("/foo", MediaType.APPLICATION_JSON_TYPE, "{\"name\":\"Fred\"}").build();
+		final Frame text = Frame.builder(bytes).remove(Standard.CONTENT_LENGTH).build();
+
+		this.factory.toMessage(session, bytes);
+		this.factory.toMessage(session, text);
+
+		// as read for @Body injection once the relay has passed it to the broker
+		for (Frame frame : new Frame[] { bytes, text }) {
+			try (InputStream is = new ByteBufferInputStream(frame.getBody().duplicate())) {
+				final byte[] body = new byte[64];
+				assertEquals(15, is.read(body));
+				assertEquals("{\"name\":\"Fred\"}", new String(body, 0, 15, UTF_8));
+			}
+		}
+		verify(bytesMessage).writeBytes("{\"name\":\"Fred\"}".getBytes(UTF_8));
+	}
+
 	@Test
 	public void toFrame_textMessage() throws IOException, JMSException {
 		final TextMessage message = mock(TextMessage.class);
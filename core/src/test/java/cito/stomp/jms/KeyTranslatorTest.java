@@ -0,0 +1,64 @@
+/*
+ * Copyright 2016-2017 Daniel Siviter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cito.stomp.jms;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import cito.stomp.Header;
+import cito.stomp.Header.Custom;
+import cito.stomp.Header.Standard;
+
+/**
+ * Unit tests for {@link KeyTranslator}.
+ * 
+ * @author Daniel Siviter
+ * @since v1.0 [19 Oct 2026]
+ */
+public class KeyTranslatorTest {
+	@Test
+	public void precomputed() {
+		final long misses = KeyTranslator.missCount();
+
+		assertEquals("content_HYPHEN_type", KeyTranslator.toJms(Standard.CONTENT_TYPE));
+		assertSame(Standard.CONTENT_TYPE, KeyTranslator.toStomp("content_HYPHEN_type"));
+		assertEquals("selector", KeyTranslator.toJms(Custom.SELECTOR));
+		assertSame(Custom.SELECTOR, KeyTranslator.toStomp("selector"));
+
+		assertEquals(misses, KeyTranslator.missCount());
+	}
+
+	@Test
+	public void precomputed_priority() {
+		assertSame(Standard.PRIORITY, KeyTranslator.toStomp("priority"));
+	}
+
+	@Test
+	public void cached() {
+		final Header header = Header.valueOf("x-other.key");
+		assertEquals("x_HYPHEN_other_DOT_key", KeyTranslator.toJms(header));
+		final long hits = KeyTranslator.hitCount();
+		assertEquals("x_HYPHEN_other_DOT_key", KeyTranslator.toJms(header));
+		assertEquals(header, KeyTranslator.toStomp("x_HYPHEN_other_DOT_key"));
+		assertEquals(header, KeyTranslator.toStomp("x_HYPHEN_other_DOT_key"));
+
+		assertTrue(KeyTranslator.hitCount() >= hits + 2);
+		assertTrue(KeyTranslator.hitRate() > 0);
+	}
+}
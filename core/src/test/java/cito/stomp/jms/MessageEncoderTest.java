@@ -0,0 +1,136 @@
+/*
+ * Copyright 2016-2017 Daniel Siviter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cito.stomp.jms;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+
+import javax.jms.BytesMessage;
+import javax.jms.JMSException;
+import javax.jms.Queue;
+import javax.jms.TextMessage;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import cito.ReflectionUtil;
+import cito.stomp.Compression;
+
+/**
+ * Unit tests for {@link MessageEncoder}.
+ * 
+ * @author Daniel Siviter
+ * @since v1.0 [19 Oct 2026]
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class MessageEncoderTest {
+	@Mock
+	private Factory factory;
+
+	@InjectMocks
+	private MessageEncoder encoder;
+
+	@Test
+	public void encode_textMessage() throws JMSException {
+		final TextMessage message = mock(TextMessage.class);
+		final Queue queue = mock(Queue.class);
+		when(message.getJMSDestination()).thenReturn(queue);
+		when(this.factory.fromDestination(queue)).thenReturn("/queue/foo");
+		when(message.getJMSMessageID()).thenReturn("ID:123");
+		when(message.getJMSPriority()).thenReturn(4);
+		when(message.getPropertyNames()).thenReturn(Collections.enumeration(Collections.singleton("my_HYPHEN_key")));
+		when(message.getStringProperty("my_HYPHEN_key")).thenReturn("value");
+		when(message.getText()).thenReturn("hello");
+
+		final ByteBuffer actual = this.encoder.encode(message, "sub-0");
+
+		assertEquals(
+				"MESSAGE\nsubscription:sub-0\ndestination:/queue/foo\nmessage-id:ID:123\nexpires:0\npriority:4\n" +
+				"timestamp:0\nmy-key:value\ncontent-length:5\n\nhello\u0000",
+				UTF_8.decode(actual).toString());
+
+		verify(this.factory).fromDestination(queue);
+		verify(message).getText();
+		verify(message).getJMSDestination();
+		verify(message).getJMSMessageID();
+		verify(message).getJMSCorrelationID();
+		verify(message).getJMSExpiration();
+		verify(message).getJMSRedelivered();
+		verify(message).getJMSPriority();
+		verify(message).getJMSReplyTo();
+		verify(message).getJMSTimestamp();
+		verify(message).getJMSType();
+		verify(message).getPropertyNames();
+		verify(message).getStringProperty("my_HYPHEN_key");
+		verifyNoMoreInteractions(message, queue);
+	}
+
+	@Test
+	public void encode_bytesMessage_large() throws JMSException {
+		final BytesMessage message = mock(BytesMessage.class);
+		when(message.getPropertyNames()).thenReturn(Collections.emptyEnumeration());
+		when(this.factory.readBody(message)).thenReturn(ByteBuffer.allocate(20_000));
+
+		final ByteBuffer actual = this.encoder.encode(message, "sub-0");
+
+		final String frame = UTF_8.decode(actual).toString();
+		assertEquals(true, frame.contains("\ncontent-length:20000\n\n"));
+		assertEquals('\u0000', frame.charAt(frame.length() - 1));
+
+		verify(this.factory).fromDestination(null);
+		verify(this.factory).readBody(message);
+	}
+
+	@Test
+	public void encode_compressed() throws JMSException {
+		final BytesMessage message = mock(BytesMessage.class);
+		when(message.getJMSMessageID()).thenReturn("ID:123");
+		when(message.getPropertyNames()).thenReturn(Collections.emptyEnumeration());
+		when(this.factory.readBody(message)).thenReturn(ByteBuffer.allocate(20_000));
+		final BodyCompressor compressor = new BodyCompressor();
+		ReflectionUtil.set(compressor, "threshold", 1_024);
+
+		final ByteBuffer actual = this.encoder.encode(message, "sub-0", compressor);
+
+		final String frame = new String(actual.array(), 0, actual.limit(), UTF_8);
+		final int bodyStart = frame.indexOf("\n\n") + 2;
+		final ByteBuffer body = ByteBuffer.wrap(actual.array(), bodyStart, actual.limit() - bodyStart - 1);
+		assertEquals(true, frame.contains("\ncontent-encoding:deflate\n"));
+		assertEquals(true, frame.contains("\ncontent-length:" + body.remaining() + "\n\n"));
+		assertArrayEquals(new byte[20_000], Compression.inflate(body));
+		assertEquals(1, compressor.cache().size());
+
+		verify(this.factory).fromDestination(null);
+		verify(this.factory).readBody(message);
+	}
+
+	@After
+	public void after() {
+		verifyNoMoreInteractions(this.factory);
+	}
+}
@@ -46,7 +46,7 @@ import cito.ReflectionUtil;
 import cito.event.Message;
 import cito.server.SecurityContext;
 import cito.server.SessionRegistry;
-import cito.server.security.SecurityRegistry;
+import cito.server.security.DecisionCache;
 import cito.stomp.Command;
 import cito.stomp.Frame;
 import cito.stomp.Header.Standard;
@@ -68,7 +68,7 @@ public class RelayTest {
 	@Mock
 	private ErrorHandler errorHandler;
 	@Mock
-	private SecurityRegistry securityRegistry;
+	private DecisionCache decisionCache;
 	@Mock
 	private Provider<SecurityContext> securityCtxProvider;
 	@Mock
@@ -87,7 +87,7 @@ public class RelayTest {
 	public void before() {
 		when(this.connectionInstance.get()).thenReturn(this.connection);
 		when(this.securityCtxProvider.get()).thenReturn(this.securityCtx);
-		when(this.securityRegistry.isPermitted(any(Frame.class), eq(this.securityCtx))).thenReturn(true);
+		when(this.decisionCache.isPermitted(any(Frame.class), eq(this.securityCtx))).thenReturn(true);
 	}
 
 	@Test
@@ -98,7 +98,7 @@ public class RelayTest {
 
 		verify(this.log).debug("Message from client. [sessionId={},command={}]", "sessionId", Command.CONNECT);
 		verify(this.securityCtxProvider).get();
-		verify(this.securityRegistry).isPermitted(frame, this.securityCtx);
+		verify(this.decisionCache).isPermitted(frame, this.securityCtx);
 		verify(this.log).info("CONNECT/STOMP recieved. Opening connection to broker. [sessionId={}]", "sessionId");
 		verify(this.connectionInstance).get();
 		verify(this.connection).connect(msg);
@@ -112,7 +112,7 @@ public class RelayTest {
 
 		verify(this.log).debug("Message from client. [sessionId={},command={}]", "sessionId", Command.STOMP);
 		verify(this.securityCtxProvider).get();
-		verify(this.securityRegistry).isPermitted(frame, this.securityCtx);
+		verify(this.decisionCache).isPermitted(frame, this.securityCtx);
 		verify(this.log).info("CONNECT/STOMP recieved. Opening connection to broker. [sessionId={}]", "sessionId");
 		verify(this.connectionInstance).get();
 		verify(this.connection).connect(msg);
@@ -132,7 +132,7 @@ public class RelayTest {
 
 		verify(this.log).debug("Message from client. [sessionId={},command={}]", "sessionId", Command.DISCONNECT);
 		verify(this.securityCtxProvider).get();
-		verify(this.securityRegistry).isPermitted(frame, this.securityCtx);
+		verify(this.decisionCache).isPermitted(frame, this.securityCtx);
 		verify(this.log).info("DISCONNECT recieved. Closing connection to broker. [sessionId={}]", "sessionId");
 		verify(this.log).info("Destroying JMS connection. [{}]", "sessionId");
 		verify(this.connectionInstance).destroy(this.connection);
@@ -166,7 +166,7 @@ public class RelayTest {
 				this.messageEvent,
 				this.sessionRegistry,
 				this.errorHandler,
-				this.securityRegistry,
+				this.decisionCache,
 				this.securityCtxProvider,
 				this.securityCtx,
 				this.connectionInstance,
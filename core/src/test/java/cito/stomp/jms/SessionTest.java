@@ -15,12 +15,18 @@
  */
 package cito.stomp.jms;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
 
 import javax.jms.Destination;
 import javax.jms.JMSException;
@@ -58,7 +64,7 @@ public class SessionTest {
 
 	@Before
 	public void before() {
-		this.session = new Session(this.conn, this.delegate, factory);
+		this.session = new Session(this.conn, this.delegate, factory, javax.jms.Session.AUTO_ACKNOWLEDGE);
 	}
 
 	@Test
@@ -81,44 +87,103 @@ public class SessionTest {
 	}
 
 	@Test
-	public void send_message() throws JMSException, IOException {
+	public void send_frames() throws JMSException {
+		this.session = new Session(this.conn, this.delegate, factory, javax.jms.Session.SESSION_TRANSACTED);
+		ReflectionUtil.set(this.session, "producer", this.producer);
+		final Frame frame0 = mock(Frame.class);
+		when(frame0.destination()).thenReturn("/here");
+		final Frame frame1 = mock(Frame.class);
+		when(frame1.destination()).thenReturn("/here");
+		final Message message0 = mock(Message.class);
+		when(this.factory.toMessage(this.delegate, frame0)).thenReturn(message0);
+		final Message message1 = mock(Message.class);
+		when(this.factory.toMessage(this.delegate, frame1)).thenReturn(message1);
+		final Destination destination = mock(Destination.class);
+		when(this.factory.toDestination(this.delegate, "/here")).thenReturn(destination);
+
+		this.session.sendToBroker(Arrays.asList(frame0, frame1));
+
+		verify(frame0).destination();
+		verify(frame1).destination();
+		verify(this.factory).toMessage(this.delegate, frame0);
+		verify(this.factory).toMessage(this.delegate, frame1);
+		verify(this.factory, times(2)).toDestination(this.delegate, "/here");
+		verify(this.producer).send(destination, message0);
+		verify(this.producer).send(destination, message1);
+		verify(this.delegate).commit();
+		verifyNoMoreInteractions(frame0, frame1, message0, message1, destination);
+	}
+
+	@Test
+	public void send_frames_rollback() throws JMSException {
+		this.session = new Session(this.conn, this.delegate, factory, javax.jms.Session.SESSION_TRANSACTED);
 		ReflectionUtil.set(this.session, "producer", this.producer);
 		final Frame frame = mock(Frame.class);
+		final JMSException expected = new JMSException("Bang!");
+		when(this.factory.toMessage(this.delegate, frame)).thenThrow(expected);
+
+		try {
+			this.session.sendToBroker(Collections.singletonList(frame));
+			fail("JMSException expected!");
+		} catch (JMSException e) {
+			assertSame(expected, e);
+		}
+
+		verify(this.factory).toMessage(this.delegate, frame);
+		verify(this.delegate).rollback();
+		verifyNoMoreInteractions(frame);
+	}
+
+	@Test
+	public void send_message() throws JMSException, IOException {
+		ReflectionUtil.set(this.session, "producer", this.producer);
 		final Message message = mock(Message.class);
-		when(this.factory.toFrame(message, "subscriptionId")).thenReturn(frame);
-		when(this.delegate.getAcknowledgeMode()).thenReturn(javax.jms.Session.AUTO_ACKNOWLEDGE);
 		final Subscription subscription = mock(Subscription.class);
 		when(subscription.getSubscriptionId()).thenReturn("subscriptionId");
 
 		this.session.send(message, subscription);
 
-		verify(this.delegate).getAcknowledgeMode();
 		verify(subscription).getSubscriptionId();
-		verify(this.factory).toFrame(message, "subscriptionId");
-		verify(this.conn).sendToClient(frame);
+		verify(this.conn).sendToClient(message, "subscriptionId");
 		verifyNoMoreInteractions(message, subscription, message);
 	}
 
 	@Test
 	public void send_message_ack() throws JMSException, IOException {
+		this.session = new Session(this.conn, this.delegate, factory, javax.jms.Session.CLIENT_ACKNOWLEDGE);
 		ReflectionUtil.set(this.session, "producer", this.producer);
-		final Frame frame = mock(Frame.class);
 		final Message message = mock(Message.class);
-		when(this.factory.toFrame(message, "subscriptionId")).thenReturn(frame);
-		when(this.delegate.getAcknowledgeMode()).thenReturn(javax.jms.Session.CLIENT_ACKNOWLEDGE);
 		final Subscription subscription = mock(Subscription.class);
 		when(subscription.getSubscriptionId()).thenReturn("subscriptionId");
 
 		this.session.send(message, subscription);
 
-		verify(this.delegate).getAcknowledgeMode();
 		verify(this.conn).addAckMessage(message);
 		verify(subscription).getSubscriptionId();
-		verify(this.factory).toFrame(message, "subscriptionId");
-		verify(this.conn).sendToClient(frame);
+		verify(this.conn).sendToClient(message, "subscriptionId");
 		verifyNoMoreInteractions(message, subscription, message);
 	}
 
+	@Test
+	public void send_message_systemConnection() throws JMSException, IOException {
+		final SystemConnection conn = mock(SystemConnection.class);
+		this.session = new Session(conn, this.delegate, factory, javax.jms.Session.AUTO_ACKNOWLEDGE);
+		final Message message = mock(Message.class);
+		final Subscription subscription = mock(Subscription.class);
+		when(subscription.getSubscriptionId()).thenReturn("subscriptionId");
+
+		this.session.send(message, subscription);
+
+		verify(subscription).getSubscriptionId();
+		verify(conn).sendToClient(message, "subscriptionId");
+		verifyNoMoreInteractions(conn, message, subscription);
+	}
+
+	@Test
+	public void getAcknowledgeMode() {
+		assertEquals(javax.jms.Session.AUTO_ACKNOWLEDGE, this.session.getAcknowledgeMode());
+	}
+
 	@After
 	public void after() {
 		verifyNoMoreInteractions(this.conn, this.delegate, this.factory, this.producer);
@@ -15,8 +15,15 @@
  */
 package cito.stomp.jms;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -28,6 +35,7 @@ import javax.jms.Destination;
 import javax.jms.JMSException;
 import javax.jms.Message;
 import javax.jms.MessageConsumer;
+import javax.ws.rs.core.MediaType;
 
 import org.junit.After;
 import org.junit.Before;
@@ -36,7 +44,9 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import cito.stomp.Delta;
 import cito.stomp.Frame;
+import cito.stomp.Header.Custom;
 
 /**
  * Unit test for {@link Subscription}.
@@ -73,10 +83,47 @@ public class SubscriptionTest {
 		this.subscription.onMessage(message);
 
 		verify(this.session).send(message, this.subscription);
-		verify(this.session).getAcknowledgeMode();
 		verifyNoMoreInteractions(message);
 	}
 
+	@Test
+	public void delta_notRequested() {
+		final Frame frame = message("{\"name\":\"Fred Flintstone\",\"town\":\"Bedrock\"}");
+
+		assertFalse(this.subscription.isDelta());
+		assertSame(frame, this.subscription.delta(frame));
+	}
+
+	@Test
+	public void delta() throws JMSException {
+		deltaSubscription();
+		final String body = "{\"name\":\"Fred Flintstone\",\"town\":\"Bedrock\",\"price\":12.50}";
+
+		final Frame first = this.subscription.delta(message(body));
+		final Frame second = this.subscription.delta(message(body.replace("12.50", "12.75")));
+		final Frame third = this.subscription.delta(message(body.replace("12.50", "13.00")));
+
+		assertTrue(this.subscription.isDelta());
+		assertEquals(Delta.SNAPSHOT, first.getFirst(Custom.DELTA));
+		assertEquals(Delta.PATCH, second.getFirst(Custom.DELTA));
+		assertTrue(Delta.isBase(second, body.getBytes(UTF_8)));
+		assertArrayEquals(body.replace("12.50", "12.75").getBytes(UTF_8),
+				Delta.apply(body.getBytes(UTF_8), second.getBody()));
+		assertEquals(Delta.SNAPSHOT, third.getFirst(Custom.DELTA)); // snapshot interval reached
+	}
+
+	@Test
+	public void delta_resync() throws JMSException {
+		deltaSubscription();
+		final String body = "{\"name\":\"Fred Flintstone\",\"town\":\"Bedrock\",\"price\":12.50}";
+
+		this.subscription.delta(message(body));
+		this.subscription.resync();
+		final Frame second = this.subscription.delta(message(body.replace("12.50", "12.75")));
+
+		assertEquals(Delta.SNAPSHOT, second.getFirst(Custom.DELTA));
+	}
+
 	@Test
 	public void close() throws JMSException {
 		this.subscription.close();
@@ -84,6 +131,26 @@ public class SubscriptionTest {
 		verify(this.messageConsumer).close();
 	}
 
+	/**
+	 * Replaces the subscription with one requesting delta encoding and a snapshot interval of 2.
+	 * 
+	 * @throws JMSException
+	 */
+	private void deltaSubscription() throws JMSException {
+		clearInvocations(this.session, this.connection, this.messageConsumer);
+		final Frame frame = Frame.subscribe("id", "/foo").header(Custom.DELTA, "true").build();
+		this.subscription = new Subscription(this.session, "id", frame, 2);
+	}
+
+	/**
+	 * 
+	 * @param body
+	 * @return
+	 */
+	private static Frame message(String body) {
+		return Frame.message("/foo", "id", "123", MediaType.APPLICATION_JSON_TYPE, body).build();
+	}
+
 	@After
 	public void after() throws JMSException {
 		verify(this.session).toDestination(eq("/foo"));
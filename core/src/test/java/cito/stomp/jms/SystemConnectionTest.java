@@ -17,16 +17,23 @@
 package cito.stomp.jms;
 
 import static cito.stomp.jms.SystemConnection.SESSION_ID;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.io.IOException;
+import java.util.Collections;
+
 import javax.enterprise.context.ApplicationScoped;
 import javax.jms.Connection;
 import javax.jms.ConnectionFactory;
 import javax.jms.JMSException;
+import javax.websocket.CloseReason;
+import javax.websocket.CloseReason.CloseCodes;
 
 import org.junit.After;
 import org.junit.Rule;
@@ -39,6 +46,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 import org.slf4j.Logger;
 
 import cito.ReflectionUtil;
+import cito.event.Batch;
 import cito.event.Message;
 import cito.stomp.Frame;
 
@@ -74,6 +82,7 @@ public class SystemConnectionTest {
 
 		this.connection.init();
 
+		assertEquals(1, this.connection.getSessionCount());
 		verify(this.connectionFactory).createConnection(SESSION_ID, null);
 		verify(this.log).info("Starting JMS connection... [sessionId={}]", SESSION_ID);
 		verify(jmsConnection).setClientID(SESSION_ID);
@@ -91,23 +100,77 @@ public class SystemConnectionTest {
 
 	@Test
 	public void on_message() throws JMSException {
+		init(1);
 		final Message msg = mock(Message.class);
 		final Session session = mock(Session.class);
 		when(this.factory.toSession(this.connection, false, javax.jms.Session.AUTO_ACKNOWLEDGE)).thenReturn(session);
 		when(msg.sessionId()).thenReturn(SESSION_ID);
 		final Frame frame = mock(Frame.class);
 		when(msg.frame()).thenReturn(frame);
+		when(frame.destination()).thenReturn("/topic/a");
 
 		this.connection.on(msg);
 
+		assertEquals(1, this.connection.sentCount(0));
 		verify(this.factory).toSession(this.connection, false, javax.jms.Session.AUTO_ACKNOWLEDGE);
 		verify(msg).sessionId();
 		verify(this.log).debug("Message event. [sessionId={}]", SESSION_ID);
 		verify(session).sendToBroker(frame);
-		verify(msg).frame();
+		verify(msg, times(2)).frame();
+		verify(frame).destination();
 		verifyNoMoreInteractions(msg, session, frame);
 	}
 
+	@Test
+	public void on_message_pooled() throws JMSException {
+		init(2);
+		final Session session0 = mock(Session.class);
+		final Session session1 = mock(Session.class);
+		when(this.factory.toSession(this.connection, false, javax.jms.Session.AUTO_ACKNOWLEDGE)).thenReturn(session0, session1);
+		final Frame frameA = Frame.send("a", null, "A").build();
+		final Frame frameB = Frame.send("b", null, "B").build();
+
+		this.connection.on(new Message(frameA));
+		this.connection.on(new Message(frameB));
+		this.connection.on(new Message(frameA));
+
+		assertEquals(2, this.connection.getSessionCount());
+		assertEquals(1, this.connection.sentCount(0));
+		assertEquals(2, this.connection.sentCount(1));
+		verify(this.factory, times(2)).toSession(this.connection, false, javax.jms.Session.AUTO_ACKNOWLEDGE);
+		verify(this.log, times(3)).debug("Message event. [sessionId={}]", (Object) null);
+		verify(session0, times(2)).sendToBroker(frameA);
+		verify(session1).sendToBroker(frameB);
+		verifyNoMoreInteractions(session0, session1);
+	}
+
+	@Test
+	public void close() throws IOException, JMSException {
+		final Connection jmsConnection = init(1);
+
+		this.connection.close(new CloseReason(CloseCodes.NORMAL_CLOSURE, "bye"));
+
+		verify(this.log).info("System session. [index={},sent={},time={}ms]", 0, 0L, 0L);
+		verify(this.log).info("Closing connection. [sessionId={},code={},reason={}]", SESSION_ID, 1000, "bye");
+		verify(jmsConnection).close();
+	}
+
+	@Test
+	public void on_batch() throws JMSException {
+		final Session session = mock(Session.class);
+		when(this.factory.toSession(this.connection, true, javax.jms.Session.SESSION_TRANSACTED)).thenReturn(session);
+		final Frame frame = mock(Frame.class);
+		final Batch batch = new Batch(Collections.singletonList(frame));
+
+		this.connection.on(batch);
+		this.connection.on(batch);
+
+		verify(this.factory).toSession(this.connection, true, javax.jms.Session.SESSION_TRANSACTED);
+		verify(this.log, times(2)).debug("Batch event. [size={}]", 1);
+		verify(session, times(2)).sendToBroker(batch.frames());
+		verifyNoMoreInteractions(session, frame);
+	}
+
 	@Test
 	public void on_message_incorrectSessionId() throws JMSException {
 		this.expectedException.expect(IllegalArgumentException.class);
@@ -128,4 +191,20 @@ public class SystemConnectionTest {
 	public void after() {
 		verifyNoMoreInteractions(this.log, this.connectionFactory);
 	}
+
+	/**
+	 * 
+	 * @param sessions
+	 * @return the JMS connection.
+	 * @throws JMSException
+	 */
+	private Connection init(int sessions) throws JMSException {
+		ReflectionUtil.set(this.connection, "sessions", sessions);
+		final Connection jmsConnection = mock(Connection.class);
+		when(this.connectionFactory.createConnection(SESSION_ID, null)).thenReturn(jmsConnection);
+		this.connection.init();
+		verify(this.connectionFactory).createConnection(SESSION_ID, null);
+		verify(this.log).info("Starting JMS connection... [sessionId={}]", SESSION_ID);
+		return jmsConnection;
+	}
 }
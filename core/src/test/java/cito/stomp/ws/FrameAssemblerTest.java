@@ -0,0 +1,80 @@
+/*
+
+ * Copyright 2016-2017 Daniel Siviter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+package cito.stomp.ws;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import cito.stomp.Command;
+import cito.stomp.Frame;
+import cito.stomp.Header.Standard;
+
+/**
+ * Unit test for {@link FrameAssembler}.
+ * 
+ * @author Daniel Siviter
+ * @since v1.0 [19 Oct 2026]
+ */
+public class FrameAssemblerTest {
+	private final List<Frame> frames = new ArrayList<>();
+
+	private FrameAssembler assembler;
+
+	@Before
+	public void before() {
+		this.assembler = new FrameAssembler(this.frames::add, 64);
+	}
+
+	@Test
+	public void onMessage_memory() {
+		this.assembler.onMessage(UTF_8.encode("SEND\ndestination:/queue/a\n"), false);
+		this.assembler.onMessage(UTF_8.encode("content-length:4\n\nbody\u0000"), true);
+
+		assertEquals(1, this.frames.size());
+		final Frame frame = this.frames.get(0);
+		assertEquals(Command.SEND, frame.getCommand());
+		assertEquals("/queue/a", frame.destination());
+		assertEquals("body", UTF_8.decode(frame.getBody()).toString());
+	}
+
+	@Test
+	public void onMessage_spooled() {
+		final StringBuilder body = new StringBuilder();
+		for (int i = 0; i < 1_000; i++) {
+			body.append(i % 10);
+		}
+		this.assembler.onMessage(UTF_8.encode("SEND\ndestination:/queue/a\ncontent-length:1000\n\n"), false);
+		this.assembler.onMessage(UTF_8.encode(body.substring(0, 500)), false);
+		this.assembler.onMessage(UTF_8.encode(body.substring(500) + '\u0000'), true);
+
+		assertEquals(1, this.frames.size());
+		final Frame frame = this.frames.get(0);
+		assertEquals(Command.SEND, frame.getCommand());
+		assertEquals("1000", frame.getFirst(Standard.CONTENT_LENGTH));
+		assertEquals(body.toString(), UTF_8.decode(frame.getBody()).toString());
+
+		// ensure state is reset
+		this.assembler.onMessage(ByteBuffer.wrap(new byte[] { '\n' }), true);
+		assertEquals(Frame.HEART_BEAT, this.frames.get(1));
+	}
+}
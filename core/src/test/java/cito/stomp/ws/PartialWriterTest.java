@@ -0,0 +1,110 @@
+/*
+
+ * Copyright 2016-2017 Daniel Siviter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+package cito.stomp.ws;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.websocket.RemoteEndpoint;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+/**
+ * Unit test for {@link PartialWriter}.
+ * 
+ * @author Daniel Siviter
+ * @since v1.0 [19 Oct 2026]
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class PartialWriterTest {
+	@Mock
+	private RemoteEndpoint.Basic remote;
+
+	@Test
+	public void write() throws IOException {
+		final List<String> parts = new ArrayList<>();
+		doAnswer(inv -> {
+			final ByteBuffer buf = inv.getArgument(0);
+			parts.add(new String(buf.array(), buf.position(), buf.remaining()) + ((Boolean) inv.getArgument(1) ? "|" : ""));
+			return null;
+		}).when(this.remote).sendBinary(any(), anyBoolean());
+
+		try (PartialWriter writer = new PartialWriter(this.remote, 4)) {
+			writer.write(ByteBuffer.wrap("hello".getBytes())).write("world".getBytes(), 0, 5).write((byte) '!');
+		}
+
+		assertEquals(3, parts.size());
+		assertEquals("hell", parts.get(0));
+		assertEquals("owor", parts.get(1));
+		assertEquals("ld!|", parts.get(2));
+		verify(this.remote, times(3)).sendBinary(any(), anyBoolean());
+		verifyNoMoreInteractions(this.remote);
+	}
+
+	@Test
+	public void close_onClose() throws IOException {
+		final IOException expected = new IOException();
+		doThrow(expected).when(this.remote).sendBinary(any(), anyBoolean());
+		final AtomicBoolean closed = new AtomicBoolean();
+
+		try (PartialWriter writer = new PartialWriter(this.remote, 4, () -> closed.set(true))) {
+			writer.write((byte) '!');
+			fail("IOException expected!");
+		} catch (IOException e) {
+			assertSame(expected, e);
+		}
+
+		assertTrue(closed.get());
+		verify(this.remote).sendBinary(any(), eq(true));
+		verifyNoMoreInteractions(this.remote);
+	}
+
+	@Test
+	public void abort() throws IOException {
+		final List<String> calls = new ArrayList<>();
+
+		try (PartialWriter writer = new PartialWriter(this.remote, 4, () -> calls.add("close"), () -> calls.add("abort"))) {
+			writer.write("hello".getBytes(), 0, 5);
+			writer.abort();
+		}
+
+		assertEquals(2, calls.size());
+		assertEquals("abort", calls.get(0));
+		assertEquals("close", calls.get(1));
+		// the first chunk was sent, but not the final partial
+		verify(this.remote).sendBinary(any(), eq(false));
+		verifyNoMoreInteractions(this.remote);
+	}
+}
@@ -31,7 +31,7 @@ import cito.stomp.ws.FrameEncoder;
 		value = "/websocket",
 		subprotocols = { "v10.stomp", "v11.stomp", "v12.stomp" },
 		encoders = FrameEncoder.class,
-		decoders = FrameDecoder.class,
+		decoders = FrameDecoder.Text.class,
 		configurator = WebSocketConfigurator.class
 )
 public class Endpoint extends AbstractEndpoint { }